@@ -0,0 +1,43 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.bitcoin.json.conversion;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+
+import java.io.IOException;
+
+/**
+ * Deserializes a hex-encoded binary field as a hex {@link String}. Raw bytes (as written by {@link ScriptSerializer}
+ * for binary formats such as CBOR) are converted to hex, so the field binds the same way for JSON and CBOR.
+ */
+public class HexStringDeserializer extends JsonDeserializer<String> {
+    @Override
+    public String deserialize(JsonParser p, DeserializationContext ctxt) throws IOException, JsonProcessingException {
+        JsonToken token = p.getCurrentToken();
+        switch (token) {
+            case VALUE_STRING:
+                return p.getValueAsString();
+            case VALUE_EMBEDDED_OBJECT:
+                return HexUtil.bytesToHexString(p.getBinaryValue());
+            default:
+                return (String) ctxt.handleUnexpectedToken(String.class, p);
+        }
+    }
+}
@@ -25,11 +25,16 @@ import org.bitcoinj.script.Script;
 import java.io.IOException;
 
 /**
- *
+ * Serialize a script program as a hex-encoded binary string, or as raw bytes for binary formats (e.g. CBOR)
+ * that support them. Clients read either form with {@link HexStringDeserializer}.
  */
 public class ScriptSerializer extends JsonSerializer<Script>  {
     @Override
     public void serialize(Script script, JsonGenerator gen, SerializerProvider serializers) throws IOException, JsonProcessingException {
-        gen.writeString(HexUtil.bytesToHexString(script.program()));
+        if (gen.canWriteBinaryNatively()) {
+            gen.writeBinary(script.program());
+        } else {
+            gen.writeString(HexUtil.bytesToHexString(script.program()));
+        }
     }
 }
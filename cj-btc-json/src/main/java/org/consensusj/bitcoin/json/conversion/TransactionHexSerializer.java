@@ -24,7 +24,8 @@ import org.bitcoinj.core.Transaction;
 import java.io.IOException;
 
 /**
- * Serialize a transaction as a hex-encoded binary string.
+ * Serialize a transaction as a hex-encoded binary string. Hex is used for binary formats (e.g. CBOR) too, because
+ * servers receive method parameters untyped and expect the same hex string a JSON request would contain.
  */
 public class TransactionHexSerializer extends JsonSerializer<Transaction> {
     @Override
@@ -17,10 +17,12 @@ package org.consensusj.bitcoin.json.pojo;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import org.bitcoinj.base.Address;
 import org.bitcoinj.base.Coin;
 import org.bitcoinj.base.Sha256Hash;
 import org.bitcoinj.script.Script;
+import org.consensusj.bitcoin.json.conversion.HexStringDeserializer;
 import org.consensusj.bitcoin.json.conversion.HexUtil;
 
 /**
@@ -49,7 +51,7 @@ public class UnspentOutput implements UtxoInfo {
                          @JsonProperty("vout")          int         vout,
                          @JsonProperty("address")       Address     address,
                          @JsonProperty("label")         String      label,
-                         @JsonProperty("scriptPubKey")  String      scriptPubKey,
+                         @JsonProperty("scriptPubKey") @JsonDeserialize(using = HexStringDeserializer.class) String scriptPubKey,
                          @JsonProperty("amount")        Coin        amount,
                          @JsonProperty("confirmations") int         confirmations,
                          @JsonProperty("redeemScript")  String      redeemScript,
@@ -16,10 +16,12 @@
 package org.consensusj.bitcoin.json.pojo.bitcore;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import org.bitcoinj.base.Address;
 import org.bitcoinj.base.Coin;
 import org.bitcoinj.base.Sha256Hash;
 import org.bitcoinj.script.Script;
+import org.consensusj.bitcoin.json.conversion.HexStringDeserializer;
 import org.consensusj.bitcoin.json.conversion.HexUtil;
 
 /**
@@ -37,7 +39,7 @@ public class AddressUtxoInfo {
     public AddressUtxoInfo(@JsonProperty("address")     Address address,
                            @JsonProperty("txid")        Sha256Hash txid,
                            @JsonProperty("outputIndex") int outputIndex,
-                           @JsonProperty("script")      String script,
+                           @JsonProperty("script")      @JsonDeserialize(using = HexStringDeserializer.class) String script,
                            @JsonProperty("satoshis")    long satoshis,
                            @JsonProperty("height")      int height,
                            @JsonProperty("coinbase")    boolean coinbase) {
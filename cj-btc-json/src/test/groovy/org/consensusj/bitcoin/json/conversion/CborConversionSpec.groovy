@@ -0,0 +1,113 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.bitcoin.json.conversion
+
+import com.fasterxml.jackson.core.JsonFactory
+import com.fasterxml.jackson.core.JsonToken
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory
+import org.bitcoinj.base.Address
+import org.bitcoinj.base.BitcoinNetwork
+import org.bitcoinj.base.Coin
+import org.bitcoinj.base.ScriptType
+import org.bitcoinj.base.Sha256Hash
+import org.bitcoinj.core.Block
+import org.bitcoinj.core.NetworkParameters
+import org.bitcoinj.core.Transaction
+import org.bitcoinj.crypto.ECKey
+import org.bitcoinj.script.Script
+import org.bitcoinj.script.ScriptBuilder
+import org.consensusj.bitcoin.json.pojo.UnspentOutput
+import spock.lang.Shared
+
+/**
+ * Script data is written as raw bytes (rather than hex strings) with CBOR and read back by the client module
+ */
+class CborConversionSpec extends BaseObjectMapperSpec {
+    @Shared
+    Block genesis = NetworkParameters.of(BitcoinNetwork.MAINNET).getGenesisBlock()
+
+    def "transaction is written as hex (cbor: #cbor)"() {
+        given:
+        Transaction tx = genesis.transactions.get(0)
+        ObjectMapper m = cbor ? mapper.copyWith(new CBORFactory()) : mapper
+
+        when:
+        def parser = m.createParser(m.writeValueAsBytes(tx))
+        def token = parser.nextToken()
+
+        then:
+        token == JsonToken.VALUE_STRING
+        HexUtil.hexStringToByteArray(parser.text) == tx.serialize()
+
+        where:
+        cbor << [false, true]
+    }
+
+    def "script is written as bytes"() {
+        given:
+        Script script = ScriptBuilder.createOpReturnScript([1, 2, 3] as byte[])
+        ObjectMapper m = mapper.copyWith(new CBORFactory())
+
+        when:
+        def parser = m.createParser(m.writeValueAsBytes(script))
+
+        then:
+        parser.nextToken() == JsonToken.VALUE_EMBEDDED_OBJECT
+        parser.binaryValue == script.program()
+    }
+
+    def "block can be read from hex with CBOR"() {
+        given:
+        ObjectMapper m = mapper.copyWith(new CBORFactory())
+        String blockHex = HexUtil.bytesToHexString(genesis.serialize())
+
+        expect:
+        m.readValue(m.writeValueAsBytes(blockHex), Block.class).hash == genesis.hash
+        mapper.readValue('"' + blockHex + '"', Block.class).hash == genesis.hash
+    }
+
+    def "unspent output written by the server module can be read by the client module (cbor: #cbor)"() {
+        given:
+        ObjectMapper serverMapper = new ObjectMapper(cbor ? new CBORFactory() : new JsonFactory()).registerModule(new RpcServerModule())
+        ObjectMapper clientMapper = new ObjectMapper(cbor ? new CBORFactory() : new JsonFactory()).registerModule(new RpcClientModule())
+        Address address = new ECKey().toAddress(ScriptType.P2WPKH, BitcoinNetwork.REGTEST)
+        UnspentOutput utxo = new UnspentOutput(Sha256Hash.ZERO_HASH, 1, address, "label",
+                HexUtil.bytesToHexString(ScriptBuilder.createOutputScript(address).program()),
+                Coin.COIN, 6, null, null, true, true, null, true)
+
+        when:
+        UnspentOutput result = clientMapper.readValue(serverMapper.writeValueAsBytes(utxo), UnspentOutput.class)
+
+        then:
+        result.txid == utxo.txid
+        result.vout == utxo.vout
+        result.address == address
+        result.scriptPubKey == utxo.scriptPubKey
+        result.amount == Coin.COIN
+        result.confirmations == 6
+
+        where:
+        cbor << [false, true]
+    }
+
+    @Override
+    void configureModule(module) {
+        module.addSerializer(Transaction.class, new TransactionHexSerializer())
+        module.addSerializer(Script.class, new ScriptSerializer())
+        module.addDeserializer(Block.class, new BlockHexDeserializer())
+    }
+}
@@ -47,6 +47,7 @@ import org.consensusj.bitcoin.json.pojo.bitcore.AddressBalanceInfo;
 import org.consensusj.bitcoin.json.pojo.bitcore.AddressRequest;
 import org.consensusj.bitcoin.json.pojo.bitcore.AddressUtxoInfo;
 import org.consensusj.bitcoin.jsonrpc.internal.BitcoinClientThreadFactory;
+import org.consensusj.jsonrpc.ConcurrencyLimiter;
 import org.consensusj.jsonrpc.DefaultRpcClient;
 import org.consensusj.jsonrpc.JsonRpcError;
 import org.consensusj.jsonrpc.JsonRpcErrorException;
@@ -63,6 +64,7 @@ import org.bitcoinj.crypto.ECKey;
 import org.bitcoinj.base.Sha256Hash;
 import org.bitcoinj.core.Transaction;
 import org.consensusj.jsonrpc.JsonRpcTransport;
+import org.consensusj.jsonrpc.RpcExecutors;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -80,6 +82,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -127,8 +131,8 @@ public class BitcoinClient extends DefaultRpcClient implements ChainTipClient {
 
     // Delay between retries in waitForServer and waitForBlock
     private static final Duration RETRY_DELAY = Duration.ofSeconds(5);
-    // Delay between log messages in waitForBlock
-    private static final Duration MESSAGE_DELAY = Duration.ofSeconds(30);
+    // Server-side timeout for each waitforblockheight long-poll in waitForBlockAsync
+    private static final Duration LONG_POLL_TIMEOUT = Duration.ofSeconds(30);
 
     public static final int BITCOIN_CORE_VERSION_MIN = 200000;              // Minimum Bitcoin Core supported (tested) version
     public static final int BITCOIN_CORE_VERSION_DESC_DEFAULT = 230000;     // Bitcoin Core version that DEFAULTS to descriptor wallets
@@ -139,24 +143,97 @@ public class BitcoinClient extends DefaultRpcClient implements ChainTipClient {
     // that eventually call waitForBlockchainInfoAsync()
     private final CompletableFuture<Void> fConnectedOnce = new CompletableFuture<>();
     private final ExecutorService executorService;
+    // Only shut down executors we created
+    private final boolean ownsExecutor;
 
     private int serverVersion = 0;    // 0 means unknown serverVersion
     private boolean isAddressIndexSuccessfullyTested = false;
     private boolean isAddressIndexEnabled;
 
     public BitcoinClient(SSLContext sslContext, @Nullable Network network, URI server, @Nullable String rpcuser, @Nullable String rpcpassword) {
-        super(sslContext, JsonRpcMessage.Version.V2, server, rpcuser, rpcpassword);
+        this(defaultTransportFactory(sslContext, server, rpcuser, rpcpassword), network);
+    }
+
+    /**
+     * Construct a BitcoinClient with a custom transport and the default thread pool (which is shut down
+     * by {@link #close()}.)
+     * @param transportFactory Factory for the transport
+     * @param network Network of the server or {@code null} to query the server
+     */
+    protected BitcoinClient(TransportFactory transportFactory, @Nullable Network network) {
+        // Current pool size of 5 is chosen to minimize simultaneous active RPC
+        // calls in `bitcoind` -- which is not designed for serving multiple clients.
+        // Use a constructor that takes an ExecutorService (and optionally a ConcurrencyLimiter) to configure this.
+        this(transportFactory, network, newFixedThreadPoolExecutor(THREAD_POOL_SIZE), true);
+    }
+
+    /**
+     * Construct a BitcoinClient with a custom transport and a caller-supplied executor.
+     * <p>
+     * For example, to use virtual threads for asynchronous operations and allow at most 4 calls to be in-flight
+     * on the server:
+     * <pre> {@code
+     * var client = new BitcoinClient(
+     *         defaultTransportFactory(sslContext, server, rpcuser, rpcpassword).limited(new FixedConcurrencyLimiter(4)),
+     *         network,
+     *         BitcoinClient.newVirtualThreadExecutor());
+     * }</pre>
+     * @param transportFactory Factory for the transport
+     * @param network Network of the server or {@code null} to query the server
+     * @param executor Executor for asynchronous operations. It is <b>not</b> shut down by {@link #close()}.
+     */
+    public BitcoinClient(TransportFactory transportFactory, @Nullable Network network, ExecutorService executor) {
+        this(transportFactory, network, executor, false);
+    }
+
+    /**
+     * Construct a BitcoinClient from an RPCConfig data object, a caller-supplied executor, and an optional
+     * concurrency limiter.
+     * @param config Contains URI, user name, and password
+     * @param executor Executor for asynchronous operations. It is <b>not</b> shut down by {@link #close()}.
+     * @param limiter Limits the number of calls in-flight on the server, independently of the number of threads, or {@code null} for no limit.
+     */
+    public BitcoinClient(RpcConfig config, ExecutorService executor, @Nullable ConcurrencyLimiter limiter) {
+        this(withLimiter(defaultTransportFactory(JsonRpcTransport.getDefaultSSLContext(), config.getURI(), config.getUsername(), config.getPassword()), limiter),
+                config.network(),
+                executor);
+    }
+
+    private BitcoinClient(TransportFactory transportFactory, @Nullable Network network, ExecutorService executor, boolean ownsExecutor) {
+        super(transportFactory, JsonRpcMessage.Version.V2);
         if (network != null) {
             this.fNetwork.complete(network); // Non-lazy initialization case
         }
-        ThreadFactory threadFactory = new BitcoinClientThreadFactory(new Context(), "Bitcoin RPC Client");
-        // TODO: Tune and/or make configurable the thread pool size.
-        // Current pool size of 5 is chosen to minimize simultaneous active RPC
-        // calls in `bitcoind` -- which is not designed for serving multiple clients.
-        executorService = Executors.newFixedThreadPool(THREAD_POOL_SIZE, threadFactory);
+        this.executorService = executor;
+        this.ownsExecutor = ownsExecutor;
         mapper.registerModule(new RpcClientModule());
     }
 
+    /**
+     * Create an executor that runs each task in a new virtual thread. Thousands of synchronous callers can
+     * then block waiting for responses without using thousands of platform threads. Requires Java 21 or later.
+     * @return A new executor, the caller is responsible for shutting it down
+     * @throws UnsupportedOperationException if the JVM doesn't support virtual threads
+     */
+    public static ExecutorService newVirtualThreadExecutor() {
+        ThreadFactory virtualThreadFactory = RpcExecutors.virtualThreadFactory("Bitcoin RPC Client-");
+        return RpcExecutors.newThreadPerTaskExecutor(new BitcoinClientThreadFactory(new Context(), virtualThreadFactory));
+    }
+
+    /**
+     * Create a bounded pool of (daemon) platform threads.
+     * @param nThreads number of threads in the pool
+     * @return A new executor, the caller is responsible for shutting it down
+     */
+    public static ExecutorService newFixedThreadPoolExecutor(int nThreads) {
+        ThreadFactory threadFactory = new BitcoinClientThreadFactory(new Context(), "Bitcoin RPC Client");
+        return Executors.newFixedThreadPool(nThreads, threadFactory);
+    }
+
+    private static TransportFactory withLimiter(TransportFactory transportFactory, @Nullable ConcurrencyLimiter limiter) {
+        return limiter != null ? transportFactory.limited(limiter) : transportFactory;
+    }
+
     // TODO: Reconcile this constructor mode with {@link #waitForServer(int)}
     /**
      * Incubating constructor that doesn't require a {@link Network}.
@@ -235,21 +312,24 @@ public class BitcoinClient extends DefaultRpcClient implements ChainTipClient {
     }
     
     /**
-     * Shutdown our thread pool, etc.
+     * Shutdown our thread pool (if it wasn't supplied by the caller), close the transport, etc.
      */
     @Override
     public void close() {
-        // TODO: See shutdownAndAwaitTermination method in the ExecutorService JavaDoc for how to correctly implement this.
-        executorService.shutdown();
-        boolean successfullyTerminated;
-        try {
-            successfullyTerminated = executorService.awaitTermination(10, TimeUnit.SECONDS);
-        } catch (InterruptedException e) {
-            throw new RuntimeException(e);
-        }
-        if (!successfullyTerminated) {
-            log.warn("timeout while closing");
+        if (ownsExecutor) {
+            // TODO: See shutdownAndAwaitTermination method in the ExecutorService JavaDoc for how to correctly implement this.
+            executorService.shutdown();
+            boolean successfullyTerminated;
+            try {
+                successfullyTerminated = executorService.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            if (!successfullyTerminated) {
+                log.warn("timeout while closing");
+            }
         }
+        super.close();
     }
 
     /**
@@ -402,7 +482,7 @@ public class BitcoinClient extends DefaultRpcClient implements ChainTipClient {
                 .handle((i, t) -> {
                     if (i != null) {
                         return CompletableFuture.completedFuture(Boolean.TRUE);
-                    } else if (t instanceof TimeoutException) {
+                    } else if (t instanceof TimeoutException || (t != null && t.getCause() instanceof TimeoutException)) {
                         return CompletableFuture.completedFuture(Boolean.FALSE);
                     } else {
                         return CompletableFuture.<Boolean>failedFuture(t);
@@ -432,32 +512,152 @@ public class BitcoinClient extends DefaultRpcClient implements ChainTipClient {
      * @return True if blockHeight reached, false if timeout or interrupted
      */
     public Boolean waitForBlock(int blockHeight, int timeout) throws JsonRpcStatusException, IOException {
-
         log.info("Waiting for server to reach block " + blockHeight);
-
-        long seconds = 0;
-        while (seconds < timeout) {
-            Integer block = this.getBlockCount();
-            if (block >= blockHeight) {
-                log.info("Server is at block " + block + " returning 'true'.");
-                return true;
+        CompletableFuture<Integer> future = waitForBlockAsync(blockHeight);
+        try {
+            Integer block = future.get(timeout, TimeUnit.SECONDS);
+            log.info("Server is at block " + block + " returning 'true'.");
+            return true;
+        } catch (TimeoutException e) {
+            log.error("Timeout waiting for block " + blockHeight);
+            return false;
+        } catch (InterruptedException e) {
+            log.error(e.toString());
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof JsonRpcStatusException) {
+                throw (JsonRpcStatusException) e.getCause();
+            } else if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
             } else {
-                try {
-                    if (seconds % MESSAGE_DELAY.toSeconds() == 0) {
-                        log.debug("Server at block " + block);
+                throw new RuntimeException(e);
+            }
+        } finally {
+            future.cancel(false);
+        }
+    }
+
+    /**
+     * Wait for the server to reach a block height, without blocking a thread.
+     * <p>
+     * Uses the {@code waitforblockheight} RPC to <i>long-poll</i> the server, so the future completes as soon
+     * as the block arrives. If the server doesn't support {@code waitforblockheight}, {@code getblockcount} is
+     * polled every 5 seconds instead. Note that each long-poll occupies one of the server's RPC worker threads
+     * (see the {@code -rpcthreads} option of {@code bitcoind}) for up to 30 seconds.
+     * <p>
+     * There is no timeout, use {@link CompletableFuture#orTimeout(long, TimeUnit)} if you need one.
+     * Cancelling (or otherwise completing) the future stops polling and cancels the poll in progress.
+     * @param blockHeight Block height to wait for
+     * @return A future that completes with the server's block height once it is at least {@code blockHeight}
+     */
+    public CompletableFuture<Integer> waitForBlockAsync(int blockHeight) {
+        return waitForBlockAsync(blockHeight, RETRY_DELAY);
+    }
+
+    /**
+     * Wait for the server to reach a block height, without blocking a thread.
+     * See {@link #waitForBlockAsync(int)}.
+     * @param blockHeight Block height to wait for
+     * @param retry delay between polls if the server doesn't support {@code waitforblockheight}
+     * @return A future that completes with the server's block height once it is at least {@code blockHeight}
+     */
+    public CompletableFuture<Integer> waitForBlockAsync(int blockHeight, Duration retry) {
+        BlockPoller poller = new BlockPoller(blockHeight, retry);
+        poller.longPoll();
+        return poller.future;
+    }
+
+    // State for one call to waitForBlockAsync()
+    private final class BlockPoller {
+        private final CompletableFuture<Integer> future = new CompletableFuture<>();
+        private final int blockHeight;
+        private final Executor delayed;
+        // The poll in progress, if any. Cancelled if the future is completed by someone else.
+        private volatile @Nullable CompletableFuture<?> current;
+
+        BlockPoller(int blockHeight, Duration retry) {
+            this.blockHeight = blockHeight;
+            this.delayed = CompletableFuture.delayedExecutor(retry.toNanos(), TimeUnit.NANOSECONDS, getDefaultAsyncExecutor());
+            future.whenComplete((h, t) -> {
+                CompletableFuture<?> c = current;
+                if (c != null) {
+                    c.cancel(false);
+                }
+            });
+        }
+
+        void longPoll() {
+            if (future.isDone()) {
+                return;
+            }
+            CompletableFuture<JsonNode> f = track(sendAsync("waitforblockheight", JsonNode.class, blockHeight, LONG_POLL_TIMEOUT.toMillis()));
+            f.whenComplete((result, t) -> {
+                current = null;
+                if (future.isDone()) {
+                    return;
+                }
+                if (t != null) {
+                    if (isMethodNotFound(t)) {
+                        log.debug("waitforblockheight not supported, polling getblockcount");
+                        poll();
+                    } else {
+                        future.completeExceptionally(unwrap(t));
+                    }
+                } else {
+                    int height = result.get("height").asInt();
+                    if (height >= blockHeight) {
+                        future.complete(height);
+                    } else {
+                        log.debug("Server at block " + height);
+                        longPoll();
                     }
-                    Thread.sleep(RETRY_DELAY.toMillis());
-                    seconds += RETRY_DELAY.toSeconds();
-                } catch (InterruptedException e) {
-                    log.error(e.toString());
-                    Thread.currentThread().interrupt();
-                    return false;
                 }
+            });
+        }
+
+        void poll() {
+            if (future.isDone()) {
+                return;
             }
+            CompletableFuture<Integer> f = track(sendAsync("getblockcount", Integer.class));
+            f.whenComplete((height, t) -> {
+                current = null;
+                if (future.isDone()) {
+                    return;
+                }
+                if (t != null) {
+                    future.completeExceptionally(unwrap(t));
+                } else if (height >= blockHeight) {
+                    future.complete(height);
+                } else {
+                    log.debug("Server at block " + height);
+                    delayed.execute(this::poll);
+                }
+            });
+        }
+
+        // Record the poll in progress, cancelling it if the future completed before it was recorded
+        private <T> CompletableFuture<T> track(CompletableFuture<T> f) {
+            current = f;
+            if (future.isDone()) {
+                f.cancel(false);
+            }
+            return f;
         }
+    }
+
+    private static boolean isMethodNotFound(Throwable t) {
+        Throwable cause = unwrap(t);
+        if (cause instanceof JsonRpcErrorException) {
+            return ((JsonRpcErrorException) cause).getError().getCode() == JsonRpcError.Error.METHOD_NOT_FOUND.getCode();
+        }
+        return cause instanceof JsonRpcStatusException
+                && ((JsonRpcStatusException) cause).jsonRpcCode == JsonRpcError.Error.METHOD_NOT_FOUND.getCode();
+    }
 
-        log.error("Timeout waiting for block " + blockHeight);
-        return false;
+    private static Throwable unwrap(Throwable t) {
+        return (t instanceof CompletionException && t.getCause() != null) ? t.getCause() : t;
     }
 
     /**
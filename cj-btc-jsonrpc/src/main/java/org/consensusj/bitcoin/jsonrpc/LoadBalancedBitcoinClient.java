@@ -0,0 +1,164 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.bitcoin.jsonrpc;
+
+import com.fasterxml.jackson.databind.JavaType;
+import org.bitcoinj.base.Network;
+import org.consensusj.bitcoin.json.pojo.BlockChainInfo;
+import org.consensusj.jsonrpc.JsonRpcRequest;
+import org.consensusj.jsonrpc.JsonRpcResponse;
+import org.consensusj.jsonrpc.JsonRpcTransport;
+import org.consensusj.jsonrpc.LoadBalancingJsonRpcTransport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * A {@link BitcoinClient} for a pool of synced Bitcoin Core nodes, to scale read throughput horizontally.
+ * <p>
+ * The first endpoint is the <i>primary</i>. Read-only methods (see {@link #READ_ONLY_METHODS}) are balanced across
+ * all healthy nodes, all other methods (wallet methods, {@code sendrawtransaction}, etc.) are sent to the primary.
+ * See {@link LoadBalancingJsonRpcTransport} for details.
+ * <p>
+ * Healthy nodes may still differ by up to {@code maxBlockLag} blocks, so consecutive balanced calls can see
+ * different chain tips. Callers that need other methods balanced (or fewer) can pass their own predicate to
+ * {@link #LoadBalancedBitcoinClient(Network, List, int, Duration, Predicate)}.
+ * <p>
+ * A periodic health check calls {@code getblockchaininfo} on every node. Nodes that fail to respond or whose block
+ * height lags the highest node by more than {@code maxBlockLag} are ejected until they catch up.
+ */
+public class LoadBalancedBitcoinClient extends BitcoinClient {
+    private static final Logger log = LoggerFactory.getLogger(LoadBalancedBitcoinClient.class);
+
+    /**
+     * Methods that don't change server state and return the same result on any node synced to the same block.
+     * Methods whose results depend on node-local state are not included: the mempool (e.g. {@code getrawmempool},
+     * {@code getmempoolentry}, {@code gettxout}), optional indexes (e.g. {@code getrawtransaction} without
+     * {@code -txindex}, {@code getblockfilter}), fee estimates, peers and uptime.
+     */
+    public static final Set<String> READ_ONLY_METHODS = Set.of(
+            "getbestblockhash", "getblock", "getblockchaininfo", "getblockcount", "getblockhash", "getblockheader",
+            "getblockstats", "getdifficulty", "verifytxoutproof", "decoderawtransaction", "decodescript",
+            "decodepsbt", "validateaddress", "help");
+
+    private final LoadBalancingJsonRpcTransport<JavaType> balancer;
+    private final int maxBlockLag;
+    private final Duration healthCheckInterval;
+    private volatile boolean closed = false;
+
+    /**
+     * Construct a client for a pool of nodes and start the health check.
+     * @param network Network of the nodes
+     * @param endpoints Configuration for each node, the first is the primary
+     * @param maxBlockLag Maximum number of blocks a node can be behind the highest node and still be used
+     * @param healthCheckInterval Time between health checks
+     */
+    public LoadBalancedBitcoinClient(Network network, List<RpcConfig> endpoints, int maxBlockLag, Duration healthCheckInterval) {
+        this(network, endpoints, maxBlockLag, healthCheckInterval, r -> READ_ONLY_METHODS.contains(r.getMethod()));
+    }
+
+    /**
+     * Construct a client for a pool of nodes, with a custom predicate for balanced requests, and start the health check.
+     * For example, if all nodes run with {@code -txindex}, {@code getrawtransaction} can be balanced too.
+     * @param network Network of the nodes
+     * @param endpoints Configuration for each node, the first is the primary
+     * @param maxBlockLag Maximum number of blocks a node can be behind the highest node and still be used
+     * @param healthCheckInterval Time between health checks
+     * @param readOnly Requests that may be sent to any healthy node, all others are sent to the primary
+     */
+    public LoadBalancedBitcoinClient(Network network, List<RpcConfig> endpoints, int maxBlockLag, Duration healthCheckInterval,
+                                     Predicate<JsonRpcRequest> readOnly) {
+        super(m -> new LoadBalancingJsonRpcTransport<>(
+                        endpoints.stream()
+                                .map(c -> defaultTransportFactory(JsonRpcTransport.getDefaultSSLContext(), c.getURI(), c.getUsername(), c.getPassword()).create(m))
+                                .collect(Collectors.toList()),
+                        readOnly),
+                network);
+        @SuppressWarnings("unchecked")
+        LoadBalancingJsonRpcTransport<JavaType> transport = (LoadBalancingJsonRpcTransport<JavaType>) getTransport();
+        this.balancer = transport;
+        this.maxBlockLag = maxBlockLag;
+        this.healthCheckInterval = healthCheckInterval;
+        scheduleHealthCheck();
+    }
+
+    /**
+     * @return the load-balancing transport, which can be used to query the state of each endpoint
+     */
+    public LoadBalancingJsonRpcTransport<JavaType> getBalancer() {
+        return balancer;
+    }
+
+    /**
+     * Check the health of all nodes, enabling or disabling each for read-only methods.
+     * @return A future that completes when all nodes have been checked
+     */
+    public CompletableFuture<Void> checkEndpoints() {
+        JavaType responseType = responseTypeFor(BlockChainInfo.class);
+        List<CompletableFuture<Integer>> heights = IntStream.range(0, balancer.size())
+                .mapToObj(i -> balancer.getEndpoint(i)
+                        .<BlockChainInfo>sendRequestForResponseAsync(buildJsonRequest("getblockchaininfo"), responseType)
+                        .thenApply(LoadBalancedBitcoinClient::blocks)
+                        .exceptionally(t -> -1))
+                .collect(Collectors.toList());
+        return CompletableFuture.allOf(heights.toArray(new CompletableFuture<?>[0]))
+                .thenRun(() -> {
+                    int max = heights.stream().mapToInt(CompletableFuture::join).max().orElse(-1);
+                    for (int i = 0; i < heights.size(); i++) {
+                        int height = heights.get(i).join();
+                        boolean healthy = height >= 0 && height >= max - maxBlockLag;
+                        if (!healthy) {
+                            log.debug("Node {} unhealthy, height: {}, highest: {}", balancer.getEndpoint(i).getServerURI(), height, max);
+                        }
+                        balancer.setEnabled(i, healthy);
+                    }
+                });
+    }
+
+    /**
+     * Stop the health check, shutdown our thread pool, and close all endpoint transports.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        super.close();
+    }
+
+    private void scheduleHealthCheck() {
+        if (closed) {
+            return;
+        }
+        CompletableFuture.delayedExecutor(healthCheckInterval.toNanos(), TimeUnit.NANOSECONDS)
+                .execute(() -> {
+                    if (!closed) {
+                        checkEndpoints().whenComplete((v, t) -> scheduleHealthCheck());
+                    }
+                });
+    }
+
+    private static int blocks(JsonRpcResponse<BlockChainInfo> response) {
+        BlockChainInfo info = response.getResult();
+        return (response.getError() == null && info != null) ? info.getBlocks() : -1;
+    }
+}
@@ -16,6 +16,7 @@
 package org.consensusj.bitcoin.jsonrpc;
 
 import java.net.URI;
+import java.nio.file.Path;
 
 /**
  * Interface with default connection information for Bitcoin JSON-RPC
@@ -23,6 +24,7 @@ import java.net.URI;
 public interface RpcURI {
     String rpcproto = "http";
     String rpcssl = "https";
+    String rpcunix = "unix";    // HTTP over a UNIX domain socket, see JsonRpcClientNio
     String rpchost = "127.0.0.1";
     String rpcfile = "/";
 
@@ -66,4 +68,12 @@ public interface RpcURI {
     static URI rpcWalletURI(String hostName, int port, String walletName) {
         return URI.create(rpcproto + "://" + hostName + ":" + port + "/wallet/" + walletName);
     }
+
+    /**
+     * @param socketPath path of a UNIX domain socket a server is listening on with HTTP
+     * @return a {@code unix:} URI for the socket (see {@link org.consensusj.jsonrpc.JsonRpcClientNio#isUnixSocketURI(URI)})
+     */
+    static URI unixSocketURI(Path socketPath) {
+        return URI.create(rpcunix + "://" + socketPath.toAbsolutePath().toUri().getRawPath());
+    }
 }
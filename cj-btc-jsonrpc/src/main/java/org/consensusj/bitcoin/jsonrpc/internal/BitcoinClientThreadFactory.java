@@ -39,22 +39,36 @@ import java.util.concurrent.ThreadFactory;
 public class BitcoinClientThreadFactory implements ThreadFactory {
     private static final Logger log = LoggerFactory.getLogger(BitcoinClientThreadFactory.class);
     private final Context context;
-    private final String name;
+    private final ThreadFactory delegate;
     private final int priority;
 
     public BitcoinClientThreadFactory(Context context, String name, int priority) {
-        this.context = context;
-        this.name = name;
-        this.priority = priority;
+        this(context, r -> new Thread(r, name), priority);
     }
 
     public BitcoinClientThreadFactory(Context context, String name) {
         this(context, name, Thread.NORM_PRIORITY);
     }
 
+    /**
+     * Construct a factory that uses another factory to create threads. This can be used to create <i>virtual</i>
+     * threads (see {@link org.consensusj.jsonrpc.RpcExecutors#virtualThreadFactory(String)}) that have the context.
+     * @param context context to propagate to the new threads
+     * @param delegate factory for the underlying threads
+     */
+    public BitcoinClientThreadFactory(Context context, ThreadFactory delegate) {
+        this(context, delegate, Thread.NORM_PRIORITY);
+    }
+
+    private BitcoinClientThreadFactory(Context context, ThreadFactory delegate, int priority) {
+        this.context = context;
+        this.delegate = delegate;
+        this.priority = priority;
+    }
+
     @Override
     public Thread newThread(final Runnable r) {
-        Thread thread = new Thread(() -> {
+        Thread thread = delegate.newThread(() -> {
             try {
                 Context.propagate(context);
                 r.run();
@@ -62,7 +76,8 @@ public class BitcoinClientThreadFactory implements ThreadFactory {
                 log.error("Exception in thread", e);
                 throw e;
             }
-        }, name);
+        });
+        // Ignored for virtual threads
         thread.setPriority(priority);
         thread.setDaemon(true);
         thread.setUncaughtExceptionHandler(BitcoinClientThreadFactory::uncaughtException);
@@ -16,8 +16,11 @@
 package org.consensusj.bitcoin.jsonrpc
 
 import org.consensusj.bitcoin.jsonrpc.RpcURI
+import org.consensusj.jsonrpc.JsonRpcClientNio
 import spock.lang.Specification
 
+import java.nio.file.Path
+
 /**
  * Check URI constants for correctness
  */
@@ -28,4 +31,15 @@ class RpcURISpec extends Specification {
         RpcURI.defaultTestNetURI == "http://127.0.0.1:18332/".toURI()
         RpcURI.defaultRegTestURI == "http://127.0.0.1:18443/".toURI()
     }
+
+    def "unix socket URI"() {
+        when:
+        def uri = RpcURI.unixSocketURI(Path.of("/tmp/bitcoin/node.socket"))
+
+        then:
+        uri == "unix:///tmp/bitcoin/node.socket".toURI()
+        uri.path == "/tmp/bitcoin/node.socket"
+        JsonRpcClientNio.isUnixSocketURI(uri)
+        !JsonRpcClientNio.isUnixSocketURI(RpcURI.defaultRegTestURI)
+    }
 }
@@ -58,7 +58,8 @@ import org.consensusj.bitcoinj.signing.TransactionOutputData;
 import org.consensusj.bitcoinj.signing.TransactionOutputDataScript;
 import org.consensusj.jsonrpc.JsonRpcShutdownService;
 import org.consensusj.jsonrpc.introspection.AbstractJsonRpcService;
-import org.consensusj.jsonrpc.introspection.JsonRpcServiceWrapper;
+import org.consensusj.jsonrpc.introspection.Blocking;
+import org.consensusj.jsonrpc.introspection.BlockingExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -68,7 +69,6 @@ import jakarta.inject.Inject;
 
 import java.io.File;
 import java.io.IOException;
-import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
@@ -77,14 +77,17 @@ import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 /**
  * Implement a subset of Bitcoin JSON RPC using a WalletAppKit
+ * <p>
+ * Methods that use the wallet or the block store (which may block on locks or disk I/O) are marked {@link Blocking}
+ * so they don't run on the server's event loop.
  */
 public class WalletAppKitService extends AbstractJsonRpcService implements BitcoinJsonRpc {
     private static final Logger log = LoggerFactory.getLogger(WalletAppKitService.class);
-    private static final Map<String, Method> methods = JsonRpcServiceWrapper.reflect(WalletAppKitService.class);
     // P2P user-agent string
     private static final String userAgentName = "WalletAppKitService";
     // P2P user-agent version
@@ -167,7 +170,16 @@ signrawtransactionwithwallet hex
      */
     @Inject
     public WalletAppKitService(WalletAppKit walletAppKit, JsonRpcShutdownService jsonRpcShutdownService) {
-        super(methods);
+        this(walletAppKit, jsonRpcShutdownService, BlockingExecutor.getDefault());
+    }
+
+    /**
+     * Construct from an (un-started) {@link WalletAppKit} instance.
+     * @param walletAppKit instance
+     * @param blockingExecutor executor for {@link Blocking} methods
+     */
+    public WalletAppKitService(WalletAppKit walletAppKit, JsonRpcShutdownService jsonRpcShutdownService, Executor blockingExecutor) {
+        super(new WalletAppKitServiceDispatcher(), blockingExecutor);
         kit = walletAppKit;
         this.jsonRpcShutdownService = jsonRpcShutdownService;
         network = kit.network();
@@ -235,6 +247,7 @@ signrawtransactionwithwallet hex
     }
 
     @Override
+    @Blocking
     public CompletableFuture<JsonNode> getblockheader(String blockHashString, Boolean verbose) {
         return getblockheader2(Sha256Hash.wrap(blockHashString), verbose);
     }
@@ -262,6 +275,7 @@ signrawtransactionwithwallet hex
      * @return Either a `Block` or `BlockInfo` depending upon verbosity.
      */
     @Override
+    @Blocking
     public CompletableFuture<JsonNode> getblock(String blockHashString, Integer verbosity) {
         return getblock2(Sha256Hash.wrap(blockHashString), verbosity);
     }
@@ -347,6 +361,7 @@ signrawtransactionwithwallet hex
     }
 
     @Override
+    @Blocking
     public CompletableFuture<String> createrawtransaction(List<Map<String, Object>> inputs, List<Map<String, String>> outputs) {
         try {
             List<TransactionInputData> ins = inputs.stream()
@@ -369,6 +384,7 @@ signrawtransactionwithwallet hex
     }
 
     @Override
+    @Blocking
     public CompletableFuture<Address> getnewaddress() {
         DeterministicKey key = kit.wallet().getActiveKeyChain().getKey(KeyChain.KeyPurpose.RECEIVE_FUNDS);
         Address address = key.toAddress(ScriptType.P2PKH, network);
@@ -377,11 +393,13 @@ signrawtransactionwithwallet hex
     }
 
     @Override
+    @Blocking
     public CompletableFuture<Coin> getbalance() {
         return CompletableFuture.completedFuture(kit.wallet().getBalance());
     }
 
     @Override
+    @Blocking
     public CompletableFuture<List<UnspentOutput>> listunspent(Integer minConf, Integer maxConf, List<String> addresses, Boolean includeUnsafe) {
         List<Address> addressList = addresses != null
                 ? addresses.stream().map(parser::parseAddress).toList()
@@ -417,6 +435,7 @@ signrawtransactionwithwallet hex
      * @return future that completes with a transaction hash/id when the tx is successfully relayed
      */
     @Override
+    @Blocking
     public CompletableFuture<Sha256Hash> sendtoaddress(String toAddressString, Double amountDouble) {
         log.info("sendtoaddress {}, {}", toAddressString, amountDouble);
         Address toAddress = parser.parseAddress(toAddressString);
@@ -436,6 +455,7 @@ signrawtransactionwithwallet hex
     }
 
     @Override
+    @Blocking
     public CompletableFuture<Sha256Hash> sendrawtransaction(String hex) {
         log.info("received raw tx: {}", hex);
         ByteBuffer raw = ByteBuffer.wrap(hexFormat.parseHex(hex));
@@ -472,6 +492,7 @@ signrawtransactionwithwallet hex
      * @return signed raw transaction
      */
     @Override
+    @Blocking
     public CompletableFuture<SignedRawTransaction> signrawtransactionwithwallet(String hex) {
         ByteBuffer raw = ByteBuffer.wrap(hexFormat.parseHex(hex));
 
@@ -29,10 +29,12 @@ import java.nio.file.Path;
  * @param serverPort Port Daemon will listen on
  * @param dataDir Path to data directory
  * @param walletBaseName Basename of wallet files (basename-net.wallet and basename-net.spvchain)
+ * @param maxBlockingCalls Maximum number of blocking JSON-RPC calls (e.g. wallet calls) that run at once
  */
 @ConfigurationProperties("walletd.config")
 public record BitcoinDaemonConfig(@Nullable String networkId, int serverPort, @Nullable Path dataDir,
-                                  @Bindable(defaultValue = "walletd") String walletBaseName)
+                                  @Bindable(defaultValue = "walletd") String walletBaseName,
+                                  @Bindable(defaultValue = "256") int maxBlockingCalls)
 {
     /**
      * @return Defaults to {@link BitcoinNetwork#MAINNET}
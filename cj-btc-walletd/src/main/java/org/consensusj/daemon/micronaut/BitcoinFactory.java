@@ -26,6 +26,7 @@ import org.consensusj.bitcoin.json.conversion.RpcServerModule;
 import io.micronaut.context.annotation.Factory;
 import org.bitcoinj.kits.WalletAppKit;
 import org.consensusj.bitcoin.services.WalletAppKitService;
+import org.consensusj.jsonrpc.introspection.BlockingExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -60,8 +61,10 @@ public class BitcoinFactory {
 
     @Singleton
     @Bean(preDestroy = "close")
-    public WalletAppKitService walletAppKitService(WalletAppKit walletAppKit, MicronautJsonRpcShutdownService shutdownService) {
-        WalletAppKitService service = new WalletAppKitService(walletAppKit, shutdownService);
+    public WalletAppKitService walletAppKitService(WalletAppKit walletAppKit, MicronautJsonRpcShutdownService shutdownService,
+                                                   BitcoinDaemonConfig config) {
+        WalletAppKitService service = new WalletAppKitService(walletAppKit, shutdownService,
+                new BlockingExecutor(config.maxBlockingCalls()));
         service.start();
         return service;
     }
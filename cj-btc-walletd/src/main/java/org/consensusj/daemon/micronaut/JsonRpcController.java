@@ -15,40 +15,68 @@
  */
 package org.consensusj.daemon.micronaut;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micronaut.context.annotation.Context;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
 import io.micronaut.http.MediaType;
 import io.micronaut.http.annotation.Body;
 import io.micronaut.http.annotation.Controller;
 import io.micronaut.http.annotation.Post;
 import org.consensusj.bitcoin.services.WalletAppKitService;
-import org.consensusj.jsonrpc.JsonRpcRequest;
-import org.consensusj.jsonrpc.JsonRpcResponse;
+import org.consensusj.jsonrpc.CborSupport;
+import org.consensusj.jsonrpc.JsonRpcBodyHandler;
 import org.consensusj.jsonrpc.JsonRpcService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 /**
  * Create a REST endpoint from a JsonRpcService
  * Here we're using Micronaut annotations to wrap the JsonRpcService
  * in an HTTP environment and to serialize JSON to and from Java POJOs.
+ * Requests with {@code Content-Type: application/cbor} are handled with CBOR.
+ * Requests may be batched (see {@link JsonRpcService#callBatch(List)}.)
  */
 @Controller("/")
 @Context
 public class JsonRpcController {
     private static final Logger log = LoggerFactory.getLogger(JsonRpcController.class);
     private final JsonRpcService jsonRpcService;
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper cborMapper;
 
-    public JsonRpcController(WalletAppKitService walletAppKitService) {
+    public JsonRpcController(WalletAppKitService walletAppKitService, ObjectMapper objectMapper) {
         log.info("Constructing JsonRpcController");
         jsonRpcService = walletAppKitService;
+        this.objectMapper = objectMapper;
+        cborMapper = CborSupport.mapperFor(objectMapper);
     }
 
+    /**
+     * Handle a JSON-RPC request or batch (see {@link JsonRpcBodyHandler} for how errors and notifications are handled.)
+     */
     @Post(produces = MediaType.APPLICATION_JSON)
-    public CompletableFuture<JsonRpcResponse<Object>> index(@Body JsonRpcRequest req) {
-        log.info("JSON-RPC call: {}", req.getMethod());
-        return jsonRpcService.call(req);
+    public CompletableFuture<HttpResponse<byte[]>> index(@Body byte[] body) {
+        return JsonRpcBodyHandler.handle(jsonRpcService, objectMapper, body)
+                .thenApply(JsonRpcController::httpResponse);
     }
 
+    /**
+     * Handle a JSON-RPC request or batch encoded with CBOR (see {@link CborSupport}) and respond with CBOR.
+     */
+    @Post(consumes = CborSupport.MEDIA_TYPE, produces = CborSupport.MEDIA_TYPE)
+    public CompletableFuture<HttpResponse<byte[]>> cbor(@Body byte[] body) {
+        return JsonRpcBodyHandler.handle(jsonRpcService, cborMapper, body)
+                .thenApply(JsonRpcController::httpResponse);
+    }
+
+    private static HttpResponse<byte[]> httpResponse(JsonRpcBodyHandler.Result result) {
+        byte[] body = result.getBody();
+        return body != null
+                ? HttpResponse.<byte[]>status(HttpStatus.valueOf(result.getStatusCode())).body(body)
+                : HttpResponse.noContent();
+    }
 }
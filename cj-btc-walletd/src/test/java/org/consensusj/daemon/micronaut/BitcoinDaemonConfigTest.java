@@ -33,6 +33,7 @@ public class BitcoinDaemonConfigTest {
         assertEquals("regtest", config.networkId());
         assertEquals(BitcoinNetwork.REGTEST, config.network());
         assertEquals(8080, config.serverPort());
+        assertEquals(256, config.maxBlockingCalls());
     }
 
     @AfterEach
@@ -15,45 +15,242 @@
  */
 package org.consensusj.jsonrpc.daemon;
 
-import io.micronaut.websocket.WebSocketBroadcaster;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.core.async.publisher.Publishers;
 import io.micronaut.websocket.WebSocketSession;
 import io.micronaut.websocket.annotation.OnClose;
 import io.micronaut.websocket.annotation.OnMessage;
 import io.micronaut.websocket.annotation.OnOpen;
 import io.micronaut.websocket.annotation.ServerWebSocket;
+import org.consensusj.jsonrpc.ConcurrencyLimiter;
+import org.consensusj.jsonrpc.FixedConcurrencyLimiter;
+import org.consensusj.jsonrpc.JsonRpcError;
+import org.consensusj.jsonrpc.JsonRpcNotification;
 import org.consensusj.jsonrpc.JsonRpcRequest;
 import org.consensusj.jsonrpc.JsonRpcResponse;
 import org.consensusj.jsonrpc.JsonRpcService;
 import org.consensusj.jsonrpc.services.EchoJsonRpcService;
+import org.jspecify.annotations.Nullable;
 import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * WebSocket controller that serves {@link EchoJsonRpcService} on a WebSocket endpoint.
+ * <p>
+ * Requests are handled asynchronously: a session may have many requests in flight and each response is sent (with
+ * the {@code id} of its request) as soon as it is ready, so responses may be out of order. At most
+ * {@code jrpc-echod.websocket.max-in-flight} requests per session are passed to the service at once; up to
+ * {@code jrpc-echod.websocket.max-queued} more wait for a slot and any others fail with
+ * {@link JsonRpcError.Error#SERVER_ERROR}.
+ * <p>
+ * Clients can also subscribe to server-push notifications from the {@link NotificationTopics}:
+ * <ul>
+ *     <li>{@code subscribe topic} returns a subscription id. Each item published to the topic is then sent as a
+ *     {@code subscription} notification with params {@code [subscriptionId, item]}.</li>
+ *     <li>{@code unsubscribe subscriptionId} returns {@code true} if the subscription was cancelled.</li>
+ * </ul>
+ * Subscriptions are cancelled when the session is closed.
  */
 @ServerWebSocket("/ws")
 public class EchoWebSocket {
     private static final Logger log = LoggerFactory.getLogger(EchoWebSocket.class);
-    private final WebSocketBroadcaster broadcaster;
+    static final String SUBSCRIBE = "subscribe";
+    static final String UNSUBSCRIBE = "unsubscribe";
+    static final String SUBSCRIPTION = "subscription";
     private final JsonRpcService jsonRpcService;
+    private final NotificationTopics topics;
+    private final int maxInFlight;
+    private final int maxQueued;
+    private final Map<String, SessionState> sessions = new ConcurrentHashMap<>();
 
-    public EchoWebSocket(WebSocketBroadcaster broadcaster, JsonRpcService jsonRpcService) {
-        this.broadcaster = broadcaster;
+    public EchoWebSocket(JsonRpcService jsonRpcService, NotificationTopics topics,
+                         @Value("${jrpc-echod.websocket.max-in-flight:16}") int maxInFlight,
+                         @Value("${jrpc-echod.websocket.max-queued:256}") int maxQueued) {
         this.jsonRpcService = jsonRpcService;
+        this.topics = topics;
+        this.maxInFlight = maxInFlight;
+        this.maxQueued = maxQueued;
     }
 
     @OnOpen
     public void onOpen(WebSocketSession session) {
+        sessions.put(session.getId(), new SessionState(session));
     }
 
+    /**
+     * Start handling a request and return without waiting for it to complete, so the next message on the session can
+     * be read.
+     * @return a publisher that completes when the response has been sent
+     */
     @OnMessage
-    public Publisher<JsonRpcResponse<Object>> onMessage(JsonRpcRequest request, WebSocketSession session) {
-        JsonRpcResponse<Object> response = jsonRpcService.call(request).join();
-        return session.send(response);
+    public Publisher<?> onMessage(JsonRpcRequest request, WebSocketSession session) {
+        SessionState state = sessions.computeIfAbsent(session.getId(), id -> new SessionState(session));
+        return Publishers.fromCompletableFuture(() -> state.handle(request));
     }
 
     @OnClose
     public void onClose(WebSocketSession session) {
+        SessionState state = sessions.remove(session.getId());
+        if (state != null) {
+            state.close();
+        }
+    }
+
+    // Requests in flight and subscriptions for one session
+    private final class SessionState {
+        private final WebSocketSession session;
+        private final ConcurrencyLimiter limiter = new FixedConcurrencyLimiter(maxInFlight, maxQueued);
+        private final Map<String, TopicSubscriber> subscriptions = new ConcurrentHashMap<>();
+        private final AtomicLong nextSubscriptionId = new AtomicLong(1);
+
+        SessionState(WebSocketSession session) {
+            this.session = session;
+        }
+
+        CompletableFuture<?> handle(JsonRpcRequest request) {
+            return switch (request.getMethod()) {
+                case SUBSCRIBE -> subscribe(request);
+                case UNSUBSCRIBE -> send(request, unsubscribe(request));
+                default -> send(request, call(request));
+            };
+        }
+
+        private CompletableFuture<JsonRpcResponse<Object>> call(JsonRpcRequest request) {
+            return limiter.acquire()
+                    .thenCompose(permit -> callService(request)
+                            .whenComplete((response, t) -> permit.release(t)))
+                    .thenApply(response -> {
+                        @Nullable Object result = response.getResult();
+                        if (NotificationTopics.ECHO.equals(request.getMethod()) && result != null) {
+                            topics.publish(NotificationTopics.ECHO, result);
+                        }
+                        return response;
+                    })
+                    .exceptionally(t -> error(request, JsonRpcError.Error.SERVER_ERROR, unwrap(t)));
+        }
+
+        private CompletableFuture<JsonRpcResponse<Object>> callService(JsonRpcRequest request) {
+            try {
+                return jsonRpcService.call(request);
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        // Send the subscription id before subscribing, so the client has it before the first notification
+        private CompletableFuture<?> subscribe(JsonRpcRequest request) {
+            @Nullable Object topic = request.getParams().size() == 1 ? request.getParams().get(0) : null;
+            Optional<Flow.Publisher<Object>> publisher = topic instanceof String name
+                    ? topics.topic(name)
+                    : Optional.empty();
+            if (publisher.isEmpty()) {
+                return send(request, CompletableFuture.completedFuture(error(request, JsonRpcError.Error.INVALID_PARAMS,
+                        new IllegalArgumentException("expected one of: " + topics.names()))));
+            }
+            String subscriptionId = Long.toString(nextSubscriptionId.getAndIncrement());
+            TopicSubscriber subscriber = new TopicSubscriber(subscriptionId);
+            subscriptions.put(subscriptionId, subscriber);
+            return send(request, CompletableFuture.completedFuture(new JsonRpcResponse<>(request, subscriptionId)))
+                    .thenRun(() -> publisher.get().subscribe(subscriber));
+        }
+
+        private CompletableFuture<JsonRpcResponse<Object>> unsubscribe(JsonRpcRequest request) {
+            @Nullable Object subscriptionId = request.getParams().size() == 1 ? request.getParams().get(0) : null;
+            @Nullable TopicSubscriber subscriber = subscriptionId != null ? subscriptions.remove(subscriptionId.toString()) : null;
+            if (subscriber != null) {
+                subscriber.cancel();
+            }
+            return CompletableFuture.completedFuture(new JsonRpcResponse<>(request, subscriber != null));
+        }
+
+        // Send a response, unless the request is a notification
+        private CompletableFuture<?> send(JsonRpcRequest request, CompletableFuture<JsonRpcResponse<Object>> response) {
+            return request.isNotification()
+                    ? response
+                    : response.thenCompose(session::sendAsync);
+        }
+
+        void close() {
+            subscriptions.values().forEach(TopicSubscriber::cancel);
+            subscriptions.clear();
+        }
+
+        // Sends each item as a notification, requesting the next item when the previous one has been sent
+        private final class TopicSubscriber implements Flow.Subscriber<Object> {
+            private final String subscriptionId;
+            private volatile Flow.@Nullable Subscription subscription;
+            private volatile boolean cancelled = false;
+
+            TopicSubscriber(String subscriptionId) {
+                this.subscriptionId = subscriptionId;
+            }
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                if (cancelled) {
+                    subscription.cancel();
+                } else {
+                    subscription.request(1);
+                }
+            }
+
+            @Override
+            public void onNext(Object item) {
+                session.sendAsync(new JsonRpcNotification(SUBSCRIPTION, List.of(subscriptionId, item)))
+                        .whenComplete((n, t) -> {
+                            if (t != null || !session.isOpen()) {
+                                log.debug("Cancelling subscription {}", subscriptionId, t);
+                                subscriptions.remove(subscriptionId);
+                                cancel();
+                            } else {
+                                request();
+                            }
+                        });
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                subscriptions.remove(subscriptionId);
+            }
+
+            @Override
+            public void onComplete() {
+                subscriptions.remove(subscriptionId);
+            }
+
+            void cancel() {
+                cancelled = true;
+                Flow.Subscription s = subscription;
+                if (s != null) {
+                    s.cancel();
+                }
+            }
+
+            private void request() {
+                Flow.Subscription s = subscription;
+                if (s != null && !cancelled) {
+                    s.request(1);
+                }
+            }
+        }
+    }
+
+    private static JsonRpcResponse<Object> error(JsonRpcRequest request, JsonRpcError.Error error, Throwable t) {
+        return new JsonRpcResponse<>(request, JsonRpcError.of(error, t));
+    }
+
+    private static Throwable unwrap(Throwable t) {
+        return t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
     }
 }
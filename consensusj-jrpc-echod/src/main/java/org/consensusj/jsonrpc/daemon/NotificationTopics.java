@@ -0,0 +1,97 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc.daemon;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+
+/**
+ * Named streams of server-push notifications that WebSocket clients can subscribe to (see {@link EchoWebSocket}.)
+ * <p>
+ * The echo daemon has a single topic, {@link #ECHO}, which receives every message echoed on a WebSocket. A daemon with
+ * a blockchain would {@link #register(String)} topics for blocks and transactions and {@link #publish(String, Object)}
+ * to them as they arrive. Items are dropped (and logged) for subscribers that fall too far behind.
+ */
+@Singleton
+public class NotificationTopics implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(NotificationTopics.class);
+    /**
+     * Topic for messages echoed on a WebSocket
+     */
+    public static final String ECHO = "echo";
+
+    private final Map<String, SubmissionPublisher<Object>> topics = new ConcurrentHashMap<>();
+
+    public NotificationTopics() {
+        register(ECHO);
+    }
+
+    /**
+     * Create a topic, if it doesn't already exist
+     * @param topic name of the topic
+     */
+    public void register(String topic) {
+        topics.computeIfAbsent(topic, t -> new SubmissionPublisher<>());
+    }
+
+    /**
+     * Get the names of the registered topics
+     * @return a set of topic names
+     */
+    public Set<String> names() {
+        return Set.copyOf(topics.keySet());
+    }
+
+    /**
+     * @param topic name of the topic
+     * @return a publisher for the topic or empty if there is no such topic
+     */
+    public Optional<Flow.Publisher<Object>> topic(String topic) {
+        return Optional.ofNullable(topics.get(topic));
+    }
+
+    /**
+     * Publish an item to the current subscribers of a topic
+     * @param topic name of the topic
+     * @param item item to publish
+     * @throws IllegalArgumentException if there is no such topic
+     */
+    public void publish(String topic, Object item) {
+        SubmissionPublisher<Object> publisher = topics.get(topic);
+        if (publisher == null) {
+            throw new IllegalArgumentException("No such topic: " + topic);
+        }
+        publisher.offer(item, (subscriber, i) -> {
+            log.warn("Dropping {} notification for slow subscriber", topic);
+            return false;
+        });
+    }
+
+    @Override
+    @PreDestroy
+    public void close() {
+        topics.values().forEach(SubmissionPublisher::close);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc.daemon;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micronaut.runtime.server.EmbeddedServer;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.consensusj.jsonrpc.DefaultRpcClient;
+import org.consensusj.jsonrpc.JsonRpcError;
+import org.consensusj.jsonrpc.JsonRpcRequest;
+import org.consensusj.jsonrpc.JsonRpcResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test JSON-RPC batch requests with the {@link JsonRpcController}
+ */
+@MicronautTest
+public class BatchTest {
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    @Inject
+    EmbeddedServer server;
+
+    @Test
+    void batchResponsesAreInOrder() throws IOException, InterruptedException {
+        HttpResponse<String> response = post("""
+                [
+                  {"jsonrpc": "2.0", "id": 1, "method": "echo", "params": ["one"]},
+                  {"jsonrpc": "2.0", "id": "two", "method": "echo", "params": ["two"]},
+                  {"jsonrpc": "2.0", "id": 3, "method": "invalid"}
+                ]""");
+
+        assertEquals(200, response.statusCode());
+        JsonNode responses = mapper.readTree(response.body());
+        assertEquals(3, responses.size());
+        assertEquals(1, responses.get(0).get("id").asInt());
+        assertEquals("one", responses.get(0).get("result").asText());
+        assertEquals("two", responses.get(1).get("id").asText());
+        assertEquals("two", responses.get(1).get("result").asText());
+        assertEquals(3, responses.get(2).get("id").asInt());
+        assertEquals(JsonRpcError.Error.METHOD_NOT_FOUND.getCode(), responses.get(2).get("error").get("code").asInt());
+    }
+
+    @Test
+    void clientBatch() {
+        try (var client = new DefaultRpcClient(server.getURI(), "", "")) {
+            List<JsonRpcRequest> requests = IntStream.range(0, 10)
+                    .mapToObj(i -> client.buildJsonRequest("echo", "message " + i))
+                    .collect(Collectors.toList());
+            List<String> results = client.<String>sendBatchAsync(requests, client.responseTypeFor(String.class)).stream()
+                    .map(CompletableFuture::join)
+                    .map(JsonRpcResponse::getResult)
+                    .collect(Collectors.toList());
+            assertEquals(IntStream.range(0, 10).mapToObj(i -> "message " + i).collect(Collectors.toList()), results);
+        }
+    }
+
+    @Test
+    void notificationsHaveNoResponse() throws IOException, InterruptedException {
+        HttpResponse<String> response = post("""
+                [
+                  {"jsonrpc": "2.0", "method": "echo", "params": ["notification"]},
+                  {"jsonrpc": "2.0", "id": 2, "method": "echo", "params": ["request"]}
+                ]""");
+
+        assertEquals(200, response.statusCode());
+        JsonNode responses = mapper.readTree(response.body());
+        assertEquals(1, responses.size());
+        assertEquals(2, responses.get(0).get("id").asInt());
+    }
+
+    @Test
+    void batchOfNotificationsHasNoContent() throws IOException, InterruptedException {
+        HttpResponse<String> response = post("""
+                [{"jsonrpc": "2.0", "method": "echo", "params": ["notification"]}]""");
+
+        assertEquals(204, response.statusCode());
+        assertTrue(response.body().isEmpty());
+    }
+
+    @Test
+    void emptyBatchIsInvalid() throws IOException, InterruptedException {
+        HttpResponse<String> response = post("[]");
+
+        JsonNode error = mapper.readTree(response.body());
+        assertTrue(error.isObject());
+        assertEquals(JsonRpcError.Error.INVALID_REQUEST.getCode(), error.get("error").get("code").asInt());
+    }
+
+    @Test
+    void invalidBatchElementsGetErrors() throws IOException, InterruptedException {
+        HttpResponse<String> response = post("""
+                [1, {"jsonrpc": "2.0", "id": 2, "method": "echo", "params": ["two"]}, 3]""");
+
+        assertEquals(200, response.statusCode());
+        JsonNode responses = mapper.readTree(response.body());
+        assertEquals(3, responses.size());
+        assertEquals(JsonRpcError.Error.INVALID_REQUEST.getCode(), responses.get(0).get("error").get("code").asInt());
+        assertEquals("two", responses.get(1).get("result").asText());
+        assertEquals(JsonRpcError.Error.INVALID_REQUEST.getCode(), responses.get(2).get("error").get("code").asInt());
+    }
+
+    @Test
+    void unparseableBodyIsParseError() throws IOException, InterruptedException {
+        HttpResponse<String> response = post("""
+                [{"jsonrpc": "2.0", "method": "echo", "params": ["foo"]""");
+
+        assertEquals(400, response.statusCode());
+        JsonNode error = mapper.readTree(response.body());
+        assertEquals(JsonRpcError.Error.PARSE_ERROR.getCode(), error.get("error").get("code").asInt());
+    }
+
+    private HttpResponse<String> post(String body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(server.getURI())
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
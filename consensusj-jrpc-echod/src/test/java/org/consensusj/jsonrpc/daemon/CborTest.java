@@ -0,0 +1,162 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc.daemon;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micronaut.runtime.server.EmbeddedServer;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.consensusj.jsonrpc.CborSupport;
+import org.consensusj.jsonrpc.DefaultRpcClient;
+import org.consensusj.jsonrpc.JsonRpcClientJavaNet;
+import org.consensusj.jsonrpc.JsonRpcError;
+import org.consensusj.jsonrpc.JsonRpcMessage;
+import org.consensusj.jsonrpc.JsonRpcRequest;
+import org.consensusj.jsonrpc.JsonRpcResponse;
+import org.consensusj.jsonrpc.JsonRpcTransport;
+import org.consensusj.jsonrpc.metrics.JsonRpcMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test JSON-RPC over CBOR with the {@link JsonRpcController}
+ */
+@MicronautTest
+public class CborTest {
+    private static final ObjectMapper cborMapper = CborSupport.mapperFor(new ObjectMapper());
+
+    @Inject
+    EmbeddedServer server;
+
+    @Test
+    void cborRequestGetsCborResponse() throws IOException, InterruptedException {
+        ObjectMapper cborMapper = CborSupport.mapperFor(new ObjectMapper());
+        byte[] body = cborMapper.writeValueAsBytes(new JsonRpcRequest("echo", List.of("Hello CBOR")));
+        HttpRequest request = HttpRequest.newBuilder(server.getURI())
+                .header("Content-Type", CborSupport.MEDIA_TYPE)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+
+        HttpResponse<byte[]> response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofByteArray());
+
+        assertEquals(200, response.statusCode());
+        assertTrue(CborSupport.isCbor(response.headers().firstValue("Content-Type").orElse("")));
+        JavaType responseType = cborMapper.getTypeFactory().constructParametricType(JsonRpcResponse.class, String.class);
+        JsonRpcResponse<String> jsonRpcResponse = cborMapper.readValue(response.body(), responseType);
+        assertEquals("Hello CBOR", jsonRpcResponse.getResult());
+    }
+
+    @Test
+    void invalidCborRequestIsRejected() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(server.getURI())
+                .header("Content-Type", CborSupport.MEDIA_TYPE)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(new byte[] {(byte) 0xff, 0x00}))
+                .build();
+
+        HttpResponse<byte[]> response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofByteArray());
+
+        assertEquals(400, response.statusCode());
+        assertEquals(JsonRpcError.Error.PARSE_ERROR.getCode(), cborMapper.readTree(response.body()).get("error").get("code").asInt());
+    }
+
+    @Test
+    void cborClient() throws IOException {
+        URI uri = server.getURI();
+        try (var client = new DefaultRpcClient(m -> new JsonRpcClientJavaNet(m, JsonRpcTransport.getDefaultSSLContext(), uri, "", "",
+                JsonRpcMetrics.NOOP, HttpClient.Version.HTTP_1_1, JsonRpcClientJavaNet.Compression.NONE, JsonRpcClientJavaNet.Format.CBOR),
+                JsonRpcMessage.Version.V2)) {
+            String result = (String) client.send("echo", "Hello CBOR client");
+            assertEquals("Hello CBOR client", result);
+        }
+    }
+
+    @Test
+    void cborBatch() throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = postCbor("""
+                [
+                  {"jsonrpc": "2.0", "id": 1, "method": "echo", "params": ["one"]},
+                  {"jsonrpc": "2.0", "method": "echo", "params": ["notification"]},
+                  {"jsonrpc": "2.0", "id": 3, "method": "echo", "params": ["three"]}
+                ]""");
+
+        assertEquals(200, response.statusCode());
+        assertTrue(CborSupport.isCbor(response.headers().firstValue("Content-Type").orElse("")));
+        JsonNode responses = cborMapper.readTree(response.body());
+        assertEquals(2, responses.size());
+        assertEquals(1, responses.get(0).get("id").asInt());
+        assertEquals("one", responses.get(0).get("result").asText());
+        assertEquals(3, responses.get(1).get("id").asInt());
+        assertEquals("three", responses.get(1).get("result").asText());
+    }
+
+    @Test
+    void cborBatchOfNotificationsHasNoContent() throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = postCbor("""
+                [{"jsonrpc": "2.0", "method": "echo", "params": ["notification"]}]""");
+
+        assertEquals(204, response.statusCode());
+        assertEquals(0, response.body().length);
+    }
+
+    @Test
+    void emptyCborBatchIsInvalid() throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = postCbor("[]");
+
+        JsonNode error = cborMapper.readTree(response.body());
+        assertTrue(error.isObject());
+        assertEquals(JsonRpcError.Error.INVALID_REQUEST.getCode(), error.get("error").get("code").asInt());
+    }
+
+    @Test
+    void cborClientBatch() {
+        URI uri = server.getURI();
+        try (var client = new DefaultRpcClient(m -> new JsonRpcClientJavaNet(m, JsonRpcTransport.getDefaultSSLContext(), uri, "", "",
+                JsonRpcMetrics.NOOP, HttpClient.Version.HTTP_1_1, JsonRpcClientJavaNet.Compression.NONE, JsonRpcClientJavaNet.Format.CBOR),
+                JsonRpcMessage.Version.V2)) {
+            List<JsonRpcRequest> requests = IntStream.range(0, 5)
+                    .mapToObj(i -> client.buildJsonRequest("echo", "message " + i))
+                    .collect(Collectors.toList());
+            List<String> results = client.<String>sendBatchAsync(requests, client.responseTypeFor(String.class)).stream()
+                    .map(CompletableFuture::join)
+                    .map(JsonRpcResponse::getResult)
+                    .collect(Collectors.toList());
+            assertEquals(IntStream.range(0, 5).mapToObj(i -> "message " + i).collect(Collectors.toList()), results);
+        }
+    }
+
+    // POST a JSON document re-encoded as CBOR
+    private HttpResponse<byte[]> postCbor(String json) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(server.getURI())
+                .header("Content-Type", CborSupport.MEDIA_TYPE)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(cborMapper.writeValueAsBytes(new ObjectMapper().readTree(json))))
+                .build();
+        return HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc.daemon;
+
+import io.micronaut.context.annotation.Property;
+import io.micronaut.context.annotation.Replaces;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.runtime.server.EmbeddedServer;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.consensusj.jsonrpc.DefaultRpcClient;
+import org.consensusj.jsonrpc.JsonRpcClientWebSocket;
+import org.consensusj.jsonrpc.JsonRpcError;
+import org.consensusj.jsonrpc.JsonRpcMessage;
+import org.consensusj.jsonrpc.JsonRpcResponse;
+import org.consensusj.jsonrpc.introspection.DelegatingJsonRpcService;
+import org.consensusj.jsonrpc.services.EchoJsonRpcService;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test concurrent requests on one {@link EchoWebSocket} session with a service that has a slow method
+ */
+@Property(name = "spec.name", value = "EchoWebSocketTest")
+@Property(name = "jrpc-echod.websocket.max-in-flight", value = "2")
+@Property(name = "jrpc-echod.websocket.max-queued", value = "1")
+@MicronautTest
+public class EchoWebSocketTest {
+    @Inject
+    EmbeddedServer server;
+
+    @Requires(property = "spec.name", value = "EchoWebSocketTest")
+    @Replaces(EchoJsonRpcService.class)
+    @Singleton
+    static class DelayService extends DelegatingJsonRpcService {
+        DelayService() {
+            super(new Delays());
+        }
+    }
+
+    public static class Delays {
+        public CompletableFuture<String> delay(Integer millis, String message) {
+            return CompletableFuture.supplyAsync(() -> message, CompletableFuture.delayedExecutor(millis, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    private DefaultRpcClient webSocketClient() {
+        URI uri = URI.create("ws://localhost:" + server.getPort() + "/ws");
+        return new DefaultRpcClient(m -> new JsonRpcClientWebSocket(m, uri, "", ""), JsonRpcMessage.Version.V2);
+    }
+
+    private CompletableFuture<JsonRpcResponse<String>> delay(DefaultRpcClient client, int millis, String message) {
+        return client.sendRequestForResponseAsync(client.buildJsonRequest("delay", millis, message), client.responseTypeFor(String.class));
+    }
+
+    @Test
+    void slowRequestDoesNotDelayLaterRequests() {
+        try (var client = webSocketClient()) {
+            CompletableFuture<JsonRpcResponse<String>> slow = delay(client, 2_000, "slow");
+            JsonRpcResponse<String> fast = delay(client, 0, "fast").join();
+
+            assertEquals("fast", fast.getResult());
+            assertFalse(slow.isDone());
+            assertEquals("slow", slow.join().getResult());
+        }
+    }
+
+    @Test
+    void requestsBeyondQueueLimitAreRejected() {
+        try (var client = webSocketClient()) {
+            // Two in flight, one queued
+            CompletableFuture<JsonRpcResponse<String>> first = delay(client, 1_000, "1");
+            CompletableFuture<JsonRpcResponse<String>> second = delay(client, 1_000, "2");
+            CompletableFuture<JsonRpcResponse<String>> queued = delay(client, 0, "3");
+            JsonRpcResponse<String> rejected = delay(client, 0, "4").join();
+
+            assertNotNull(rejected.getError());
+            assertEquals(JsonRpcError.Error.SERVER_ERROR.getCode(), rejected.getError().getCode());
+            assertTrue(rejected.getError().getMessage().contains("Too many requests"));
+            assertEquals("3", queued.join().getResult());
+            assertEquals("1", first.join().getResult());
+            assertEquals("2", second.join().getResult());
+        }
+    }
+}
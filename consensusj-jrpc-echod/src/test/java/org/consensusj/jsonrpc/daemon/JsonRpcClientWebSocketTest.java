@@ -0,0 +1,114 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc.daemon;
+
+import io.micronaut.runtime.server.EmbeddedServer;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.consensusj.jsonrpc.DefaultRpcClient;
+import org.consensusj.jsonrpc.JsonRpcClientWebSocket;
+import org.consensusj.jsonrpc.JsonRpcError;
+import org.consensusj.jsonrpc.JsonRpcMessage;
+import org.consensusj.jsonrpc.JsonRpcNotification;
+import org.consensusj.jsonrpc.JsonRpcResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test {@link JsonRpcClientWebSocket} against the {@link EchoWebSocket} endpoint
+ */
+@MicronautTest
+public class JsonRpcClientWebSocketTest {
+    @Inject
+    EmbeddedServer server;
+
+    private DefaultRpcClient webSocketClient() {
+        URI uri = URI.create("ws://localhost:" + server.getPort() + "/ws");
+        return new DefaultRpcClient(m -> new JsonRpcClientWebSocket(m, uri, "", ""), JsonRpcMessage.Version.V2);
+    }
+
+    @Test
+    void echoMethod() throws IOException {
+        var testString  = "Hello jrpc-echod WebSocket!";
+        try (var client = webSocketClient()) {
+            String result = (String) client.send("echo", testString);
+            assertEquals(testString, result);
+        }
+    }
+
+    @Test
+    void subscribeToEchoNotifications() throws Exception {
+        URI uri = URI.create("ws://localhost:" + server.getPort() + "/ws");
+        AtomicReference<JsonRpcClientWebSocket> transport = new AtomicReference<>();
+        try (var client = new DefaultRpcClient(m -> {
+                    transport.set(new JsonRpcClientWebSocket(m, uri, "", ""));
+                    return transport.get();
+                }, JsonRpcMessage.Version.V2)) {
+            CompletableFuture<JsonRpcNotification> received = new CompletableFuture<>();
+            transport.get().notifications().subscribe(new Flow.Subscriber<>() {
+                @Override public void onSubscribe(Flow.Subscription subscription) { subscription.request(Long.MAX_VALUE); }
+                @Override public void onNext(JsonRpcNotification item) { received.complete(item); }
+                @Override public void onError(Throwable throwable) { received.completeExceptionally(throwable); }
+                @Override public void onComplete() { }
+            });
+
+            String subscriptionId = (String) client.send("subscribe", NotificationTopics.ECHO);
+            client.send("echo", "pushed");
+            JsonRpcNotification notification = received.get(10, TimeUnit.SECONDS);
+
+            assertEquals(EchoWebSocket.SUBSCRIPTION, notification.getMethod());
+            assertEquals(List.of(subscriptionId, "pushed"), notification.getParams());
+            assertEquals(Boolean.TRUE, client.send("unsubscribe", subscriptionId));
+            assertEquals(Boolean.FALSE, client.send("unsubscribe", subscriptionId));
+        }
+    }
+
+    @Test
+    void subscribeToUnknownTopicFails() {
+        try (var client = webSocketClient()) {
+            JsonRpcResponse<String> response = client.<String>sendRequestForResponseAsync(client.buildJsonRequest("subscribe", "nosuchtopic"),
+                    client.responseTypeFor(String.class)).join();
+            assertEquals(JsonRpcError.Error.INVALID_PARAMS.getCode(), response.getError().getCode());
+        }
+    }
+
+    @Test
+    void concurrentRequestsAreMultiplexed() {
+        try (var client = webSocketClient()) {
+            List<CompletableFuture<JsonRpcResponse<String>>> futures = IntStream.range(0, 50)
+                    .mapToObj(i -> client.<String>sendRequestForResponseAsync(client.buildJsonRequest("echo", "message " + i), client.responseTypeFor(String.class)))
+                    .collect(Collectors.toList());
+            List<String> results = futures.stream()
+                    .map(f -> f.join().getResult())
+                    .collect(Collectors.toList());
+            List<String> expected = IntStream.range(0, 50)
+                    .mapToObj(i -> "message " + i)
+                    .collect(Collectors.toList());
+            assertEquals(expected, results);
+        }
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc.benchmarks;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import org.bitcoinj.base.BitcoinNetwork;
+import org.bitcoinj.base.Sha256Hash;
+import org.bitcoinj.base.VarInt;
+import org.bitcoinj.core.Block;
+import org.bitcoinj.core.NetworkParameters;
+import org.consensusj.bitcoin.json.conversion.HexUtil;
+import org.consensusj.bitcoin.json.conversion.RpcClientModule;
+import org.consensusj.bitcoin.json.pojo.BlockChainInfo;
+import org.consensusj.bitcoin.json.pojo.BlockInfo;
+import org.consensusj.bitcoin.json.pojo.UnspentOutput;
+import org.consensusj.jsonrpc.JsonRpcResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Representative JSON-RPC results from {@code bitcoind}, with the request parameters and the Java result type
+ * that {@code BitcoinClient} uses for each.
+ * <p>
+ * The payloads are synthetic but have realistic sizes and shapes: the blocks have {@value #BLOCK_TX_COUNT} transactions
+ * and the wallet has {@value #UNSPENT_COUNT} unspent outputs. {@code getblock} with verbosity 2 has no POJO, so it is read as
+ * a {@link JsonNode} tree.
+ */
+public enum Payload {
+    GETBLOCK_V0("getblock", List.of(hash(0), 0), tf -> tf.constructType(Block.class)),
+    GETBLOCK_V1("getblock", List.of(hash(0), 1), tf -> tf.constructType(BlockInfo.class)),
+    GETBLOCK_V2("getblock", List.of(hash(0), 2), tf -> tf.constructType(JsonNode.class)),
+    LISTUNSPENT("listunspent", List.of(), tf -> tf.constructCollectionType(List.class, UnspentOutput.class)),
+    GETBLOCKCHAININFO("getblockchaininfo", List.of(), tf -> tf.constructType(BlockChainInfo.class));
+
+    static final int BLOCK_TX_COUNT = 2000;
+    static final int UNSPENT_COUNT = 500;
+    private static final JsonNodeFactory nodes = JsonNodeFactory.instance;
+    private static final String ADDRESS = "bc1qw508d6qejxtdg4y5r3zarvary0c5xw7kv8f3t4";
+
+    private final String method;
+    private final List<Object> params;
+    private final Function<TypeFactory, JavaType> resultType;
+    private byte[] resultJson;
+
+    Payload(String method, List<Object> params, Function<TypeFactory, JavaType> resultType) {
+        this.method = method;
+        this.params = params;
+        this.resultType = resultType;
+    }
+
+    public String method() {
+        return method;
+    }
+
+    public List<Object> params() {
+        return params;
+    }
+
+    /**
+     * @param mapper mapper to get a {@code TypeFactory} from
+     * @return the type of the {@link JsonRpcResponse} for this payload
+     */
+    public JavaType responseType(ObjectMapper mapper) {
+        return mapper.getTypeFactory().constructParametricType(JsonRpcResponse.class, resultType.apply(mapper.getTypeFactory()));
+    }
+
+    /**
+     * @return the JSON-RPC {@code result} member, as UTF-8 JSON
+     */
+    public synchronized byte[] resultJson() {
+        if (resultJson == null) {
+            try {
+                resultJson = new ObjectMapper().writeValueAsBytes(createResult());
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return resultJson;
+    }
+
+    /**
+     * @param id JSON-RPC request id
+     * @return a complete JSON-RPC response, as UTF-8 JSON
+     */
+    public byte[] responseJson(String id) {
+        byte[] prefix = ("{\"jsonrpc\":\"2.0\",\"id\":" + id + ",\"result\":").getBytes();
+        byte[] result = resultJson();
+        byte[] response = Arrays.copyOf(prefix, prefix.length + result.length + 1);
+        System.arraycopy(result, 0, response, prefix.length, result.length);
+        response[response.length - 1] = '}';
+        return response;
+    }
+
+    /**
+     * Find the payload for a request (used by the stub server)
+     * @param method method name
+     * @param params request params
+     * @return the matching payload
+     */
+    static Payload forRequest(String method, JsonNode params) {
+        if (method.equals("getblock")) {
+            switch (params.path(1).asInt(1)) {
+                case 0: return GETBLOCK_V0;
+                case 2: return GETBLOCK_V2;
+                default: return GETBLOCK_V1;
+            }
+        }
+        return Arrays.stream(values())
+                .filter(p -> p.method.equals(method))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("No payload for method: " + method));
+    }
+
+    /**
+     * @return an {@code ObjectMapper} configured like the one in {@code BitcoinClient}
+     */
+    static ObjectMapper bitcoinMapper() {
+        return new ObjectMapper()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .registerModule(new RpcClientModule());
+    }
+
+    private JsonNode createResult() {
+        switch (this) {
+            case GETBLOCK_V0: return nodes.textNode(HexUtil.bytesToHexString(blockBytes()));
+            case GETBLOCK_V1: return blockInfo(false);
+            case GETBLOCK_V2: return blockInfo(true);
+            case LISTUNSPENT: return listUnspent();
+            case GETBLOCKCHAININFO: return blockChainInfo();
+            default: throw new IllegalStateException();
+        }
+    }
+
+    // A block with the mainnet genesis header and BLOCK_TX_COUNT copies of its coinbase transaction
+    private static byte[] blockBytes() {
+        Block genesis = NetworkParameters.of(BitcoinNetwork.MAINNET).getGenesisBlock();
+        byte[] tx = genesis.getTransactions().get(0).serialize();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(genesis.serialize(), 0, Block.HEADER_SIZE);
+        out.writeBytes(VarInt.of(BLOCK_TX_COUNT).serialize());
+        for (int i = 0; i < BLOCK_TX_COUNT; i++) {
+            out.writeBytes(tx);
+        }
+        byte[] bytes = out.toByteArray();
+        Block.read(ByteBuffer.wrap(bytes));     // Make sure it parses
+        return bytes;
+    }
+
+    private static ObjectNode blockInfo(boolean withTransactions) {
+        ObjectNode block = nodes.objectNode()
+                .put("hash", hash(0))
+                .put("confirmations", 10)
+                .put("size", 1_600_000)
+                .put("strippedsize", 800_000)
+                .put("weight", 3_993_000)
+                .put("height", 850_000)
+                .put("version", 0x20000000)
+                .put("versionHex", "20000000")
+                .put("merkleroot", hash(1))
+                .put("time", 1_718_000_000L)
+                .put("mediantime", 1_717_998_000L)
+                .put("nonce", 3_000_000_000L)
+                .put("bits", "17034219")
+                .put("difficulty", new BigDecimal("83148355189239.77"))
+                .put("chainwork", "00000000000000000000000000000000000000007e5dbf54c7f6b58a6853cd6e")
+                .put("nTx", BLOCK_TX_COUNT)
+                .put("previousblockhash", hash(2))
+                .put("nextblockhash", hash(3));
+        ArrayNode txs = block.putArray("tx");
+        for (int i = 0; i < BLOCK_TX_COUNT; i++) {
+            txs.add(withTransactions ? transaction(i) : nodes.textNode(hash(1000 + i)));
+        }
+        return block;
+    }
+
+    // A typical 1-input, 2-output P2WPKH transaction
+    private static ObjectNode transaction(int i) {
+        ObjectNode tx = nodes.objectNode()
+                .put("txid", hash(1000 + i))
+                .put("hash", hash(100_000 + i))
+                .put("version", 2)
+                .put("size", 222)
+                .put("vsize", 141)
+                .put("weight", 561)
+                .put("locktime", 0);
+        ObjectNode in = tx.putArray("vin").addObject()
+                .put("txid", hash(200_000 + i))
+                .put("vout", 1);
+        in.putObject("scriptSig").put("asm", "").put("hex", "");
+        in.putArray("txinwitness").add(hex(72, i)).add(hex(33, i));
+        in.put("sequence", 4294967293L);
+        ArrayNode vout = tx.putArray("vout");
+        for (int n = 0; n < 2; n++) {
+            ObjectNode out = vout.addObject()
+                    .put("value", new BigDecimal("0.01234567"))
+                    .put("n", n);
+            out.putObject("scriptPubKey")
+                    .put("asm", "0 " + hex(20, i + n))
+                    .put("desc", "addr(" + ADDRESS + ")#8zl0zxma")
+                    .put("hex", "0014" + hex(20, i + n))
+                    .put("address", ADDRESS)
+                    .put("type", "witness_v0_keyhash");
+        }
+        tx.put("fee", new BigDecimal("0.00000705"));
+        tx.put("hex", hex(222, i));
+        return tx;
+    }
+
+    private static ArrayNode listUnspent() {
+        ArrayNode utxos = nodes.arrayNode();
+        for (int i = 0; i < UNSPENT_COUNT; i++) {
+            ObjectNode utxo = utxos.addObject()
+                    .put("txid", hash(300_000 + i))
+                    .put("vout", i % 4)
+                    .put("address", ADDRESS)
+                    .put("label", "")
+                    .put("scriptPubKey", "0014751e76e8199196d454941c45d1b3a323f1433bd6")
+                    .put("amount", new BigDecimal("0.05000000"))
+                    .put("confirmations", 100 + i)
+                    .put("spendable", true)
+                    .put("solvable", true)
+                    .put("desc", "wpkh([d6043800/0'/0'/18']03efdee34c0009fd175f3b20b5e5a5517fd5d16746f2e635b44617adafeaebc388)#4ahsl9pk")
+                    .put("safe", true);
+            utxo.putArray("parent_descs");
+        }
+        return utxos;
+    }
+
+    private static ObjectNode blockChainInfo() {
+        ObjectNode info = nodes.objectNode()
+                .put("chain", "main")
+                .put("blocks", 850_000)
+                .put("headers", 850_000)
+                .put("bestblockhash", hash(0))
+                .put("difficulty", new BigDecimal("83148355189239.77"))
+                .put("time", 1_718_000_000L)
+                .put("mediantime", 1_717_998_000L)
+                .put("verificationprogress", new BigDecimal("0.9999985"))
+                .put("initialblockdownload", false)
+                .put("chainwork", "00000000000000000000000000000000000000007e5dbf54c7f6b58a6853cd6e")
+                .put("size_on_disk", 650_000_000_000L)
+                .put("pruned", false);
+        info.putArray("warnings");
+        return info;
+    }
+
+    private static String hash(int n) {
+        return Sha256Hash.of(ByteBuffer.allocate(4).putInt(n).array()).toString();
+    }
+
+    private static String hex(int length, int seed) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (seed * 31 + i);
+        }
+        return HexUtil.bytesToHexString(bytes);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc.benchmarks;
+
+import com.fasterxml.jackson.databind.JavaType;
+import org.consensusj.bitcoin.json.conversion.RpcClientModule;
+import org.consensusj.jsonrpc.DefaultRpcClient;
+import org.consensusj.jsonrpc.JsonRpcClientHttpUrlConnection;
+import org.consensusj.jsonrpc.JsonRpcClientJavaNet;
+import org.consensusj.jsonrpc.JsonRpcMessage;
+import org.consensusj.jsonrpc.JsonRpcResponse;
+import org.consensusj.jsonrpc.JsonRpcTransport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end calls (request serialization, HTTP over loopback, response deserialization) against a
+ * {@link StubJsonRpcServer}, for each HTTP transport.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoundTripBenchmark {
+    public enum Transport { JAVA_NET, HTTP_URL_CONNECTION }
+
+    @Param
+    Transport transport;
+
+    @Param
+    Payload payload;
+
+    private StubJsonRpcServer server;
+    private DefaultRpcClient client;
+    private JavaType responseType;
+
+    @Setup
+    public void setup() throws Exception {
+        server = new StubJsonRpcServer();
+        URI uri = server.getURI();
+        DefaultRpcClient.TransportFactory factory = transport == Transport.JAVA_NET
+                ? m -> new JsonRpcClientJavaNet(m, JsonRpcTransport.getDefaultSSLContext(), uri, "", "")
+                : m -> new JsonRpcClientHttpUrlConnection(m, JsonRpcTransport.getDefaultSSLContext(), uri, "", "");
+        client = new DefaultRpcClient(factory, JsonRpcMessage.Version.V2);
+        client.getMapper().registerModule(new RpcClientModule());
+        responseType = payload.responseType(client.getMapper());
+        // Fail fast if the payload doesn't round-trip
+        if (roundTrip().getResult() == null) {
+            throw new IllegalStateException("No result for " + payload);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+        server.close();
+    }
+
+    @Benchmark
+    public JsonRpcResponse<?> roundTrip() {
+        return client.sendRequestForResponseAsync(client.buildJsonRequest(payload.method(), payload.params()), responseType).join();
+    }
+}
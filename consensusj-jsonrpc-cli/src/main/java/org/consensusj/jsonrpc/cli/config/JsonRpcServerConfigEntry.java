@@ -19,6 +19,11 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.net.URI;
 
+/**
+ * A server entry in the configuration file. The {@code uri} may be an {@code http:} or {@code https:} URI,
+ * or a {@code unix:} URI (e.g. {@code unix:///home/user/jrpc-echod-http.socket}) for a server that
+ * serves HTTP on a UNIX domain socket.
+ */
 public class JsonRpcServerConfigEntry {
     private final String bitcoinNetwork;
     private final URI uri;
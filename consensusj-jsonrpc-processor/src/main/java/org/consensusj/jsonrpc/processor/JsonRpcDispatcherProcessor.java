@@ -0,0 +1,368 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Generates a {@code JsonRpcDispatcher} for each concrete subclass of {@code AbstractJsonRpcService}.
+ * <p>
+ * For a service class {@code com.example.FooService} the processor writes {@code com.example.FooServiceDispatcher}
+ * (nested service classes get {@code Outer_InnerDispatcher}.) The generated dispatcher switches on the JSON-RPC
+ * method name and calls the service method directly, converting each of the {@code params} with a
+ * {@code ParamConverters} method chosen for the parameter type at compile-time. The service passes an instance of
+ * the generated class to the {@code AbstractJsonRpcService(JsonRpcDispatcher)} constructor, so no reflection is
+ * needed at runtime (or configured for GraalVM native images.)
+ * <p>
+ * The same methods are dispatched as by {@code JsonRpcServiceWrapper.reflect(Class)}: public instance methods that
+ * return {@code CompletableFuture} or are annotated with {@code @Blocking}. Methods of the JSON-RPC framework
+ * interfaces and classes (e.g. {@code JsonRpcService.call}) are not dispatched. Services with overloaded JSON-RPC
+ * methods or type parameters are skipped with a warning.
+ */
+@SupportedAnnotationTypes("*")
+public class JsonRpcDispatcherProcessor extends AbstractProcessor {
+    static final String SERVICE_CLASS = "org.consensusj.jsonrpc.introspection.AbstractJsonRpcService";
+    static final String BLOCKING_ANNOTATION = "org.consensusj.jsonrpc.introspection.Blocking";
+    static final String NULL_UNMARKED = "org.jspecify.annotations.NullUnmarked";
+    static final String DISPATCHER_SUFFIX = "Dispatcher";
+    private static final String FUTURE_CLASS = "java.util.concurrent.CompletableFuture";
+    // Methods declared in these types are part of the service framework, not JSON-RPC methods
+    private static final Set<String> FRAMEWORK_TYPES = Set.of(
+            "java.lang.Object",
+            "java.lang.AutoCloseable",
+            "java.io.Closeable",
+            "org.consensusj.jsonrpc.JsonRpcService",
+            "org.consensusj.jsonrpc.introspection.JsonRpcServiceWrapper",
+            SERVICE_CLASS);
+
+    private Elements elements;
+    private Types types;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        elements = processingEnv.getElementUtils();
+        types = processingEnv.getTypeUtils();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement serviceClass = elements.getTypeElement(SERVICE_CLASS);
+        if (serviceClass == null) {
+            // consensusj-jsonrpc is not on the classpath, nothing to do
+            return false;
+        }
+        TypeMirror serviceType = types.erasure(serviceClass.asType());
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            processType(type, serviceType);
+        }
+        return false;
+    }
+
+    private void processType(TypeElement type, TypeMirror serviceType) {
+        if (isService(type, serviceType)) {
+            List<ExecutableElement> methods = jsonRpcMethods(type);
+            if (!methods.isEmpty()) {
+                generate(type, methods);
+            }
+        }
+        for (TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+            if (nested.getModifiers().contains(Modifier.STATIC)) {
+                processType(nested, serviceType);
+            }
+        }
+    }
+
+    private boolean isService(TypeElement type, TypeMirror serviceType) {
+        if (type.getKind() != ElementKind.CLASS
+                || type.getModifiers().contains(Modifier.ABSTRACT)
+                || type.getModifiers().contains(Modifier.PRIVATE)
+                || !types.isSubtype(types.erasure(type.asType()), serviceType)) {
+            return false;
+        }
+        if (!type.getTypeParameters().isEmpty()) {
+            warn(type, "Not generating JSON-RPC dispatcher for generic class " + type.getQualifiedName());
+            return false;
+        }
+        return true;
+    }
+
+    // Find the JSON-RPC methods, sorted by name. An empty list is returned if the service can't be dispatched.
+    private List<ExecutableElement> jsonRpcMethods(TypeElement type) {
+        TypeMirror future = types.erasure(elements.getTypeElement(FUTURE_CLASS).asType());
+        TreeMap<String, ExecutableElement> methods = new TreeMap<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(type))) {
+            TypeElement declaringType = (TypeElement) method.getEnclosingElement();
+            if (!method.getModifiers().contains(Modifier.PUBLIC)
+                    || method.getModifiers().contains(Modifier.STATIC)
+                    || FRAMEWORK_TYPES.contains(declaringType.getQualifiedName().toString())
+                    || !(types.isSameType(types.erasure(method.getReturnType()), future) || isBlockingAnnotated(method))) {
+                continue;
+            }
+            String name = method.getSimpleName().toString();
+            if (methods.putIfAbsent(name, method) != null) {
+                warn(type, "Not generating JSON-RPC dispatcher for " + type.getQualifiedName() + ", method " + name + " is overloaded");
+                return List.of();
+            }
+        }
+        return new ArrayList<>(methods.values());
+    }
+
+    private void generate(TypeElement type, List<ExecutableElement> methods) {
+        PackageElement pkg = elements.getPackageOf(type);
+        String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        String serviceName = type.getQualifiedName().toString();
+        String simpleName = (packageName.isEmpty() ? serviceName : serviceName.substring(packageName.length() + 1))
+                .replace('.', '_') + DISPATCHER_SUFFIX;
+        String source = new DispatcherWriter(packageName, simpleName, serviceName, methods).write();
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(
+                    packageName.isEmpty() ? simpleName : packageName + "." + simpleName, type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source);
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Can't write JSON-RPC dispatcher " + simpleName + ": " + e.getMessage(), type);
+        }
+    }
+
+    private boolean isBlockingAnnotated(ExecutableElement method) {
+        for (AnnotationMirror annotation : method.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().contentEquals(BLOCKING_ANNOTATION)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void warn(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, message, element);
+    }
+
+    /**
+     * Writes the source of one dispatcher class
+     */
+    private final class DispatcherWriter {
+        private final String packageName;
+        private final String simpleName;
+        private final String serviceName;
+        private final List<ExecutableElement> methods;
+        private final StringBuilder out = new StringBuilder();
+        private boolean unchecked = false;
+
+        DispatcherWriter(String packageName, String simpleName, String serviceName, List<ExecutableElement> methods) {
+            this.packageName = packageName;
+            this.simpleName = simpleName;
+            this.serviceName = serviceName;
+            this.methods = methods;
+        }
+
+        String write() {
+            StringBuilder cases = new StringBuilder();
+            for (int id = 0; id < methods.size(); id++) {
+                writeCase(cases, id, methods.get(id));
+            }
+            if (!packageName.isEmpty()) {
+                out.append("package ").append(packageName).append(";\n\n");
+            }
+            out.append("import org.consensusj.jsonrpc.introspection.JsonRpcDispatcher;\n")
+                    .append("import org.consensusj.jsonrpc.introspection.MethodDispatcher;\n")
+                    .append("import org.consensusj.jsonrpc.introspection.ParamConverters;\n\n")
+                    .append("import java.util.List;\n")
+                    .append("import java.util.Set;\n\n")
+                    .append("/**\n")
+                    .append(" * JSON-RPC dispatcher for {@link ").append(serviceName).append("}.\n")
+                    .append(" * Generated by ").append(JsonRpcDispatcherProcessor.class.getName()).append(", do not edit.\n")
+                    .append(" */\n");
+            if (elements.getTypeElement(NULL_UNMARKED) != null) {
+                out.append('@').append(NULL_UNMARKED).append('\n');
+            }
+            // Futures are returned to the caller, not ignored
+            out.append(unchecked
+                    ? "@SuppressWarnings({\"unchecked\", \"FutureReturnValueIgnored\"})\n"
+                    : "@SuppressWarnings(\"FutureReturnValueIgnored\")\n");
+            out.append("public final class ").append(simpleName).append(" implements JsonRpcDispatcher<").append(serviceName).append("> {\n")
+                    .append("    private static final Set<String> METHOD_NAMES = Set.of(")
+                    .append(methods.stream().map(m -> quote(m.getSimpleName().toString())).collect(Collectors.joining(", ")))
+                    .append(");\n\n")
+                    .append("    @Override\n")
+                    .append("    public Set<String> methodNames() {\n")
+                    .append("        return METHOD_NAMES;\n")
+                    .append("    }\n\n")
+                    .append("    @Override\n")
+                    .append("    public MethodDispatcher dispatcher(").append(serviceName).append(" service, String methodName) {\n")
+                    .append("        switch (methodName) {\n");
+            for (int id = 0; id < methods.size(); id++) {
+                ExecutableElement method = methods.get(id);
+                out.append("            case ").append(quote(method.getSimpleName().toString())).append(": return new Call(service, ")
+                        .append(id).append(", ").append(isBlocking(method)).append(");\n");
+            }
+            out.append("            default: return null;\n")
+                    .append("        }\n")
+                    .append("    }\n\n")
+                    .append("    private static final class Call implements MethodDispatcher {\n")
+                    .append("        private final ").append(serviceName).append(" service;\n")
+                    .append("        private final int id;\n")
+                    .append("        private final boolean blocking;\n\n")
+                    .append("        Call(").append(serviceName).append(" service, int id, boolean blocking) {\n")
+                    .append("            this.service = service;\n")
+                    .append("            this.id = id;\n")
+                    .append("            this.blocking = blocking;\n")
+                    .append("        }\n\n")
+                    .append("        @Override\n")
+                    .append("        public boolean isBlocking() {\n")
+                    .append("            return blocking;\n")
+                    .append("        }\n\n")
+                    .append("        @Override\n")
+                    .append("        public Object invoke(List<Object> params) throws Throwable {\n")
+                    .append("            switch (id) {\n")
+                    .append(cases)
+                    .append("                default:\n")
+                    .append("                    throw new AssertionError(id);\n")
+                    .append("            }\n")
+                    .append("        }\n")
+                    .append("    }\n")
+                    .append("}\n");
+            return out.toString();
+        }
+
+        private void writeCase(StringBuilder cases, int id, ExecutableElement method) {
+            String name = method.getSimpleName().toString();
+            List<? extends VariableElement> parameters = method.getParameters();
+            List<String> args = new ArrayList<>();
+            for (int i = 0; i < parameters.size(); i++) {
+                args.add(converter(parameters.get(i).asType(), i, name));
+            }
+            String call = "service." + name + "(" + String.join(",\n                            ", args) + ")";
+            cases.append("                case ").append(id).append(":\n")
+                    .append("                    ParamConverters.checkArity(params, ").append(parameters.size()).append(");\n");
+            if (method.getReturnType().getKind() == TypeKind.VOID) {
+                cases.append("                    ").append(call).append(";\n")
+                        .append("                    return null;\n");
+            } else {
+                cases.append("                    return ").append(call).append(";\n");
+            }
+        }
+
+        // Expression that converts params[index] to the parameter type
+        private String converter(TypeMirror type, int index, String methodName) {
+            String tail = "(params, " + index + ", " + quote(methodName) + ")";
+            if (type.getKind().isPrimitive()) {
+                String primitive = type.getKind().name().toLowerCase(Locale.ROOT);
+                return "ParamConverters.to" + Character.toUpperCase(primitive.charAt(0)) + primitive.substring(1) + tail;
+            }
+            String erasure = typeName(types.erasure(type));
+            String ref = "ParamConverters.ref(params, " + index + ", " + erasure + ".class, " + quote(methodName) + ")";
+            String generic = typeName(type);
+            if (generic == null || generic.equals(erasure)) {
+                return ref;
+            }
+            unchecked = true;
+            return "(" + generic + ") " + ref;
+        }
+
+        private boolean isBlocking(ExecutableElement method) {
+            return isBlockingAnnotated(method)
+                    || !types.isSameType(types.erasure(method.getReturnType()), types.erasure(elements.getTypeElement(FUTURE_CLASS).asType()));
+        }
+    }
+
+    // Source name of a type without type annotations, or null if it can't be written outside the service (e.g. it has type variables)
+    private String typeName(TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+            case CHAR:
+            case FLOAT:
+            case DOUBLE:
+                return type.getKind().name().toLowerCase(Locale.ROOT);
+            case ARRAY:
+                String component = typeName(((ArrayType) type).getComponentType());
+                return component != null ? component + "[]" : null;
+            case DECLARED:
+                DeclaredType declared = (DeclaredType) type;
+                String name = ((TypeElement) declared.asElement()).getQualifiedName().toString();
+                if (declared.getTypeArguments().isEmpty()) {
+                    return name;
+                }
+                List<String> arguments = new ArrayList<>();
+                for (TypeMirror argument : declared.getTypeArguments()) {
+                    String argumentName = typeName(argument);
+                    if (argumentName == null) {
+                        return null;
+                    }
+                    arguments.add(argumentName);
+                }
+                return name + "<" + String.join(", ", arguments) + ">";
+            case WILDCARD:
+                WildcardType wildcard = (WildcardType) type;
+                if (wildcard.getExtendsBound() != null) {
+                    String bound = typeName(wildcard.getExtendsBound());
+                    return bound != null ? "? extends " + bound : null;
+                } else if (wildcard.getSuperBound() != null) {
+                    String bound = typeName(wildcard.getSuperBound());
+                    return bound != null ? "? super " + bound : null;
+                }
+                return "?";
+            default:
+                return null;
+        }
+    }
+
+    private static String quote(String s) {
+        return '"' + s + '"';
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc.processor
+
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import javax.tools.Diagnostic
+import javax.tools.DiagnosticCollector
+import javax.tools.JavaCompiler
+import javax.tools.JavaFileObject
+import javax.tools.SimpleJavaFileObject
+import javax.tools.StandardJavaFileManager
+import javax.tools.StandardLocation
+import javax.tools.ToolProvider
+import java.nio.file.Files
+import java.nio.file.Path
+
+/**
+ * Compile sample services with {@link JsonRpcDispatcherProcessor} and check the dispatchers it generates (or skips)
+ */
+class JsonRpcDispatcherProcessorSpec extends Specification {
+    @TempDir
+    Path outputDir
+
+    List<Diagnostic<? extends JavaFileObject>> diagnostics
+
+    def "dispatcher is generated for public future-returning and @Blocking methods"() {
+        when:
+        boolean success = compile("test.SampleService", """
+            package test;
+
+            import org.consensusj.jsonrpc.introspection.AbstractJsonRpcService;
+            import org.consensusj.jsonrpc.introspection.Blocking;
+            import java.util.List;
+            import java.util.Map;
+            import java.util.concurrent.CompletableFuture;
+
+            public class SampleService extends AbstractJsonRpcService {
+                public SampleService() {
+                    super(Map.of());
+                }
+
+                @Override
+                public void close() {
+                }
+
+                public CompletableFuture<Integer> add(int a, int b) {
+                    return result(a + b);
+                }
+
+                public CompletableFuture<Integer> sum(List<Integer> values) {
+                    return result(values.stream().mapToInt(Integer::intValue).sum());
+                }
+
+                @Blocking
+                public String hello() {
+                    return "hello";
+                }
+
+                public String notDispatched() {
+                    return "not a JSON-RPC method";
+                }
+
+                CompletableFuture<String> notPublic() {
+                    return result("not public");
+                }
+
+                public static CompletableFuture<String> notInstance() {
+                    return CompletableFuture.completedFuture("static");
+                }
+            }
+            """)
+        String dispatcher = generated("test/SampleServiceDispatcher.java")
+
+        then:
+        success
+        processorWarnings() == []
+        dispatcher != null
+        dispatcher.contains('Set.of("add", "hello", "sum")')
+        dispatcher.contains('case "hello": return new Call(service, 1, true);')
+        dispatcher.contains('case "add": return new Call(service, 0, false);')
+        dispatcher.contains('(java.util.List<java.lang.Integer>) ParamConverters.ref(params, 0, java.util.List.class, "sum")')
+    }
+
+    def "methods of the framework types are not dispatched"() {
+        when:
+        boolean success = compile("test.FrameworkService", """
+            package test;
+
+            import org.consensusj.jsonrpc.introspection.AbstractJsonRpcService;
+            import java.util.Map;
+            import java.util.concurrent.CompletableFuture;
+
+            public class FrameworkService extends AbstractJsonRpcService {
+                public FrameworkService() {
+                    super(Map.of());
+                }
+
+                public CompletableFuture<String> echo(String message) {
+                    return result(message);
+                }
+
+                @Override
+                public void close() {
+                }
+            }
+            """)
+        String dispatcher = generated("test/FrameworkServiceDispatcher.java")
+
+        then: "call, callBatch, close and the service framework's own methods are left out"
+        success
+        dispatcher != null
+        dispatcher.contains('Set.of("echo")')
+        !dispatcher.contains('"call"')
+        !dispatcher.contains('"callBatch"')
+        !dispatcher.contains('"close"')
+    }
+
+    def "service with overloaded methods is skipped with a warning"() {
+        when:
+        boolean success = compile("test.OverloadedService", """
+            package test;
+
+            import org.consensusj.jsonrpc.introspection.AbstractJsonRpcService;
+            import java.util.Map;
+            import java.util.concurrent.CompletableFuture;
+
+            public class OverloadedService extends AbstractJsonRpcService {
+                public OverloadedService() {
+                    super(Map.of());
+                }
+
+                @Override
+                public void close() {
+                }
+
+                public CompletableFuture<Integer> add(int a, int b) {
+                    return result(a + b);
+                }
+
+                public CompletableFuture<Integer> add(int a, int b, int c) {
+                    return result(a + b + c);
+                }
+            }
+            """)
+
+        then:
+        success
+        generated("test/OverloadedServiceDispatcher.java") == null
+        processorWarnings().any { it.contains("test.OverloadedService") && it.contains("method add is overloaded") }
+    }
+
+    def "generic service is skipped with a warning"() {
+        when:
+        boolean success = compile("test.GenericService", """
+            package test;
+
+            import org.consensusj.jsonrpc.introspection.AbstractJsonRpcService;
+            import java.util.Map;
+            import java.util.concurrent.CompletableFuture;
+
+            public class GenericService<T> extends AbstractJsonRpcService {
+                public GenericService() {
+                    super(Map.of());
+                }
+
+                @Override
+                public void close() {
+                }
+
+                public CompletableFuture<T> identity(T value) {
+                    return result(value);
+                }
+            }
+            """)
+
+        then:
+        success
+        generated("test/GenericServiceDispatcher.java") == null
+        processorWarnings().any { it.contains("generic class test.GenericService") }
+    }
+
+    def "nested service gets an Outer_Inner dispatcher"() {
+        when:
+        boolean success = compile("test.Outer", """
+            package test;
+
+            import org.consensusj.jsonrpc.introspection.AbstractJsonRpcService;
+            import java.util.Map;
+            import java.util.concurrent.CompletableFuture;
+
+            public class Outer {
+                public static class InnerService extends AbstractJsonRpcService {
+                    public InnerService() {
+                        super(Map.of());
+                    }
+
+                    @Override
+                    public void close() {
+                    }
+
+                    public CompletableFuture<String> ping() {
+                        return result("pong");
+                    }
+                }
+            }
+            """)
+
+        then:
+        success
+        generated("test/Outer_InnerServiceDispatcher.java")?.contains("implements JsonRpcDispatcher<test.Outer.InnerService>")
+    }
+
+    // Compile one source file with the processor, with generated sources and classes written to outputDir
+    private boolean compile(String className, String source) {
+        JavaCompiler compiler = ToolProvider.systemJavaCompiler
+        DiagnosticCollector<JavaFileObject> collector = new DiagnosticCollector<>()
+        StandardJavaFileManager fileManager = compiler.getStandardFileManager(collector, null, null)
+        fileManager.setLocationFromPaths(StandardLocation.CLASS_OUTPUT, [outputDir])
+        fileManager.setLocationFromPaths(StandardLocation.SOURCE_OUTPUT, [outputDir])
+        JavaFileObject file = new SimpleJavaFileObject(URI.create("string:///${className.replace('.', '/')}.java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source.stripIndent()
+            }
+        }
+        JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, collector,
+                ["-classpath", System.getProperty("java.class.path")], null, [file])
+        task.setProcessors([new JsonRpcDispatcherProcessor()])
+        boolean success = task.call()
+        fileManager.close()
+        diagnostics = collector.diagnostics
+        return success
+    }
+
+    private String generated(String path) {
+        Path file = outputDir.resolve(path)
+        return Files.exists(file) ? Files.readString(file) : null
+    }
+
+    private List<String> processorWarnings() {
+        return diagnostics.findAll { it.kind == Diagnostic.Kind.WARNING }
+                .collect { it.getMessage(Locale.ROOT) }
+                .findAll { it.contains("JSON-RPC dispatcher") }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Base class for {@link ConcurrencyLimiter} implementations. Keeps track of in-flight calls and queues
+ * (in FIFO order) callers that are waiting for a permit. Subclasses provide the limit and may adjust it
+ * each time a call completes by overriding {@link #onRelease(long, Throwable)}.
+ */
+public abstract class AbstractConcurrencyLimiter implements ConcurrencyLimiter {
+    private final int maxQueueSize;
+    // Guarded by `this`
+    private final Deque<CompletableFuture<Permit>> waiting = new ArrayDeque<>();
+    private int inFlight = 0;
+
+    /**
+     * @param maxQueueSize Maximum number of callers waiting for a permit, additional callers are rejected
+     */
+    protected AbstractConcurrencyLimiter(int maxQueueSize) {
+        if (maxQueueSize < 0) {
+            throw new IllegalArgumentException("maxQueueSize must not be negative");
+        }
+        this.maxQueueSize = maxQueueSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the queue of waiting callers is full the returned future fails with {@link RejectedExecutionException}.
+     */
+    @Override
+    public CompletableFuture<Permit> acquire() {
+        synchronized (this) {
+            if (waiting.isEmpty() && inFlight < getLimit()) {
+                inFlight++;
+                return CompletableFuture.completedFuture(new LimiterPermit());
+            }
+            if (waiting.size() >= maxQueueSize) {
+                return CompletableFuture.failedFuture(new RejectedExecutionException("Too many requests waiting for concurrency limit: " + waiting.size()));
+            }
+            CompletableFuture<Permit> waiter = new CompletableFuture<>();
+            waiting.add(waiter);
+            return waiter;
+        }
+    }
+
+    @Override
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * @return the number of callers waiting for a permit
+     */
+    public synchronized int getQueued() {
+        return waiting.size();
+    }
+
+    /**
+     * Called (while holding the lock on {@code this}) when a permit is released, before any waiting callers are
+     * granted permits. The default implementation does nothing.
+     * @param latencyNanos time between the permit being granted and released
+     * @param error the error the call failed with or {@code null} if it succeeded
+     */
+    protected void onRelease(long latencyNanos, @Nullable Throwable error) {
+    }
+
+    private void release(long latencyNanos, @Nullable Throwable error, boolean used) {
+        List<CompletableFuture<Permit>> ready = new ArrayList<>();
+        synchronized (this) {
+            inFlight--;
+            if (used) {
+                onRelease(latencyNanos, error);
+            }
+            while (!waiting.isEmpty() && inFlight < getLimit()) {
+                ready.add(waiting.remove());
+                inFlight++;
+            }
+        }
+        // Complete outside the lock, because dependent actions (e.g. sending a request) may run synchronously
+        for (CompletableFuture<Permit> waiter : ready) {
+            LimiterPermit permit = new LimiterPermit();
+            if (!waiter.complete(permit)) {
+                // Waiter was cancelled
+                permit.releaseUnused();
+            }
+        }
+    }
+
+    private final class LimiterPermit implements Permit {
+        private final long startNanos = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        @Override
+        public void release(@Nullable Throwable error) {
+            if (released.compareAndSet(false, true)) {
+                AbstractConcurrencyLimiter.this.release(System.nanoTime() - startNanos, error, true);
+            }
+        }
+
+        void releaseUnused() {
+            if (released.compareAndSet(false, true)) {
+                AbstractConcurrencyLimiter.this.release(0, null, false);
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A {@link ConcurrencyLimiter} that adapts its limit using AIMD (additive-increase/multiplicative-decrease), the
+ * algorithm TCP uses for congestion control. Use it with a {@link LimitingJsonRpcTransport} to find the maximum
+ * sustainable throughput against a shared server without tuning thread counts by hand.
+ * <p>
+ * When a call succeeds while the limiter is busy (at least half the permits were in use) the limit is increased by
+ * one. When the server signals that it is overloaded the limit is multiplied by {@code backoffRatio}. The server is
+ * considered overloaded when:
+ * <ul>
+ *     <li>a call fails with HTTP status {@code 503} (Service Unavailable) or {@code 429} (Too Many Requests.) Bitcoin
+ *     Core, for example, returns {@code 503} "Work queue depth exceeded" when its {@code rpcworkqueue} is full.</li>
+ *     <li>a call times out</li>
+ *     <li>a call takes longer than {@code latencyThreshold}</li>
+ * </ul>
+ * Other errors (e.g. JSON-RPC error responses) don't change the limit.
+ */
+public class AimdConcurrencyLimiter extends AbstractConcurrencyLimiter {
+    private static final Logger log = LoggerFactory.getLogger(AimdConcurrencyLimiter.class);
+    private static final double DEFAULT_BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    // Written while holding the lock on `this`
+    private volatile int limit;
+
+    /**
+     * Construct a limiter with a minimum limit of 1, a backoff ratio of 0.9, and an unbounded queue of waiting callers.
+     * @param initialLimit Initial maximum number of in-flight calls
+     * @param maxLimit Upper bound for the limit
+     * @param latencyThreshold Calls that take longer than this are treated as a sign of overload
+     */
+    public AimdConcurrencyLimiter(int initialLimit, int maxLimit, Duration latencyThreshold) {
+        this(initialLimit, 1, maxLimit, latencyThreshold, DEFAULT_BACKOFF_RATIO, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param initialLimit Initial maximum number of in-flight calls
+     * @param minLimit Lower bound for the limit
+     * @param maxLimit Upper bound for the limit
+     * @param latencyThreshold Calls that take longer than this are treated as a sign of overload
+     * @param backoffRatio Factor (between 0 and 1) the limit is multiplied by when the server is overloaded
+     * @param maxQueueSize Maximum number of callers waiting for a permit
+     */
+    public AimdConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold, double backoffRatio, int maxQueueSize) {
+        super(maxQueueSize);
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("limits must satisfy 1 <= minLimit <= initialLimit <= maxLimit");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoffRatio must be between 0 and 1");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.limit = initialLimit;
+    }
+
+    @Override
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    protected void onRelease(long latencyNanos, @Nullable Throwable error) {
+        int current = limit;
+        if (isOverloaded(error) || latencyNanos > latencyThresholdNanos) {
+            limit = Math.max(minLimit, (int) (current * backoffRatio));
+            log.debug("Overload detected, decreasing limit from {} to {}", current, limit);
+        } else if (error == null && (getInFlight() + 1) * 2 >= current) {
+            // Only increase the limit if it is actually being used
+            limit = Math.min(maxLimit, current + 1);
+        }
+    }
+
+    /**
+     * Determine whether an error indicates that the server is overloaded.
+     * @param error the error a call failed with or {@code null}
+     * @return {@code true} if the limit should be decreased
+     */
+    protected boolean isOverloaded(@Nullable Throwable error) {
+        Throwable cause = unwrap(error);
+        if (cause instanceof JsonRpcStatusException) {
+            int httpCode = ((JsonRpcStatusException) cause).httpCode;
+            return httpCode == 503 || httpCode == 429;
+        }
+        return cause instanceof TimeoutException || cause instanceof HttpTimeoutException;
+    }
+
+    private static @Nullable Throwable unwrap(@Nullable Throwable error) {
+        Throwable t = error;
+        while ((t instanceof CompletionException || t instanceof ExecutionException) && t.getCause() != null) {
+            t = t.getCause();
+        }
+        return t;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reads a JSON-RPC 2.0 batch response and completes a future for each request in the batch. Responses are
+ * correlated with requests by {@code id}, so they can be returned by the server in any order.
+ * <p>
+ * This is shared by the Jackson-based {@link JsonRpcTransport} implementations.
+ */
+final class BatchResponseReader {
+    private static final Logger log = LoggerFactory.getLogger(BatchResponseReader.class);
+
+    private final JsonRpcCodec codec;
+    private final List<JavaType> responseTypes;
+    private final List<CompletableFuture<JsonRpcResponse<?>>> futures;
+    private final Map<String, Integer> pending;
+
+    /**
+     * @param codec codec for deserializing responses
+     * @param requests The requests in the batch (ids must be unique)
+     * @param responseTypes The response type expected for each request
+     * @throws IllegalArgumentException if the lists are not the same size or request ids are not unique
+     */
+    BatchResponseReader(JsonRpcCodec codec, List<JsonRpcRequest> requests, List<JavaType> responseTypes) {
+        if (requests.size() != responseTypes.size()) {
+            throw new IllegalArgumentException("requests and responseTypes must be the same size");
+        }
+        this.codec = codec;
+        this.responseTypes = responseTypes;
+        this.futures = Stream.generate(CompletableFuture<JsonRpcResponse<?>>::new)
+                .limit(requests.size())
+                .collect(Collectors.toUnmodifiableList());
+        this.pending = new HashMap<>(requests.size() * 2);
+        for (int i = 0; i < requests.size(); i++) {
+            if (pending.put(requests.get(i).getId(), i) != null) {
+                throw new IllegalArgumentException("duplicate request id in batch: " + requests.get(i).getId());
+            }
+        }
+    }
+
+    /**
+     * @return futures for each response (in the same order as the requests)
+     */
+    List<CompletableFuture<JsonRpcResponse<?>>> futures() {
+        return futures;
+    }
+
+    /**
+     * Read a batch response, completing a future for each response read. Any request that has no
+     * matching response in the batch will be completed exceptionally.
+     * @param parser A parser positioned at the start of the response body
+     * @throws IOException If the body could not be parsed
+     */
+    void read(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.START_OBJECT) {
+            // The server rejected the batch as a whole (e.g. with a parse error) and returned a single response
+            JsonRpcResponse<Object> response = codec.objectResponseReader().readValue(parser);
+            failAll(response.getError() != null
+                    ? new JsonRpcErrorException(response.getError())
+                    : new JsonRpcException("Server returned a single response to a batch request"));
+            return;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected JSON array for batch response");
+        }
+        @Nullable JsonRpcError uncorrelatedError = null;
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            TokenBuffer buffer = new TokenBuffer(parser);
+            buffer.copyCurrentStructure(parser);
+            @Nullable String id = readId(buffer);
+            @Nullable Integer index = id != null ? pending.remove(id) : null;
+            if (index != null) {
+                JsonRpcResponse<?> response = codec.readerFor(responseTypes.get(index)).readValue(buffer.asParser(codec.mapper()));
+                futures.get(index).complete(response);
+            } else {
+                // Either an id we didn't send or a `null` id (which the server uses when it can't read the request's id)
+                log.warn("Batch response with unexpected id: {}", id);
+                JsonRpcResponse<Object> response = codec.objectResponseReader().readValue(buffer.asParser(codec.mapper()));
+                uncorrelatedError = response.getError();
+            }
+        }
+        JsonRpcException missing = uncorrelatedError != null
+                ? new JsonRpcErrorException(uncorrelatedError)
+                : new JsonRpcException("No response in batch for request");
+        failAll(missing);
+    }
+
+    /**
+     * Complete exceptionally any futures that have not yet been completed.
+     * @param t The exception to complete with
+     */
+    void failAll(Throwable t) {
+        futures.forEach(f -> f.completeExceptionally(t));
+    }
+
+    // Find the top-level `id` property without binding the rest of the response
+    @Nullable
+    private static String readId(TokenBuffer buffer) throws IOException {
+        try (JsonParser p = buffer.asParser()) {
+            p.nextToken();  // START_OBJECT
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String name = p.currentName();
+                JsonToken value = p.nextToken();
+                if ("id".equals(name)) {
+                    return value == JsonToken.VALUE_NULL ? null : p.getText();
+                }
+                p.skipChildren();
+            }
+        }
+        return null;
+    }
+}
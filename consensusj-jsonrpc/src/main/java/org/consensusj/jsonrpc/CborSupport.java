@@ -0,0 +1,58 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+/**
+ * Support for JSON-RPC messages encoded with <a href="https://www.rfc-editor.org/rfc/rfc8949">CBOR</a> (a binary
+ * encoding of the JSON data model) between ConsensusJ clients and servers.
+ * <p>
+ * A client that prefers CBOR sends requests with {@code Content-Type: application/cbor}. A server that supports CBOR
+ * responds with CBOR; any other server (e.g. Bitcoin Core) will fail to parse the request and respond with JSON (or plain text),
+ * in which case the client resends the request as JSON and uses JSON from then on. Servers handle CBOR request bodies
+ * with {@link JsonRpcBodyHandler} and a mapper from {@link #mapperFor(ObjectMapper)}. Serializers that check
+ * {@link com.fasterxml.jackson.core.JsonGenerator#canWriteBinaryNatively()} can write binary data (e.g. scripts)
+ * as raw bytes rather than hex strings when CBOR is used, as long as the client's deserializers accept both forms.
+ */
+public final class CborSupport {
+    /**
+     * Media type for CBOR
+     */
+    public static final String MEDIA_TYPE = "application/cbor";
+
+    private CborSupport() {
+    }
+
+    /**
+     * Create a CBOR mapper with the same configuration and modules as a JSON mapper. Modules registered with
+     * {@code jsonMapper} afterward are not included.
+     * @param jsonMapper a (configured) JSON mapper
+     * @return a new CBOR mapper
+     */
+    public static ObjectMapper mapperFor(ObjectMapper jsonMapper) {
+        return jsonMapper.copyWith(new CBORFactory());
+    }
+
+    /**
+     * @param contentType value of a {@code Content-Type} header
+     * @return {@code true} if the content type is CBOR
+     */
+    public static boolean isCbor(String contentType) {
+        return contentType.regionMatches(true, 0, MEDIA_TYPE, 0, MEDIA_TYPE.length());
+    }
+}
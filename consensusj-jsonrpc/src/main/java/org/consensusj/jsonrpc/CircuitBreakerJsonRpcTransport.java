@@ -0,0 +1,204 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link JsonRpcTransport} with a circuit breaker for its server. Wrap each endpoint's transport in its own
+ * {@code CircuitBreakerJsonRpcTransport} to get a breaker per endpoint.
+ * <p>
+ * After {@code failureThreshold} consecutive transient errors (see {@link JsonRpcTransport#isTransientError(Throwable)})
+ * the breaker <i>opens</i> and requests fail immediately with {@link CircuitBreakerOpenException}, without being
+ * sent. After {@code openDuration} a single trial request is allowed (<i>half-open</i>.) If it succeeds the breaker
+ * <i>closes</i>, otherwise it opens again. Requests timed out by the caller (e.g. by {@link DeadlineJsonRpcTransport})
+ * count as transient errors. Cancelled requests are not counted, but a cancelled trial request lets another
+ * request through as the next trial.
+ * @param <T> Type that can be used (in addition to {@link Class}) to declare expected result types for JSON-RPC method calls.
+ */
+public class CircuitBreakerJsonRpcTransport<T extends Type> implements JsonRpcTransport<T>, AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(CircuitBreakerJsonRpcTransport.class);
+
+    /**
+     * Circuit breaker state
+     */
+    public enum State {
+        /** Requests are sent */
+        CLOSED,
+        /** Requests fail immediately */
+        OPEN,
+        /** A trial request has been sent */
+        HALF_OPEN
+    }
+
+    private final JsonRpcTransport<T> delegate;
+    private final int failureThreshold;
+    private final long openDurationNanos;
+
+    // Guarded by `this`
+    private State state = State.CLOSED;
+    private int consecutiveFailures = 0;
+    private long openedAt = 0;
+
+    /**
+     * @param delegate The transport used to send requests
+     * @param failureThreshold Number of consecutive transient errors that opens the breaker
+     * @param openDuration Time the breaker stays open before a trial request is allowed
+     */
+    public CircuitBreakerJsonRpcTransport(JsonRpcTransport<T> delegate, int failureThreshold, Duration openDuration) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("failureThreshold must be at least 1");
+        }
+        this.delegate = delegate;
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+    }
+
+    @Override
+    public URI getServerURI() {
+        return delegate.getServerURI();
+    }
+
+    /**
+     * @return the current state of the circuit breaker
+     */
+    public synchronized State getState() {
+        return state;
+    }
+
+    @Override
+    public <R> CompletableFuture<JsonRpcResponse<R>> sendRequestForResponseAsync(JsonRpcRequest request, T responseType) {
+        if (!tryAcquire()) {
+            return CompletableFuture.failedFuture(new CircuitBreakerOpenException(getServerURI()));
+        }
+        CompletableFuture<JsonRpcResponse<R>> response;
+        try {
+            response = delegate.sendRequestForResponseAsync(request, responseType);
+        } catch (RuntimeException e) {
+            onComplete(e);
+            throw e;
+        }
+        return track(response);
+    }
+
+    @Override
+    public List<CompletableFuture<JsonRpcResponse<?>>> sendBatchAsync(List<JsonRpcRequest> requests, List<T> responseTypes) {
+        if (!tryAcquire()) {
+            return requests.stream()
+                    .map(r -> CompletableFuture.<JsonRpcResponse<?>>failedFuture(new CircuitBreakerOpenException(getServerURI())))
+                    .collect(Collectors.toList());
+        }
+        List<CompletableFuture<JsonRpcResponse<?>>> responses;
+        try {
+            responses = delegate.sendBatchAsync(requests, responseTypes);
+        } catch (RuntimeException e) {
+            onComplete(e);
+            throw e;
+        }
+        List<CompletableFuture<JsonRpcResponse<?>>> results = responses.stream()
+                .map(CircuitBreakerJsonRpcTransport::forward)
+                .collect(Collectors.toList());
+        CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0]))
+                .whenComplete((v, t) -> onComplete(t));
+        return results;
+    }
+
+    /**
+     * Close the delegate transport, if it is {@link AutoCloseable}.
+     */
+    @Override
+    public void close() {
+        DefaultRpcClient.closeTransport(delegate);
+    }
+
+    // Return a new future that is completed by the delegate's response and record the outcome when it completes.
+    // Completions by the caller (e.g. a timeout from DeadlineJsonRpcTransport, or cancellation) are recorded too.
+    private <R> CompletableFuture<R> track(CompletableFuture<R> response) {
+        CompletableFuture<R> result = forward(response);
+        result.whenComplete((r, t) -> onComplete(t));
+        return result;
+    }
+
+    // Return a new future that is completed by the delegate's response. If the caller completes it first
+    // (e.g. with a timeout) the delegate's response is completed too, so policies below this one stop.
+    private static <R> CompletableFuture<R> forward(CompletableFuture<R> response) {
+        CompletableFuture<R> result = new CompletableFuture<>();
+        response.whenComplete((r, t) -> {
+            if (t != null) {
+                result.completeExceptionally(t);
+            } else {
+                result.complete(r);
+            }
+        });
+        result.whenComplete((r, t) -> {
+            if (t != null) {
+                response.completeExceptionally(t);
+            }
+        });
+        return result;
+    }
+
+    private synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (System.nanoTime() - openedAt >= openDurationNanos) {
+                    log.info("Circuit breaker half-open for {}, sending trial request", getServerURI());
+                    state = State.HALF_OPEN;
+                    return true;
+                }
+                return false;
+            case HALF_OPEN:
+            default:
+                // Wait for the trial request
+                return false;
+        }
+    }
+
+    private synchronized void onComplete(@Nullable Throwable t) {
+        if (t instanceof CancellationException || (t instanceof CompletionException && t.getCause() instanceof CancellationException)) {
+            // A cancelled request neither succeeded nor failed, but a cancelled trial request allows another one
+            if (state == State.HALF_OPEN) {
+                state = State.OPEN;
+            }
+        } else if (t == null || !JsonRpcTransport.isTransientError(t)) {
+            if (state != State.CLOSED) {
+                log.info("Circuit breaker closed for {}", getServerURI());
+            }
+            state = State.CLOSED;
+            consecutiveFailures = 0;
+        } else {
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+                log.warn("Circuit breaker open for {} after {} consecutive failure(s), last: {}", getServerURI(), consecutiveFailures, t.toString());
+                state = State.OPEN;
+                openedAt = System.nanoTime();
+            }
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link JsonRpcTransport} that transparently coalesces individual requests into JSON-RPC 2.0 batches.
+ * <p>
+ * Requests sent with {@link #sendRequestForResponseAsync(JsonRpcRequest, Type)} are queued until either
+ * {@code maxDelay} has elapsed since the first queued request or {@code maxBatchSize} requests are queued. The
+ * queued requests are then sent with a single call to {@link JsonRpcTransport#sendBatchAsync(List, List)} on the
+ * delegate transport and each caller's future is completed with its own response. A "batch" containing a single
+ * request is sent as a plain (non-batch) request.
+ * <p>
+ * This trades a small amount of latency (at most {@code maxDelay}) for many fewer network round-trips when
+ * many small requests are made concurrently.
+ * @param <T> Type that can be used (in addition to {@link Class}) to declare expected result types for JSON-RPC method calls.
+ */
+public class CoalescingJsonRpcTransport<T extends Type> implements JsonRpcTransport<T>, AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(CoalescingJsonRpcTransport.class);
+
+    private final JsonRpcTransport<T> delegate;
+    private final int maxBatchSize;
+    private final Executor flushExecutor;
+
+    // Guarded by `this`
+    private List<Pending<T>> queue;
+    private final Set<String> queuedIds = new HashSet<>();
+    private long generation = 0;
+
+    /**
+     * @param delegate The transport used to send the (batched) requests
+     * @param maxDelay Maximum time a request will wait in the queue before being sent
+     * @param maxBatchSize Maximum number of requests in a batch (a full batch is sent immediately)
+     */
+    public CoalescingJsonRpcTransport(JsonRpcTransport<T> delegate, Duration maxDelay, int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be at least 1");
+        }
+        this.delegate = delegate;
+        this.maxBatchSize = maxBatchSize;
+        this.flushExecutor = CompletableFuture.delayedExecutor(maxDelay.toNanos(), TimeUnit.NANOSECONDS);
+        this.queue = new ArrayList<>(maxBatchSize);
+    }
+
+    @Override
+    public URI getServerURI() {
+        return delegate.getServerURI();
+    }
+
+    @Override
+    public <R> CompletableFuture<JsonRpcResponse<R>> sendRequestForResponseAsync(JsonRpcRequest request, T responseType) {
+        CompletableFuture<JsonRpcResponse<?>> future = new CompletableFuture<>();
+        List<Pending<T>> previous = List.of();
+        List<Pending<T>> ready = List.of();
+        long scheduleGeneration = -1;
+        synchronized (this) {
+            if (queuedIds.contains(request.getId())) {
+                // Ids must be unique within a batch, send what we have and start a new batch
+                previous = drain();
+            }
+            queue.add(new Pending<>(request, responseType, future));
+            queuedIds.add(request.getId());
+            if (queue.size() >= maxBatchSize) {
+                ready = drain();
+            } else if (queue.size() == 1) {
+                scheduleGeneration = generation;
+            }
+        }
+        send(previous);
+        send(ready);
+        if (scheduleGeneration >= 0) {
+            long gen = scheduleGeneration;
+            flushExecutor.execute(() -> flush(gen));
+        }
+        @SuppressWarnings("unchecked")
+        CompletableFuture<JsonRpcResponse<R>> result = (CompletableFuture<JsonRpcResponse<R>>) (CompletableFuture<?>) future;
+        return result;
+    }
+
+    /**
+     * Immediately send any queued requests.
+     */
+    public void flush() {
+        List<Pending<T>> ready;
+        synchronized (this) {
+            ready = drain();
+        }
+        send(ready);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * An explicit batch bypasses the queue and is sent immediately by the delegate transport.
+     */
+    @Override
+    public List<CompletableFuture<JsonRpcResponse<?>>> sendBatchAsync(List<JsonRpcRequest> requests, List<T> responseTypes) {
+        return delegate.sendBatchAsync(requests, responseTypes);
+    }
+
+    /**
+     * Send any queued requests and close the delegate transport, if it is {@link AutoCloseable}.
+     */
+    @Override
+    public void close() {
+        flush();
+        DefaultRpcClient.closeTransport(delegate);
+    }
+
+    // Timer-triggered flush. Only flushes if the batch that scheduled it has not already been sent.
+    private void flush(long scheduledGeneration) {
+        List<Pending<T>> ready;
+        synchronized (this) {
+            if (scheduledGeneration != generation) {
+                return;
+            }
+            ready = drain();
+        }
+        send(ready);
+    }
+
+    // Must be called while holding the lock
+    private List<Pending<T>> drain() {
+        List<Pending<T>> drained = queue;
+        queue = new ArrayList<>(maxBatchSize);
+        queuedIds.clear();
+        generation++;
+        return drained;
+    }
+
+    private void send(List<Pending<T>> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        log.debug("Sending {} coalesced request(s)", batch.size());
+        try {
+            if (batch.size() == 1) {
+                Pending<T> p = batch.get(0);
+                delegate.<Object>sendRequestForResponseAsync(p.request, p.responseType)
+                        .whenComplete((r, t) -> complete(p.future, r, t));
+            } else {
+                List<JsonRpcRequest> requests = batch.stream().map(p -> p.request).collect(Collectors.toList());
+                List<T> types = batch.stream().map(p -> p.responseType).collect(Collectors.toList());
+                List<CompletableFuture<JsonRpcResponse<?>>> responses = delegate.sendBatchAsync(requests, types);
+                for (int i = 0; i < batch.size(); i++) {
+                    CompletableFuture<JsonRpcResponse<?>> f = batch.get(i).future;
+                    responses.get(i).whenComplete((r, t) -> complete(f, r, t));
+                }
+            }
+        } catch (RuntimeException e) {
+            batch.forEach(p -> p.future.completeExceptionally(e));
+        }
+    }
+
+    private static void complete(CompletableFuture<JsonRpcResponse<?>> future, @Nullable JsonRpcResponse<?> response, @Nullable Throwable t) {
+        if (t != null) {
+            future.completeExceptionally(t);
+        } else {
+            future.complete(response);
+        }
+    }
+
+    private static final class Pending<T> {
+        final JsonRpcRequest request;
+        final T responseType;
+        final CompletableFuture<JsonRpcResponse<?>> future;
+
+        Pending(JsonRpcRequest request, T responseType, CompletableFuture<JsonRpcResponse<?>> future) {
+            this.request = request;
+            this.responseType = responseType;
+            this.future = future;
+        }
+    }
+}
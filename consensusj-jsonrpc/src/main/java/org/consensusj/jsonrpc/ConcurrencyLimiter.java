@@ -0,0 +1,57 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Limits the number of JSON-RPC calls that are in-flight at the same time, independently of the number of
+ * threads making (or waiting for) calls. Callers {@link #acquire()} a {@link Permit} before sending a request
+ * and {@link Permit#release(Throwable)} it when the response (or an error) is received. When no permit is
+ * available, {@code acquire()} returns a future that completes when one becomes available, so waiting
+ * callers don't block a thread.
+ * @see LimitingJsonRpcTransport
+ */
+public interface ConcurrencyLimiter {
+    /**
+     * Acquire a permit to make a call.
+     * @return a future that completes with a permit when the call may proceed
+     */
+    CompletableFuture<Permit> acquire();
+
+    /**
+     * @return the current maximum number of in-flight calls
+     */
+    int getLimit();
+
+    /**
+     * @return the number of permits currently held
+     */
+    int getInFlight();
+
+    /**
+     * Permission to make a single call (or batch.)
+     */
+    interface Permit {
+        /**
+         * Release the permit. Only the first call has any effect.
+         * @param error the error the call failed with or {@code null} if it succeeded
+         */
+        void release(@Nullable Throwable error);
+    }
+}
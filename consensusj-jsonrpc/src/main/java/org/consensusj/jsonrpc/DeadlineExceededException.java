@@ -0,0 +1,27 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc;
+
+import java.time.Duration;
+
+/**
+ * Thrown (in a failed future) by {@link DeadlineJsonRpcTransport} when a response is not received before the deadline.
+ */
+public class DeadlineExceededException extends JsonRpcException {
+    public DeadlineExceededException(String method, Duration timeout, Throwable cause) {
+        super("Deadline of " + timeout.toMillis() + "ms exceeded for method: " + method, cause);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc;
+
+import org.jspecify.annotations.Nullable;
+
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * A {@link JsonRpcTransport} that enforces a per-request deadline. If no response is received in time the returned
+ * future fails with {@link DeadlineExceededException}.
+ * <p>
+ * The timeout is chosen for each request by a function (e.g. by method name) so slow methods can be given more
+ * time. The timer doesn't block a thread. When the deadline expires the future returned by the delegate is also
+ * completed, so policies that it implements stop as well: {@link RetryingJsonRpcTransport} makes no more attempts and
+ * {@link CircuitBreakerJsonRpcTransport} counts the timeout as a failure (and passes it on to its own delegate.)
+ * For this reason, this should usually be the outermost policy.
+ * @param <T> Type that can be used (in addition to {@link Class}) to declare expected result types for JSON-RPC method calls.
+ */
+public class DeadlineJsonRpcTransport<T extends Type> implements JsonRpcTransport<T>, AutoCloseable {
+    private final JsonRpcTransport<T> delegate;
+    private final Function<JsonRpcRequest, @Nullable Duration> timeoutFor;
+
+    /**
+     * @param delegate The transport used to send requests
+     * @param timeout The timeout for all requests
+     */
+    public DeadlineJsonRpcTransport(JsonRpcTransport<T> delegate, Duration timeout) {
+        this(delegate, request -> timeout);
+    }
+
+    /**
+     * @param delegate The transport used to send requests
+     * @param timeoutFor Returns the timeout for a request, or {@code null} for no timeout
+     */
+    public DeadlineJsonRpcTransport(JsonRpcTransport<T> delegate, Function<JsonRpcRequest, @Nullable Duration> timeoutFor) {
+        this.delegate = delegate;
+        this.timeoutFor = timeoutFor;
+    }
+
+    @Override
+    public URI getServerURI() {
+        return delegate.getServerURI();
+    }
+
+    @Override
+    public <R> CompletableFuture<JsonRpcResponse<R>> sendRequestForResponseAsync(JsonRpcRequest request, T responseType) {
+        return withDeadline(request, delegate.sendRequestForResponseAsync(request, responseType));
+    }
+
+    @Override
+    public List<CompletableFuture<JsonRpcResponse<?>>> sendBatchAsync(List<JsonRpcRequest> requests, List<T> responseTypes) {
+        List<CompletableFuture<JsonRpcResponse<?>>> responses = delegate.sendBatchAsync(requests, responseTypes);
+        return IntStream.range(0, requests.size())
+                .mapToObj(i -> withDeadline(requests.get(i), responses.get(i)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Close the delegate transport, if it is {@link AutoCloseable}.
+     */
+    @Override
+    public void close() {
+        DefaultRpcClient.closeTransport(delegate);
+    }
+
+    private <R> CompletableFuture<R> withDeadline(JsonRpcRequest request, CompletableFuture<R> response) {
+        Duration timeout = timeoutFor.apply(request);
+        if (timeout == null) {
+            return response;
+        }
+        // orTimeout completes the delegate's future (and cancels its timer if the response arrives first)
+        return response.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS)
+                .handle((r, t) -> {
+                    if (t instanceof TimeoutException) {
+                        return CompletableFuture.<R>failedFuture(new DeadlineExceededException(request.getMethod(), timeout, t));
+                    }
+                    return t != null ? CompletableFuture.<R>failedFuture(t) : CompletableFuture.completedFuture(r);
+                })
+                .thenCompose(f -> f);
+    }
+}
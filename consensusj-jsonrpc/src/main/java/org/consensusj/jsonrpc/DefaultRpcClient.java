@@ -19,6 +19,7 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.consensusj.jsonrpc.metrics.JsonRpcMetrics;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,11 +29,17 @@ import java.lang.reflect.Type;
 import java.time.Duration;
 import java.net.URI;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 // We're overusing inheritance in this hierarchy. We are breaking Effective Java, Item 18: Favor composition over inheritance.
@@ -63,7 +70,8 @@ import java.util.function.Supplier;
  * JSON-library-independent way. {@code DefaultRpcClient} adds support for Jackson. This class implements
  * the constructors, static fields, and getters, but delegates the core
  * {@link JsonRpcTransport#sendRequestForResponseAsync(JsonRpcRequest, Type)} method to a {@link JsonRpcTransport} implementation component.
- * In constructors that don't take a {@link TransportFactory}, {@link JsonRpcClientJavaNet} will be used.
+ * In constructors that don't take a {@link TransportFactory}, {@link JsonRpcClientJavaNet} will be used, unless the
+ * server URI is a {@code unix:} URI in which case {@link JsonRpcClientNio} will be used to connect via a UNIX domain socket.
  */
 public class DefaultRpcClient implements JsonRpcClient<JavaType> {
     private static final Logger log = LoggerFactory.getLogger(DefaultRpcClient.class);
@@ -73,6 +81,15 @@ public class DefaultRpcClient implements JsonRpcClient<JavaType> {
      * Functional interface for creating JsonRpcTransport instances from an {@link ObjectMapper}.
      * <p>
      * This is used to prevent a circular dependency on {@link ObjectMapper}.
+     * <p>
+     * The {@code default} methods wrap the transport in policies that can be composed, for example:
+     * <pre> {@code
+     * TransportFactory factory = DefaultRpcClient.defaultTransportFactory(sslContext, server, user, password)
+     *         .circuitBreaking(5, Duration.ofSeconds(30))
+     *         .hedged(idempotent, 0.95, Duration.ofMillis(50))
+     *         .retrying(idempotent, 3, Duration.ofMillis(100), Duration.ofSeconds(2))
+     *         .deadline(request -> Duration.ofSeconds(10));
+     * }</pre>
      */
     @FunctionalInterface
     public interface TransportFactory {
@@ -81,11 +98,86 @@ public class DefaultRpcClient implements JsonRpcClient<JavaType> {
          * @return a transport instance
          */
         JsonRpcTransport<JavaType> create(ObjectMapper mapper);
+
+        /**
+         * Opt-in to automatic request coalescing (micro-batching). Requests made within {@code maxDelay} of each
+         * other are sent as a single JSON-RPC 2.0 batch. Only use this with servers that support batch requests.
+         * @param maxDelay Maximum time a request will wait to be batched with other requests
+         * @param maxBatchSize Maximum number of requests in a batch
+         * @return a factory that wraps transports from this factory in a {@link CoalescingJsonRpcTransport}
+         */
+        default TransportFactory coalescing(Duration maxDelay, int maxBatchSize) {
+            return m -> new CoalescingJsonRpcTransport<>(create(m), maxDelay, maxBatchSize);
+        }
+
+        /**
+         * Limit the number of requests in-flight at once. Requests over the limit are queued client-side.
+         * @param limiter limiter that grants permission to send
+         * @return a factory that wraps transports from this factory in a {@link LimitingJsonRpcTransport}
+         */
+        default TransportFactory limited(ConcurrencyLimiter limiter) {
+            return m -> new LimitingJsonRpcTransport<>(create(m), limiter);
+        }
+
+        /**
+         * Retry idempotent requests that fail with a transient error, using jittered exponential backoff.
+         * @param idempotent Returns {@code true} for requests that are safe to send more than once
+         * @param maxAttempts Maximum number of attempts (including the first)
+         * @param baseDelay Maximum delay before the first retry
+         * @param maxDelay Upper bound on the delay before any retry
+         * @return a factory that wraps transports from this factory in a {@link RetryingJsonRpcTransport}
+         */
+        default TransportFactory retrying(Predicate<JsonRpcRequest> idempotent, int maxAttempts, Duration baseDelay, Duration maxDelay) {
+            return m -> new RetryingJsonRpcTransport<>(create(m), idempotent, maxAttempts, baseDelay, maxDelay);
+        }
+
+        /**
+         * Send a duplicate of a slow idempotent request after a latency percentile.
+         * @param idempotent Returns {@code true} for requests that are safe to send more than once
+         * @param percentile Latency percentile (e.g. {@code 0.95}) after which a hedged request is sent
+         * @param minDelay Minimum delay before a hedged request is sent
+         * @return a factory that wraps transports from this factory in a {@link HedgingJsonRpcTransport}
+         */
+        default TransportFactory hedged(Predicate<JsonRpcRequest> idempotent, double percentile, Duration minDelay) {
+            return m -> new HedgingJsonRpcTransport<>(create(m), idempotent, percentile, minDelay);
+        }
+
+        /**
+         * Fail fast when the server has repeatedly failed with transient errors.
+         * @param failureThreshold Number of consecutive transient errors that opens the breaker
+         * @param openDuration Time the breaker stays open before a trial request is allowed
+         * @return a factory that wraps transports from this factory in a {@link CircuitBreakerJsonRpcTransport}
+         */
+        default TransportFactory circuitBreaking(int failureThreshold, Duration openDuration) {
+            return m -> new CircuitBreakerJsonRpcTransport<>(create(m), failureThreshold, openDuration);
+        }
+
+        /**
+         * Fail requests that haven't received a response by a deadline. This should usually be applied last
+         * so the deadline includes retries, etc.
+         * @param timeoutFor Returns the timeout for a request, or {@code null} for no timeout
+         * @return a factory that wraps transports from this factory in a {@link DeadlineJsonRpcTransport}
+         */
+        default TransportFactory deadline(Function<JsonRpcRequest, @Nullable Duration> timeoutFor) {
+            return m -> new DeadlineJsonRpcTransport<>(create(m), timeoutFor);
+        }
+
+        /**
+         * Record per-method latency, in-flight, and error metrics.
+         * @param metrics Where to record metrics
+         * @return a factory that wraps transports from this factory in a {@link MetricsJsonRpcTransport}
+         */
+        default TransportFactory instrumented(JsonRpcMetrics metrics) {
+            return m -> new MetricsJsonRpcTransport<>(create(m), metrics);
+        }
     }
     protected final JsonRpcMessage.Version jsonRpcVersion;
     protected final ObjectMapper mapper;
     private final JavaType defaultType;
     private final JsonRpcTransport<JavaType> transport;
+    private final RequestIdGenerator idGenerator = new RequestIdGenerator();
+    // Response types keyed by result Class or JavaType, so they are only constructed once per result type
+    private final Map<Type, JavaType> responseTypes = new ConcurrentHashMap<>();
 
     public DefaultRpcClient(URI server, @Nullable String rpcUser, @Nullable String rpcPassword) {
         this(JsonRpcTransport.getDefaultSSLContext(), DEFAULT_JSON_RPC_VERSION, server, rpcUser, rpcPassword);
@@ -95,7 +187,7 @@ public class DefaultRpcClient implements JsonRpcClient<JavaType> {
         this(JsonRpcTransport.getDefaultSSLContext(), jsonRpcVersion, server, rpcUser, rpcPassword);
     }
     public DefaultRpcClient(SSLContext sslContext, JsonRpcMessage.Version jsonRpcVersion, URI server, @Nullable String rpcUser, @Nullable String rpcPassword) {
-        this((m) -> new JsonRpcClientJavaNet(m, sslContext, server, rpcUser, rpcPassword), jsonRpcVersion);
+        this(defaultTransportFactory(sslContext, server, rpcUser, rpcPassword), jsonRpcVersion);
     }
 
     public DefaultRpcClient(TransportFactory transportFactory, JsonRpcMessage.Version jsonRpcVersion) {
@@ -107,11 +199,41 @@ public class DefaultRpcClient implements JsonRpcClient<JavaType> {
         transport = transportFactory.create(mapper);
     }
 
+    /**
+     * The transport factory used by constructors that don't take a {@link TransportFactory}.
+     * @param sslContext SSL context for HTTPS connections
+     * @param server server URI
+     * @param rpcUser username
+     * @param rpcPassword password
+     * @return a factory for {@link JsonRpcClientNio} for {@code unix:} URIs, otherwise for {@link JsonRpcClientJavaNet}
+     */
+    public static TransportFactory defaultTransportFactory(SSLContext sslContext, URI server, @Nullable String rpcUser, @Nullable String rpcPassword) {
+        return JsonRpcClientNio.isUnixSocketURI(server)
+                ? (m) -> new JsonRpcClientNio(m, server, rpcUser, rpcPassword, 1)
+                : (m) -> new JsonRpcClientJavaNet(m, sslContext, server, rpcUser, rpcPassword);
+    }
+
+    /**
+     * @return the transport created by the {@link TransportFactory}
+     */
+    protected JsonRpcTransport<JavaType> getTransport() {
+        return transport;
+    }
+
     @Override
     public JsonRpcMessage.Version getJsonRpcVersion() {
         return jsonRpcVersion;
     }
 
+    /**
+     * Ids come from a {@link RequestIdGenerator} that belongs to this client, so clients don't contend
+     * with each other (or, usually, between threads) when creating requests.
+     */
+    @Override
+    public long nextRequestId() {
+        return idGenerator.next();
+    }
+
     @Override
     public URI getServerURI() {
         return transport.getServerURI();
@@ -122,6 +244,29 @@ public class DefaultRpcClient implements JsonRpcClient<JavaType> {
         return transport.sendRequestForResponseAsync(request, responseType);
     }
 
+    @Override
+    public List<CompletableFuture<JsonRpcResponse<?>>> sendBatchAsync(List<JsonRpcRequest> requests, List<JavaType> responseTypes) {
+        return transport.sendBatchAsync(requests, responseTypes);
+    }
+
+    /**
+     * Close the transport, if it is {@link AutoCloseable} (e.g. it holds persistent connections.)
+     */
+    @Override
+    public void close() {
+        closeTransport(transport);
+    }
+
+    static void closeTransport(JsonRpcTransport<?> transport) {
+        if (transport instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) transport).close();
+            } catch (Exception e) {
+                log.warn("Exception closing transport", e);
+            }
+        }
+    }
+
     /**
      * Convenience method for requesting an asynchronous response with a {@link JsonNode} for the result.
      * @param request The request to send
@@ -131,6 +276,16 @@ public class DefaultRpcClient implements JsonRpcClient<JavaType> {
         return sendRequestForResponseAsync(request, responseTypeFor(JsonNode.class));
     }
 
+    /**
+     * Convenience method for requesting an asynchronous response with the result left unbound. Only the response
+     * envelope is parsed; the result can be bound later (or forwarded as-is) using {@link JsonRpcRawResult}.
+     * @param request The request to send
+     * @return A future JSON RPC Response with `result` of type {@link JsonRpcRawResult}
+     */
+    public CompletableFuture<JsonRpcResponse<JsonRpcRawResult>> sendRequestForRawResponseAsync(JsonRpcRequest request) {
+        return sendRequestForResponseAsync(request, responseTypeFor(JsonRpcRawResult.class));
+    }
+
     public ObjectMapper getMapper() {
         return mapper;
     }
@@ -142,14 +297,20 @@ public class DefaultRpcClient implements JsonRpcClient<JavaType> {
 
     @Override
     public JavaType responseTypeFor(JavaType resultType) {
-        return getMapper().getTypeFactory().
-                constructParametricType(JsonRpcResponse.class, resultType);
+        return cachedResponseType(resultType, () -> getMapper().getTypeFactory().
+                constructParametricType(JsonRpcResponse.class, resultType));
     }
 
     @Override
     public JavaType responseTypeFor(Class<?> resultType) {
-        return getMapper().getTypeFactory().
-                constructParametricType(JsonRpcResponse.class, resultType);
+        return cachedResponseType(resultType, () -> getMapper().getTypeFactory().
+                constructParametricType(JsonRpcResponse.class, resultType));
+    }
+
+    // The returned instance is also the key for the transports' per-type reader caches
+    private JavaType cachedResponseType(Type resultType, Supplier<JavaType> constructor) {
+        JavaType type = responseTypes.get(resultType);
+        return type != null ? type : responseTypes.computeIfAbsent(resultType, t -> constructor.get());
     }
 
     @Override
@@ -192,65 +353,104 @@ public class DefaultRpcClient implements JsonRpcClient<JavaType> {
         return waitForServer(timeout,retry, requestSupplier, typeForClass(Object.class), errorMapper);
     }
 
-    // TODO: What happens if you cancel this future?
     /**
     * A wait-for-server routine that is agnostic about which RPC methods the server supports. In addition to two {@link Duration}
     * parameters, there are 3 parameters (2 functions and a generic type specifier) to enable this method to work with any JSON-RPC server.
+    * <p>
+    * No thread is blocked while waiting: each poll is sent asynchronously and the next poll is scheduled with
+    * {@link CompletableFuture#delayedExecutor(long, TimeUnit, Executor)}, so waiting clients don't use up threads
+    * in {@link #getDefaultAsyncExecutor()}. Cancelling (or otherwise completing) the returned future stops polling and
+    * cancels an outstanding poll.
     * @param timeout how long to wait
     * @param retry delay between retries
     * @param requestSupplier supplier of requests (needs to increment request ID at the very least)
     * @param resultType the result type for the response
     * @param errorMapper function that maps non-fatal errors (i.e. cases to keep polling)
-    * @return A future that returns a successful
+    * @return A future that returns a successful result, or fails with {@link TimeoutException} or a fatal error
     * @param <T> The desired result type to be returned when the server is running
     */
     public <T> CompletableFuture<T> waitForServer(Duration timeout, Duration retry, Supplier<JsonRpcRequest> requestSupplier, JavaType resultType, TransientErrorMapper<T> errorMapper) {
-        CompletableFuture<T> future = new CompletableFuture<>();
-        getDefaultAsyncExecutor().execute(() -> {
-            log.debug("Waiting for server RPC ready...");
-            String status;          // Status message for logging
-            String statusLast = null;
-            long seconds = 0;
-            while (seconds < timeout.toSeconds()) {
-                JsonRpcResponse<T> r;
-                try {
-                    // All non-fatal exceptions will be mapped to a JsonRpcError with code -20000
-                    r = this.pollOnce(requestSupplier.get(), resultType, errorMapper).get();
-                } catch (InterruptedException | ExecutionException e) {
-                    // If a fatal error occurred, fail our future and abort this thread
-                    log.error("Fatal exception: ", e);
-                    future.completeExceptionally(e);
-                    return;
-                }
-                if (r.getResult() != null) {
-                    // We received a response with a result, server is ready and has returned a usable result
-                    log.debug("RPC Ready.");
-                    future.complete(r.getResult());
-                    return;
+        log.debug("Waiting for server RPC ready...");
+        ServerPoller<T> poller = new ServerPoller<>(timeout, retry, requestSupplier, resultType, errorMapper);
+        poller.poll();
+        return poller.future;
+    }
+
+    // State for one call to waitForServer()
+    private final class ServerPoller<T> {
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private final Duration timeout;
+        private final long deadline;
+        private final long retryNanos;
+        private final Executor delayedExecutor;
+        private final Supplier<JsonRpcRequest> requestSupplier;
+        private final JavaType resultType;
+        private final TransientErrorMapper<T> errorMapper;
+        // The poll in progress, if any. Cancelled if the future is completed by someone else.
+        private volatile @Nullable CompletableFuture<JsonRpcResponse<T>> current;
+        private @Nullable String statusLast;    // Last status message logged, only accessed by one poll at a time
+
+        ServerPoller(Duration timeout, Duration retry, Supplier<JsonRpcRequest> requestSupplier, JavaType resultType, TransientErrorMapper<T> errorMapper) {
+            this.timeout = timeout;
+            this.deadline = System.nanoTime() + timeout.toNanos();
+            this.retryNanos = retry.toNanos();
+            this.delayedExecutor = CompletableFuture.delayedExecutor(retryNanos, TimeUnit.NANOSECONDS, getDefaultAsyncExecutor());
+            this.requestSupplier = requestSupplier;
+            this.resultType = resultType;
+            this.errorMapper = errorMapper;
+            future.whenComplete((r, t) -> {
+                CompletableFuture<JsonRpcResponse<T>> c = current;
+                if (c != null) {
+                    c.cancel(false);
                 }
+            });
+        }
+
+        void poll() {
+            if (future.isDone()) {
+                return;     // Cancelled or timed out by the caller
+            }
+            CompletableFuture<JsonRpcResponse<T>> f;
+            try {
+                // All non-fatal exceptions will be mapped to a JsonRpcError with code -20000
+                f = pollOnce(requestSupplier.get(), resultType, errorMapper);
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+                return;
+            }
+            current = f;
+            f.whenComplete(this::onResponse);
+        }
+
+        private void onResponse(@Nullable JsonRpcResponse<T> r, @Nullable Throwable t) {
+            current = null;
+            if (future.isDone()) {
+                return;
+            }
+            if (t != null) {
+                // A fatal error occurred, fail our future
+                Throwable cause = (t instanceof CompletionException && t.getCause() != null) ? t.getCause() : t;
+                log.error("Fatal exception: ", cause);
+                future.completeExceptionally(cause);
+            } else if (r != null && r.getResult() != null) {
+                // We received a response with a result, server is ready and has returned a usable result
+                log.debug("RPC Ready.");
+                future.complete(r.getResult());
+            } else if (r != null && System.nanoTime() + retryNanos - deadline < 0) {
                 // We received a response with a non-fatal error, log it and wait to retry.
-                status = statusFromErrorResponse(r);
+                String status = statusFromErrorResponse(r);
                 // Log status messages only once, if new or updated
                 if (!status.equals(statusLast)) {
                     log.info("Waiting for server: RPC Status: " + status);
                     statusLast = status;
                 }
-                try {
-                    // Damnit, IntelliJ we're not busy-waiting we're polling!
-                    Thread.sleep(retry.toMillis());
-                    seconds += retry.toSeconds();
-                } catch (InterruptedException e) {
-                    log.error(e.toString());
-                    Thread.currentThread().interrupt();
-                    future.completeExceptionally(e);
-                    return;
-                }
+                delayedExecutor.execute(this::poll);
+            } else {
+                String timeoutMessage = String.format("waitForServer() timed out after %d seconds", timeout.toSeconds());
+                log.error(timeoutMessage);
+                future.completeExceptionally(new TimeoutException(timeoutMessage));
             }
-            String timeoutMessage = String.format("waitForServer() timed out after %d seconds", timeout.toSeconds());
-            log.error(timeoutMessage);
-            future.completeExceptionally(new TimeoutException(timeoutMessage));
-        });
-        return future;
+        }
     }
 
     /**
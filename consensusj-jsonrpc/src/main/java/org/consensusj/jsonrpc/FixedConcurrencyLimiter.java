@@ -0,0 +1,48 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc;
+
+/**
+ * A {@link ConcurrencyLimiter} with a fixed limit.
+ */
+public class FixedConcurrencyLimiter extends AbstractConcurrencyLimiter {
+    private final int limit;
+
+    /**
+     * Construct a limiter with an unbounded queue of waiting callers.
+     * @param limit Maximum number of in-flight calls
+     */
+    public FixedConcurrencyLimiter(int limit) {
+        this(limit, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param limit Maximum number of in-flight calls
+     * @param maxQueueSize Maximum number of callers waiting for a permit
+     */
+    public FixedConcurrencyLimiter(int limit, int maxQueueSize) {
+        super(maxQueueSize);
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be at least 1");
+        }
+        this.limit = limit;
+    }
+
+    @Override
+    public int getLimit() {
+        return limit;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc;
+
+import com.fasterxml.jackson.databind.JavaType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * A {@link JsonRpcService} that forwards every request to an upstream JSON-RPC server, e.g. for a gateway or relay.
+ * <p>
+ * Responses are read as {@code JsonRpcResponse<JsonRpcRawResult>}, so only the response envelope is parsed and the
+ * {@code result} is passed through to the caller without being bound to (and then serialized from) a Java object.
+ * JSON-RPC errors returned by the upstream server (including those returned with an HTTP error status) are returned
+ * as error responses; other failures (e.g. network errors) are returned as {@link JsonRpcError.Error#SERVER_ERROR}.
+ */
+public class ForwardingJsonRpcService implements JsonRpcService {
+    private static final Logger log = LoggerFactory.getLogger(ForwardingJsonRpcService.class);
+    private final DefaultRpcClient upstream;
+    private final JavaType responseType;
+
+    /**
+     * @param upstream client for the upstream server. It will be closed when this service is closed.
+     */
+    public ForwardingJsonRpcService(DefaultRpcClient upstream) {
+        this.upstream = upstream;
+        this.responseType = upstream.responseTypeFor(JsonRpcRawResult.class);
+    }
+
+    @Override
+    public <RSLT> CompletableFuture<JsonRpcResponse<RSLT>> call(JsonRpcRequest req) {
+        CompletableFuture<JsonRpcResponse<JsonRpcRawResult>> f;
+        try {
+            f = upstream.sendRequestForResponseAsync(req, responseType);
+        } catch (RuntimeException e) {
+            f = CompletableFuture.failedFuture(e);
+        }
+        @SuppressWarnings("unchecked")
+        CompletableFuture<JsonRpcResponse<RSLT>> result = (CompletableFuture<JsonRpcResponse<RSLT>>) (CompletableFuture<?>)
+                f.handle((response, t) -> t == null ? response : errorResponse(req, t));
+        return result;
+    }
+
+    @Override
+    public void close() {
+        upstream.close();
+    }
+
+    private static JsonRpcResponse<JsonRpcRawResult> errorResponse(JsonRpcRequest req, Throwable t) {
+        Throwable cause = (t instanceof CompletionException && t.getCause() != null) ? t.getCause() : t;
+        if (cause instanceof JsonRpcStatusException) {
+            JsonRpcResponse<?> upstreamResponse = ((JsonRpcStatusException) cause).responseJson;
+            if (upstreamResponse != null && upstreamResponse.getError() != null) {
+                return new JsonRpcResponse<>(req, upstreamResponse.getError());
+            }
+        } else if (cause instanceof JsonRpcErrorException) {
+            return new JsonRpcResponse<>(req, ((JsonRpcErrorException) cause).getError());
+        }
+        log.warn("Upstream request {} failed", req.getMethod(), cause);
+        return new JsonRpcResponse<>(req, JsonRpcError.of(JsonRpcError.Error.SERVER_ERROR, cause));
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * A {@link JsonRpcTransport} that reduces tail latency by sending a duplicate ("hedged") request when the response
+ * to an <i>idempotent</i> request is slow. The first successful response is used.
+ * <p>
+ * A request is considered slow if no response has been received after the given {@code percentile} of recently
+ * observed latencies (or {@code minDelay}, whichever is greater.) No hedged requests are sent until enough
+ * latencies have been observed. The hedged request has the same {@code id} and is sent on the same delegate
+ * transport, so this is most useful with transports that use multiple connections (e.g. HTTP.)
+ * <p>
+ * Batches are sent unchanged (without hedging.)
+ * @param <T> Type that can be used (in addition to {@link Class}) to declare expected result types for JSON-RPC method calls.
+ */
+public class HedgingJsonRpcTransport<T extends Type> implements JsonRpcTransport<T>, AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(HedgingJsonRpcTransport.class);
+    private static final int WINDOW_SIZE = 1000;
+    private static final int MIN_SAMPLES = 20;
+    private static final int RECOMPUTE_INTERVAL = 50;
+
+    private final JsonRpcTransport<T> delegate;
+    private final Predicate<JsonRpcRequest> idempotent;
+    private final long minDelayNanos;
+    private final LatencyWindow latencies;
+    private final AtomicLong hedgeCount = new AtomicLong();
+
+    /**
+     * @param delegate The transport used to send requests
+     * @param idempotent Returns {@code true} for requests that are safe to send more than once
+     * @param percentile Latency percentile (e.g. {@code 0.95}) after which a hedged request is sent
+     * @param minDelay Minimum delay before a hedged request is sent
+     */
+    public HedgingJsonRpcTransport(JsonRpcTransport<T> delegate, Predicate<JsonRpcRequest> idempotent, double percentile, Duration minDelay) {
+        if (percentile <= 0 || percentile > 1) {
+            throw new IllegalArgumentException("percentile must be greater than 0 and at most 1");
+        }
+        this.delegate = delegate;
+        this.idempotent = idempotent;
+        this.minDelayNanos = minDelay.toNanos();
+        this.latencies = new LatencyWindow(percentile);
+    }
+
+    @Override
+    public URI getServerURI() {
+        return delegate.getServerURI();
+    }
+
+    /**
+     * @return the number of hedged requests that have been sent
+     */
+    public long getHedgeCount() {
+        return hedgeCount.get();
+    }
+
+    @Override
+    public <R> CompletableFuture<JsonRpcResponse<R>> sendRequestForResponseAsync(JsonRpcRequest request, T responseType) {
+        if (!idempotent.test(request)) {
+            return delegate.sendRequestForResponseAsync(request, responseType);
+        }
+        long start = System.nanoTime();
+        long percentileNanos = latencies.percentile();
+        CompletableFuture<JsonRpcResponse<R>> primary = delegate.sendRequestForResponseAsync(request, responseType);
+        primary.whenComplete((r, t) -> {
+            if (t == null) {
+                latencies.record(System.nanoTime() - start);
+            }
+        });
+        if (percentileNanos < 0) {
+            return primary;
+        }
+        CompletableFuture<JsonRpcResponse<R>> result = new CompletableFuture<>();
+        // Number of attempts that have been started and haven't failed
+        AtomicInteger outstanding = new AtomicInteger(1);
+        primary.whenComplete((r, t) -> complete(result, outstanding, r, t));
+        long delay = Math.max(minDelayNanos, percentileNanos);
+        CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS).execute(() -> {
+            if (result.isDone()) {
+                return;
+            }
+            outstanding.incrementAndGet();
+            hedgeCount.incrementAndGet();
+            log.debug("Sending hedged request for {} after {}ms", request.getMethod(), TimeUnit.NANOSECONDS.toMillis(delay));
+            CompletableFuture<JsonRpcResponse<R>> hedge;
+            try {
+                hedge = delegate.sendRequestForResponseAsync(request, responseType);
+            } catch (RuntimeException e) {
+                hedge = CompletableFuture.failedFuture(e);
+            }
+            hedge.whenComplete((r, t) -> complete(result, outstanding, r, t));
+        });
+        return result;
+    }
+
+    @Override
+    public List<CompletableFuture<JsonRpcResponse<?>>> sendBatchAsync(List<JsonRpcRequest> requests, List<T> responseTypes) {
+        return delegate.sendBatchAsync(requests, responseTypes);
+    }
+
+    /**
+     * Close the delegate transport, if it is {@link AutoCloseable}.
+     */
+    @Override
+    public void close() {
+        DefaultRpcClient.closeTransport(delegate);
+    }
+
+    // The first success completes the result. The result fails only when all attempts have failed.
+    private static <R> void complete(CompletableFuture<JsonRpcResponse<R>> result, AtomicInteger outstanding, @Nullable JsonRpcResponse<R> response, @Nullable Throwable t) {
+        if (t == null) {
+            result.complete(response);
+        } else if (outstanding.decrementAndGet() == 0) {
+            result.completeExceptionally(t);
+        }
+    }
+
+    /**
+     * A sliding window of recent latencies. The percentile is recomputed periodically rather than on every request.
+     */
+    private static final class LatencyWindow {
+        private final double percentile;
+        // Guarded by `this`
+        private final long[] samples = new long[WINDOW_SIZE];
+        private int count = 0;
+        private int next = 0;
+        private int sinceRecompute = 0;
+        private long cachedPercentile = -1;
+
+        LatencyWindow(double percentile) {
+            this.percentile = percentile;
+        }
+
+        synchronized void record(long latencyNanos) {
+            samples[next] = latencyNanos;
+            next = (next + 1) % WINDOW_SIZE;
+            count = Math.min(count + 1, WINDOW_SIZE);
+            if (count >= MIN_SAMPLES && (cachedPercentile < 0 || ++sinceRecompute >= RECOMPUTE_INTERVAL)) {
+                long[] sorted = Arrays.copyOf(samples, count);
+                Arrays.sort(sorted);
+                int index = Math.max(0, (int) Math.ceil(percentile * count) - 1);
+                cachedPercentile = sorted[index];
+                sinceRecompute = 0;
+            }
+        }
+
+        // Negative if there aren't enough samples yet
+        synchronized long percentile() {
+            return cachedPercentile;
+        }
+    }
+}
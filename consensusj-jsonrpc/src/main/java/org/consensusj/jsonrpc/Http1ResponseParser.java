@@ -0,0 +1,291 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.net.ProtocolException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Incremental parser for a stream of HTTP/1.1 responses (as received on a persistent, possibly pipelined, connection).
+ * Bytes are fed to the parser as they are received and it returns each response when it is complete. Supports
+ * {@code Content-Length} and {@code chunked} bodies, and bodies delimited by the connection closing.
+ * <p>
+ * Instances are not thread-safe, use one per connection.
+ */
+final class Http1ResponseParser {
+    private static final int MAX_LINE_LENGTH = 16 * 1024;
+
+    /**
+     * A complete HTTP response
+     */
+    static final class Response {
+        final int statusCode;
+        @Nullable
+        final String contentType;
+        final boolean connectionClose;
+        final byte[] body;
+
+        Response(int statusCode, @Nullable String contentType, boolean connectionClose, byte[] body) {
+            this.statusCode = statusCode;
+            this.contentType = contentType;
+            this.connectionClose = connectionClose;
+            this.body = body;
+        }
+
+        boolean isJson() {
+            return contentType != null && contentType.contains("application/json");
+        }
+    }
+
+    private enum State { STATUS_LINE, HEADERS, BODY, CHUNK_SIZE, CHUNK_DATA, CHUNK_DATA_END, TRAILERS, BODY_UNTIL_CLOSE }
+
+    private State state = State.STATUS_LINE;
+    private byte[] lineBuffer = new byte[256];
+    private int lineLength;
+
+    // Current response
+    private int statusCode;
+    @Nullable
+    private String contentType;
+    private boolean connectionClose;
+    private long contentLength;
+    private boolean chunked;
+    private byte[] body = new byte[0];
+    private int bodyLength;
+    private long chunkRemaining;
+
+    /**
+     * Consume bytes from the buffer until a complete response has been read or the buffer is empty.
+     * @param in buffer in read mode. On return its position is after the last byte consumed.
+     * @return a complete response or {@code null} if more bytes are needed
+     * @throws IOException if the response is malformed
+     */
+    @Nullable
+    Response parse(ByteBuffer in) throws IOException {
+        while (in.hasRemaining()) {
+            switch (state) {
+                case STATUS_LINE: {
+                    String line = readLine(in);
+                    if (line == null) return null;
+                    if (line.isEmpty()) break;  // Tolerate extra CRLF between responses
+                    startResponse(line);
+                    state = State.HEADERS;
+                    break;
+                }
+                case HEADERS: {
+                    String line = readLine(in);
+                    if (line == null) return null;
+                    if (!line.isEmpty()) {
+                        header(line);
+                    } else {
+                        Response complete = endHeaders();
+                        if (complete != null) return complete;
+                    }
+                    break;
+                }
+                case BODY: {
+                    copyBody(in, (int) Math.min(in.remaining(), contentLength - bodyLength));
+                    if (bodyLength == contentLength) {
+                        return finish();
+                    }
+                    break;
+                }
+                case CHUNK_SIZE: {
+                    String line = readLine(in);
+                    if (line == null) return null;
+                    int ext = line.indexOf(';');
+                    try {
+                        chunkRemaining = Long.parseLong((ext >= 0 ? line.substring(0, ext) : line).trim(), 16);
+                    } catch (NumberFormatException e) {
+                        throw new ProtocolException("Invalid chunk size: " + line);
+                    }
+                    state = chunkRemaining == 0 ? State.TRAILERS : State.CHUNK_DATA;
+                    break;
+                }
+                case CHUNK_DATA: {
+                    int n = (int) Math.min(in.remaining(), chunkRemaining);
+                    copyBody(in, n);
+                    chunkRemaining -= n;
+                    if (chunkRemaining == 0) {
+                        state = State.CHUNK_DATA_END;
+                    }
+                    break;
+                }
+                case CHUNK_DATA_END: {
+                    String line = readLine(in);
+                    if (line == null) return null;
+                    state = State.CHUNK_SIZE;
+                    break;
+                }
+                case TRAILERS: {
+                    String line = readLine(in);
+                    if (line == null) return null;
+                    if (line.isEmpty()) {
+                        return finish();
+                    }
+                    break;
+                }
+                case BODY_UNTIL_CLOSE: {
+                    copyBody(in, in.remaining());
+                    break;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Called when the connection has been closed by the server.
+     * @return A response whose body was delimited by the connection closing, or {@code null}
+     * @throws IOException if the connection was closed in the middle of a response
+     */
+    @Nullable
+    Response endOfStream() throws IOException {
+        if (state == State.BODY_UNTIL_CLOSE) {
+            return finish();
+        }
+        if (state != State.STATUS_LINE || lineLength > 0) {
+            throw new ProtocolException("Connection closed before end of response");
+        }
+        return null;
+    }
+
+    private void startResponse(String statusLine) throws IOException {
+        // e.g. "HTTP/1.1 200 OK"
+        if (!statusLine.startsWith("HTTP/1.")) {
+            throw new ProtocolException("Invalid status line: " + statusLine);
+        }
+        int start = statusLine.indexOf(' ');
+        int end = statusLine.indexOf(' ', start + 1);
+        try {
+            statusCode = Integer.parseInt(end > 0 ? statusLine.substring(start + 1, end) : statusLine.substring(start + 1));
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            throw new ProtocolException("Invalid status line: " + statusLine);
+        }
+        contentType = null;
+        // HTTP/1.0 connections are not persistent by default
+        connectionClose = statusLine.startsWith("HTTP/1.0");
+        contentLength = -1;
+        chunked = false;
+        bodyLength = 0;
+    }
+
+    private void header(String line) throws IOException {
+        int colon = line.indexOf(':');
+        if (colon <= 0) {
+            throw new ProtocolException("Invalid header: " + line);
+        }
+        String name = line.substring(0, colon).trim().toLowerCase(Locale.ROOT);
+        String value = line.substring(colon + 1).trim();
+        switch (name) {
+            case "content-length":
+                try {
+                    contentLength = Long.parseLong(value);
+                } catch (NumberFormatException e) {
+                    throw new ProtocolException("Invalid Content-Length: " + value);
+                }
+                if (contentLength < 0 || contentLength > Integer.MAX_VALUE - 8) {
+                    throw new ProtocolException("Unsupported Content-Length: " + value);
+                }
+                break;
+            case "transfer-encoding":
+                chunked = value.toLowerCase(Locale.ROOT).endsWith("chunked");
+                break;
+            case "connection":
+                String v = value.toLowerCase(Locale.ROOT);
+                if (v.contains("close")) {
+                    connectionClose = true;
+                } else if (v.contains("keep-alive")) {
+                    connectionClose = false;
+                }
+                break;
+            case "content-type":
+                contentType = value;
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Nullable
+    private Response endHeaders() {
+        if (statusCode / 100 == 1) {
+            // Informational response (e.g. 100 Continue), the real response follows
+            state = State.STATUS_LINE;
+            return null;
+        }
+        if (chunked) {
+            body = new byte[Math.max(body.length, 1024)];
+            state = State.CHUNK_SIZE;
+            return null;
+        } else if (contentLength >= 0) {
+            body = new byte[(int) contentLength];
+            state = State.BODY;
+            return contentLength == 0 ? finish() : null;
+        } else if (statusCode == 204 || statusCode == 304) {
+            return finish();
+        } else {
+            body = new byte[Math.max(body.length, 1024)];
+            connectionClose = true;
+            state = State.BODY_UNTIL_CLOSE;
+            return null;
+        }
+    }
+
+    private Response finish() {
+        byte[] result = bodyLength == body.length ? body : Arrays.copyOf(body, bodyLength);
+        Response response = new Response(statusCode, contentType, connectionClose, result);
+        body = new byte[0];
+        bodyLength = 0;
+        state = State.STATUS_LINE;
+        return response;
+    }
+
+    private void copyBody(ByteBuffer in, int n) {
+        if (bodyLength + n > body.length) {
+            body = Arrays.copyOf(body, Math.max(bodyLength + n, body.length * 2));
+        }
+        in.get(body, bodyLength, n);
+        bodyLength += n;
+    }
+
+    // Read a CRLF (or LF) terminated line, returning null (and buffering the partial line) if the buffer runs out
+    @Nullable
+    private String readLine(ByteBuffer in) throws IOException {
+        while (in.hasRemaining()) {
+            byte b = in.get();
+            if (b == '\n') {
+                int len = (lineLength > 0 && lineBuffer[lineLength - 1] == '\r') ? lineLength - 1 : lineLength;
+                lineLength = 0;
+                return new String(lineBuffer, 0, len, StandardCharsets.ISO_8859_1);
+            }
+            if (lineLength == lineBuffer.length) {
+                if (lineLength >= MAX_LINE_LENGTH) {
+                    throw new ProtocolException("HTTP response line too long");
+                }
+                lineBuffer = Arrays.copyOf(lineBuffer, lineLength * 2);
+            }
+            lineBuffer[lineLength++] = b;
+        }
+        return null;
+    }
+}
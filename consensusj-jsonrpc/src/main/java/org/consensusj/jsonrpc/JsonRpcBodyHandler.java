@@ -0,0 +1,167 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Handle an encoded JSON-RPC request body (a single request or a batch) with a {@link JsonRpcService}, following
+ * the error and batch rules of the <a href="https://www.jsonrpc.org/specification">JSON-RPC 2.0 Specification</a>.
+ * For use by server controllers. The same mapper decodes the request and encodes the response, so this works for
+ * JSON and (with a mapper from {@link CborSupport#mapperFor(ObjectMapper)}) CBOR.
+ * <ul>
+ *     <li>A body that can't be parsed gets a {@link JsonRpcError.Error#PARSE_ERROR} response with HTTP status {@code 400}</li>
+ *     <li>A single value that isn't a request object gets an {@link JsonRpcError.Error#INVALID_REQUEST} response
+ *         with HTTP status {@code 400}</li>
+ *     <li>An empty batch gets a single {@code INVALID_REQUEST} response</li>
+ *     <li>Each invalid element of a batch gets its own {@code INVALID_REQUEST} response, the valid elements are
+ *         handled with {@link JsonRpcService#callBatch(List)}</li>
+ *     <li>A batch containing only notifications gets no response body (HTTP status {@code 204})</li>
+ * </ul>
+ */
+public final class JsonRpcBodyHandler {
+    private static final Logger log = LoggerFactory.getLogger(JsonRpcBodyHandler.class);
+
+    private JsonRpcBodyHandler() {
+    }
+
+    /**
+     * Response body and HTTP status for a request body
+     */
+    public static final class Result {
+        private final int statusCode;
+        private final byte @Nullable [] body;
+
+        private Result(int statusCode, byte @Nullable [] body) {
+            this.statusCode = statusCode;
+            this.body = body;
+        }
+
+        /**
+         * @return HTTP status code for the response
+         */
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        /**
+         * @return encoded response body, or {@code null} if there is no response (status {@code 204})
+         */
+        public byte @Nullable [] getBody() {
+            return body;
+        }
+    }
+
+    /**
+     * Handle a request or batch.
+     * @param service service to call
+     * @param mapper mapper used to decode the request and encode the response
+     * @param body encoded request or batch body
+     * @return a future for the response
+     */
+    public static CompletableFuture<Result> handle(JsonRpcService service, ObjectMapper mapper, byte[] body) {
+        JsonNode tree;
+        try {
+            tree = mapper.readTree(body);
+        } catch (IOException e) {
+            log.warn("Unparseable JSON-RPC request: {}", e.toString());
+            return CompletableFuture.completedFuture(new Result(400, encode(mapper, error(JsonRpcError.Error.PARSE_ERROR))));
+        }
+        if (tree == null || tree.isMissingNode()) {
+            return CompletableFuture.completedFuture(new Result(400, encode(mapper, error(JsonRpcError.Error.PARSE_ERROR))));
+        }
+        if (tree.isArray()) {
+            return callBatch(service, mapper, tree);
+        }
+        Optional<JsonRpcRequest> request = toRequest(mapper, tree);
+        if (request.isEmpty()) {
+            return CompletableFuture.completedFuture(new Result(400, encode(mapper, error(JsonRpcError.Error.INVALID_REQUEST))));
+        }
+        log.debug("JSON-RPC call: {}", request.get().getMethod());
+        return service.call(request.get())
+                .thenApply(response -> new Result(200, encode(mapper, response)));
+    }
+
+    private static CompletableFuture<Result> callBatch(JsonRpcService service, ObjectMapper mapper, JsonNode batch) {
+        if (batch.isEmpty()) {
+            return CompletableFuture.completedFuture(new Result(200, encode(mapper, error(JsonRpcError.Error.INVALID_REQUEST))));
+        }
+        List<Optional<JsonRpcRequest>> elements = new ArrayList<>(batch.size());
+        List<JsonRpcRequest> requests = new ArrayList<>(batch.size());
+        for (JsonNode node : batch) {
+            Optional<JsonRpcRequest> request = toRequest(mapper, node);
+            elements.add(request);
+            request.ifPresent(requests::add);
+        }
+        log.debug("JSON-RPC batch of {} requests ({} invalid)", elements.size(), elements.size() - requests.size());
+        CompletableFuture<List<JsonRpcResponse<Object>>> called = requests.isEmpty()
+                ? CompletableFuture.completedFuture(List.of())
+                : service.callBatch(requests);
+        return called.thenApply(responses -> {
+            // Put an error response in the place of each invalid element
+            Iterator<JsonRpcResponse<Object>> valid = responses.iterator();
+            List<JsonRpcResponse<Object>> all = new ArrayList<>(elements.size());
+            for (Optional<JsonRpcRequest> element : elements) {
+                if (element.isEmpty()) {
+                    all.add(error(JsonRpcError.Error.INVALID_REQUEST));
+                } else if (!element.get().isNotification()) {
+                    all.add(valid.next());
+                }
+            }
+            return all.isEmpty() ? new Result(204, null) : new Result(200, encode(mapper, all));
+        });
+    }
+
+    // Convert a node to a request, or empty if it isn't a valid request object
+    private static Optional<JsonRpcRequest> toRequest(ObjectMapper mapper, JsonNode node) {
+        if (!node.isObject() || !node.path("method").isTextual()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(mapper.treeToValue(node, JsonRpcRequest.class));
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            log.debug("Invalid JSON-RPC request: {}", e.toString());
+            return Optional.empty();
+        }
+    }
+
+    private static byte[] encode(ObjectMapper mapper, Object response) {
+        try {
+            return mapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    // An error response with a null id, for when the request (and its id) can't be read
+    @SuppressWarnings("NullAway")
+    private static JsonRpcResponse<Object> error(JsonRpcError.Error error) {
+        return new JsonRpcResponse<>(JsonRpcMessage.Version.V2.jsonrpc(), null, null, JsonRpcError.of(error));
+    }
+}
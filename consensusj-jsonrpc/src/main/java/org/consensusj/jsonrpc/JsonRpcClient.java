@@ -49,6 +49,17 @@ public interface JsonRpcClient<T extends Type> extends JsonRpcTransport<T>, Auto
      */
     JsonRpcMessage.Version getJsonRpcVersion();
 
+    /**
+     * Return the {@code id} for the next request created by {@link #buildJsonRequest(String, List)}. The default
+     * implementation uses the generator shared by all {@link JsonRpcRequest}s that are created without an id.
+     * Implementations should override this to use their own {@link RequestIdGenerator}.
+     *
+     * @return a request id
+     */
+    default long nextRequestId() {
+        return JsonRpcRequest.nextSharedId();
+    }
+
     /**
      * Call an RPC method and return default object type.
      * <p>
@@ -166,11 +177,11 @@ public interface JsonRpcClient<T extends Type> extends JsonRpcTransport<T>, Auto
      * @return A ready-to-send JsonRpcRequest
      */
     default JsonRpcRequest buildJsonRequest(String method, List<Object> params) {
-        return new JsonRpcRequest(getJsonRpcVersion(), method, params);
+        return new JsonRpcRequest(getJsonRpcVersion(), nextRequestId(), method, JsonRpcRequest.removeTrailingNulls(params));
     }
 
     default JsonRpcRequest buildJsonRequest(String method, @Nullable Object... params) {
-        return new JsonRpcRequest(getJsonRpcVersion(), method, Arrays.asList(params));
+        return new JsonRpcRequest(getJsonRpcVersion(), nextRequestId(), method, JsonRpcRequest.removeTrailingNulls(Arrays.asList(params)));
     }
 
     /**
@@ -15,9 +15,11 @@
  */
 package org.consensusj.jsonrpc;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -26,12 +28,15 @@ import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLSocketFactory;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.lang.reflect.Type;
 import java.net.HttpURLConnection;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
 
 /**
  * JSON-RPC Client using {@link HttpURLConnection} formerly named{@code RpcClient}.
@@ -43,24 +48,62 @@ import java.util.concurrent.CompletableFuture;
  * response object uses a parameterized type for the object that is the actual JSON-RPC `result`.
  * Using strong types and Jackson to serialize/deserialize to/from strongly-typed POJO's without
  * using intermediate `Map` or `JsonNode` types.
- *
+ * <p>
+ * By default, every request uses a new connection ({@code Connection: close}). Use the constructor with a
+ * {@code maxConnections} parameter to enable HTTP keep-alive. In keep-alive mode response streams are fully
+ * drained and closed (rather than disconnected) so the JDK's {@code HttpURLConnection} keep-alive cache
+ * can reuse the underlying socket (and TLS session) for subsequent requests, and at most {@code maxConnections}
+ * requests are in flight at any time, so at most that many sockets are open to the server. Idle
+ * sockets are closed by the JDK's keep-alive cache: after the timeout in the server's {@code Keep-Alive}
+ * response header or, if none, after the (JDK-wide) {@code http.keepAlive.time.server} time
+ * (default 5 seconds). The JDK-wide {@code http.maxConnections} system property (default 5) limits the number
+ * of idle sockets the JDK will keep per server and should be at least {@code maxConnections}.
  */
 public class JsonRpcClientHttpUrlConnection implements JsonRpcTransport<JavaType> {
     private static final Logger log = LoggerFactory.getLogger(JsonRpcClientHttpUrlConnection.class);
     private final ObjectMapper mapper;
+    private final JsonRpcCodec codec;
     private final URI serverURI;
-    private final String username;
-    private final String password;
+    private final String basicAuth;
     private static final String UTF8 = StandardCharsets.UTF_8.name();
     private final SSLSocketFactory sslSocketFactory;
+    private final boolean keepAlive;
+    @Nullable
+    private final Semaphore connectionPermits;
 
+    /**
+     * Construct a client that uses a new connection for each request.
+     * @param mapper mapper for serializing/deserializing JSON
+     * @param sslContext SSL context for HTTPS connections
+     * @param server URI of the server
+     * @param rpcUser username
+     * @param rpcPassword password
+     */
     public JsonRpcClientHttpUrlConnection(ObjectMapper mapper, SSLContext sslContext, URI server, final String rpcUser, final String rpcPassword) {
+        this(mapper, sslContext, server, rpcUser, rpcPassword, 0);
+    }
+
+    /**
+     * Construct a client that (if {@code maxConnections > 0}) uses HTTP keep-alive to reuse connections.
+     * @param mapper mapper for serializing/deserializing JSON
+     * @param sslContext SSL context for HTTPS connections
+     * @param server URI of the server
+     * @param rpcUser username
+     * @param rpcPassword password
+     * @param maxConnections maximum number of (persistent) connections to the server, or {@code 0} to use a new connection per request
+     */
+    public JsonRpcClientHttpUrlConnection(ObjectMapper mapper, SSLContext sslContext, URI server, final String rpcUser, final String rpcPassword, int maxConnections) {
+        if (maxConnections < 0) {
+            throw new IllegalArgumentException("maxConnections must not be negative");
+        }
         this.mapper = mapper;
+        this.codec = new JsonRpcCodec(mapper);
         this.sslSocketFactory = sslContext.getSocketFactory();
         log.debug("Constructing JSON-RPC client for: {}", server);
         this.serverURI = server;
-        this.username = rpcUser;
-        this.password = rpcPassword;
+        this.basicAuth = "Basic " + JsonRpcTransport.base64Encode(rpcUser + ":" + rpcPassword);
+        this.keepAlive = maxConnections > 0;
+        this.connectionPermits = keepAlive ? new Semaphore(maxConnections, true) : null;
     }
 
     /**
@@ -83,36 +126,118 @@ public class JsonRpcClientHttpUrlConnection implements JsonRpcTransport<JavaType
      */
     @Override
     public <R> JsonRpcResponse<R> sendRequestForResponse(JsonRpcRequest request, JavaType responseType) throws IOException, JsonRpcStatusException {
-        HttpURLConnection connection = openConnection();
+        if (log.isDebugEnabled()) {
+            log.debug("JsonRpcRequest: {}", mapper.writeValueAsString(request));
+        }
+        return exchange(request, in -> responseFromStream(in, responseType));
+    }
 
-        // TODO: Make sure HTTP keep-alive will work
-        // See: http://docs.oracle.com/javase/7/docs/technotes/guides/net/http-keepalive.html
-        // http://developer.android.com/reference/java/net/HttpURLConnection.html
-        // http://android-developers.blogspot.com/2011/09/androids-http-clients.html
+    @Override
+    public <R> CompletableFuture<JsonRpcResponse<R>> sendRequestForResponseAsync(JsonRpcRequest request, JavaType responseType) {
+        return supplyAsync(() -> this.sendRequestForResponse(request, responseType));
+    }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The batch is sent as a JSON array in a single HTTP {@code POST}.
+     */
+    @Override
+    public List<CompletableFuture<JsonRpcResponse<?>>> sendBatchAsync(List<JsonRpcRequest> requests, List<JavaType> responseTypes) {
+        BatchResponseReader reader = new BatchResponseReader(codec, requests, responseTypes);
+        if (!requests.isEmpty()) {
+            getDefaultAsyncExecutor().execute(() -> {
+                try {
+                    sendBatch(requests, reader);
+                } catch (IOException | RuntimeException e) {
+                    reader.failAll(e);
+                }
+            });
+        }
+        return reader.futures();
+    }
+
+    private void sendBatch(List<JsonRpcRequest> requests, BatchResponseReader reader) throws IOException {
         if (log.isDebugEnabled()) {
-            log.debug("JsonRpcRequest: {}", mapper.writeValueAsString(request));
+            log.debug("JsonRpcRequest batch: {}", mapper.writeValueAsString(requests));
         }
-        
-        try (OutputStream requestStream = connection.getOutputStream()) {
-            mapper.writeValue(requestStream, request);
+        exchange(requests, in -> {
+            try (JsonParser parser = createParser(in)) {
+                reader.read(parser);
+            }
+            return reader;
+        });
+    }
+
+    /**
+     * Reads a response body. Implementations must not close the stream.
+     * @param <R> result type
+     */
+    @FunctionalInterface
+    private interface ResponseReader<R> {
+        R read(InputStream in) throws IOException;
+    }
+
+    /**
+     * Send a request (or batch) and read the response, managing the connection according to the keep-alive mode.
+     * @param request request or list of requests to serialize
+     * @param responseReader function to read the response body
+     * @return the result of {@code responseReader}
+     */
+    private <R> R exchange(Object request, ResponseReader<R> responseReader) throws IOException {
+        if (connectionPermits != null) {
+            try {
+                connectionPermits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted waiting for a connection");
+            }
         }
+        HttpURLConnection connection = openConnection();
+        boolean reusable = false;
+        try {
+            try (OutputStream requestStream = connection.getOutputStream()) {
+                codec.writer().writeValue(requestStream, request);
+            }
 
-        int responseCode = connection.getResponseCode();
-        log.debug("HTTP Response code: {}", responseCode);
+            int responseCode = connection.getResponseCode();
+            log.debug("HTTP Response code: {}", responseCode);
 
-        if (responseCode != 200) {
-            handleBadResponseCode(responseCode, connection);
+            if (responseCode != 200) {
+                handleBadResponseCode(responseCode, connection);
+            }
+
+            R result;
+            try (InputStream responseStream = connection.getInputStream()) {
+                result = responseReader.read(responseStream);
+                if (keepAlive) {
+                    // The socket can only be reused if the response body has been completely consumed
+                    drain(responseStream);
+                    reusable = true;
+                }
+            }
+            return result;
+        } finally {
+            if (!reusable) {
+                connection.disconnect();
+            }
+            if (connectionPermits != null) {
+                connectionPermits.release();
+            }
         }
+    }
 
-        JsonRpcResponse<R> responseJson = responseFromStream(connection.getInputStream(), responseType);
-        connection.disconnect();
-        return responseJson;
+    // Read (and discard) any remaining bytes, e.g. a trailing newline after the JSON
+    private static void drain(InputStream in) throws IOException {
+        byte[] buffer = new byte[512];
+        while (in.read(buffer) != -1) {
+            // discard
+        }
     }
 
-    @Override
-    public <R> CompletableFuture<JsonRpcResponse<R>> sendRequestForResponseAsync(JsonRpcRequest request, JavaType responseType) {
-        return supplyAsync(() -> this.sendRequestForResponse(request, responseType));
+    // Create a parser that doesn't close the stream, so the transport can drain it
+    private JsonParser createParser(InputStream in) throws IOException {
+        return mapper.createParser(in).disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
     }
 
     private <R> JsonRpcResponse<R> responseFromStream(InputStream inputStream, JavaType responseType) throws IOException {
@@ -122,10 +247,12 @@ public class JsonRpcClientHttpUrlConnection implements JsonRpcTransport<JavaType
                 // If logging enabled, copy InputStream to string and log
                 String responseBody = convertStreamToString(inputStream);
                 log.debug("Response Body: {}", responseBody);
-                responseJson = mapper.readValue(responseBody, responseType);
+                responseJson = codec.readerFor(responseType).readValue(responseBody);
             } else {
                 // Otherwise convert directly to responseType
-                responseJson = mapper.readValue(inputStream, responseType);
+                try (JsonParser parser = createParser(inputStream)) {
+                    responseJson = codec.readerFor(responseType).readValue(parser);
+                }
             }
         } catch (JsonProcessingException e) {
             log.error("JsonProcessingException: ", e);
@@ -149,7 +276,10 @@ public class JsonRpcClientHttpUrlConnection implements JsonRpcTransport<JavaType
         if (errorStream != null) {
             if (connection.getContentType().equals("application/json")) {
                 // We got a JSON error response -- try to parse it as a JsonRpcResponse
-                JsonRpcResponse<Object> bodyJson = responseFromStream(errorStream, responseTypeFor(Object.class));
+                JsonRpcResponse<Object> bodyJson;
+                try (InputStream in = errorStream) {
+                    bodyJson = responseFromStream(in, codec.objectResponseType());
+                }
                 // Since this is an error at the JSON level, let's log it with `debug` level and
                 // let the higher-level software decide whether to log it as `error` or not
                 String code = bodyJson.getError() != null ? Integer.toString(bodyJson.getError().getCode()) : "null";
@@ -180,10 +310,9 @@ public class JsonRpcClientHttpUrlConnection implements JsonRpcTransport<JavaType
         connection.setRequestMethod("POST");
         connection.setRequestProperty("Accept-Charset", UTF8);
         connection.setRequestProperty("Content-Type", "application/json;charset=" +  UTF8);
-        connection.setRequestProperty("Connection", "close");   // Avoid EOFException: http://stackoverflow.com/questions/19641374/android-eofexception-when-using-httpurlconnection-headers
-
-        String auth = username + ":" + password;
-        String basicAuth = "Basic " + JsonRpcTransport.base64Encode(auth);
+        if (!keepAlive) {
+            connection.setRequestProperty("Connection", "close");   // Avoid EOFException: http://stackoverflow.com/questions/19641374/android-eofexception-when-using-httpurlconnection-headers
+        }
         connection.setRequestProperty ("Authorization", basicAuth);
 
         return connection;
@@ -15,39 +15,93 @@
  */
 package org.consensusj.jsonrpc;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.consensusj.jsonrpc.metrics.JsonRpcMetrics;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.net.ssl.SSLContext;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.reflect.Type;
 import java.net.URI;
 import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
 
 /**
  * Incubating JSON-RPC client using {@link java.net.http.HttpClient}
+ * <p>
+ * With {@link HttpClient.Version#HTTP_2} (the default) HTTP/2 is negotiated with ALPN for {@code https} URIs and with
+ * an {@code Upgrade} for {@code http} URIs, falling back to HTTP/1.1 if the server doesn't support it. Once an HTTP/2
+ * connection is established, concurrent requests are multiplexed on it. (The JDK client doesn't support HTTP/2 with
+ * "prior knowledge".) Use {@link HttpClient.Version#HTTP_1_1} to never attempt HTTP/2.
+ * <p>
+ * Response compression ({@code gzip} or {@code deflate}) and {@code gzip} request compression can be enabled
+ * with {@link Compression}. Compressed responses are decompressed as they are streamed to Jackson.
+ * <p>
+ * With {@link Format#CBOR}, requests are sent as CBOR (see {@link CborSupport}) and the response is read according to
+ * its {@code Content-Type}. If the server responds to a CBOR request with a non-CBOR response that shows it couldn't
+ * read the request (HTTP status 415, or status 400 or 500 with a JSON-RPC parse error, as returned by {@code bitcoind}),
+ * it is assumed not to support CBOR: the request is resent as JSON and JSON is used from then on. Other errors are
+ * not retried, because the server may already have executed the request.
  */
 public class JsonRpcClientJavaNet implements JsonRpcTransport<JavaType> {
     private static final Logger log = LoggerFactory.getLogger(JsonRpcClientJavaNet.class);
 
+    /**
+     * HTTP compression options
+     */
+    public enum Compression {
+        /** No compression (the default) */
+        NONE,
+        /** Send {@code Accept-Encoding: gzip, deflate} and decompress responses */
+        RESPONSE,
+        /** Compress request bodies with {@code gzip} and decompress responses. The server must support this. */
+        REQUEST_AND_RESPONSE
+    }
+
+    /**
+     * Message encoding options
+     */
+    public enum Format {
+        /** JSON */
+        JSON,
+        /** CBOR, with fallback to JSON if the server doesn't support it */
+        CBOR
+    }
+
     private final ObjectMapper mapper;
+    private final JsonRpcCodec codec;
     private final URI serverURI;
-    @Nullable
-    private final String username;
-    @Nullable
-    private final String password;
     private final HttpClient client;
+    // Header name/value pairs (including Authorization) are the same for every request, so build them once
+    private final String[] headers;
+    private final String[] cborHeaders;
+    // Initially true for Format.CBOR, set to false if the server doesn't support CBOR
+    private volatile boolean useCbor;
+    private final JsonRpcMetrics metrics;
+    private final Compression compression;
     private static final String UTF8 = StandardCharsets.UTF_8.name();
 
 
@@ -56,29 +110,120 @@ public class JsonRpcClientJavaNet implements JsonRpcTransport<JavaType> {
     }
 
     public JsonRpcClientJavaNet(ObjectMapper mapper, SSLContext sslContext, URI server, @Nullable String rpcUser, @Nullable String rpcPassword) {
-        log.debug("Constructing JSON-RPC client for: {}", server);
+        this(mapper, sslContext, server, rpcUser, rpcPassword, JsonRpcMetrics.NOOP);
+    }
+
+    /**
+     * Construct a client that records request and response sizes.
+     * @param mapper mapper for serializing/deserializing JSON
+     * @param sslContext SSL context for HTTPS connections
+     * @param server server URI
+     * @param rpcUser username
+     * @param rpcPassword password
+     * @param metrics where to record request and response sizes (response sizes are from {@code Content-Length})
+     */
+    public JsonRpcClientJavaNet(ObjectMapper mapper, SSLContext sslContext, URI server, @Nullable String rpcUser, @Nullable String rpcPassword, JsonRpcMetrics metrics) {
+        this(mapper, sslContext, server, rpcUser, rpcPassword, metrics, HttpClient.Version.HTTP_2, Compression.NONE);
+    }
+
+    /**
+     * Construct a client with a preferred HTTP version and compression.
+     * @param mapper mapper for serializing/deserializing JSON
+     * @param sslContext SSL context for HTTPS connections
+     * @param server server URI
+     * @param rpcUser username
+     * @param rpcPassword password
+     * @param metrics where to record request and response sizes (sizes are as sent/received, i.e. compressed)
+     * @param httpVersion preferred HTTP version
+     * @param compression request/response compression
+     */
+    public JsonRpcClientJavaNet(ObjectMapper mapper, SSLContext sslContext, URI server, @Nullable String rpcUser, @Nullable String rpcPassword, JsonRpcMetrics metrics, HttpClient.Version httpVersion, Compression compression) {
+        this(mapper, sslContext, server, rpcUser, rpcPassword, metrics, httpVersion, compression, Format.JSON);
+    }
+
+    /**
+     * Construct a client with a preferred HTTP version, compression, and message format.
+     * @param mapper mapper for serializing/deserializing JSON (a CBOR mapper is copied from it when first needed).
+     *               It should be fully configured before the first request: readers, writers and the CBOR mapper are
+     *               created on first use and don't see later changes (e.g. modules registered afterward.)
+     * @param sslContext SSL context for HTTPS connections
+     * @param server server URI
+     * @param rpcUser username
+     * @param rpcPassword password
+     * @param metrics where to record request and response sizes (sizes are as sent/received, i.e. compressed)
+     * @param httpVersion preferred HTTP version
+     * @param compression request/response compression
+     * @param format preferred message format
+     */
+    public JsonRpcClientJavaNet(ObjectMapper mapper, SSLContext sslContext, URI server, @Nullable String rpcUser, @Nullable String rpcPassword, JsonRpcMetrics metrics, HttpClient.Version httpVersion, Compression compression, Format format) {
+        log.debug("Constructing JSON-RPC client for: {} ({}, compression: {}, format: {})", server, httpVersion, compression, format);
         this.mapper = mapper;
+        this.codec = new JsonRpcCodec(mapper);
         this.serverURI = server;
-        this.username = rpcUser;
-        this.password = rpcPassword;
+        this.metrics = metrics;
+        this.compression = compression;
+        this.useCbor = format == Format.CBOR;
+        String authorization = "Basic " + JsonRpcTransport.base64Encode(rpcUser + ":" + rpcPassword);
+        this.headers = headers(List.of(
+                "Content-Type", "application/json;charset=" +  UTF8,
+                "Accept-Charset", UTF8,
+                "Accept", "application/json",
+                "Authorization", authorization), compression);
+        this.cborHeaders = headers(List.of(
+                "Content-Type", CborSupport.MEDIA_TYPE,
+                "Accept", CborSupport.MEDIA_TYPE + ", application/json;q=0.5",
+                "Authorization", authorization), compression);
         this.client = HttpClient.newBuilder()
                 .connectTimeout(Duration.ofMinutes(2))
                 .sslContext(sslContext)
+                .version(httpVersion)
                 .build();
     }
 
+    // Header name/value pairs for requests, including compression headers
+    private static String[] headers(List<String> headers, Compression compression) {
+        List<String> headerList = new ArrayList<>(headers);
+        if (compression != Compression.NONE) {
+            headerList.addAll(List.of("Accept-Encoding", "gzip, deflate"));
+        }
+        if (compression == Compression.REQUEST_AND_RESPONSE) {
+            headerList.addAll(List.of("Content-Encoding", "gzip"));
+        }
+        return headerList.toArray(new String[0]);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public <R> CompletableFuture<JsonRpcResponse<R>> sendRequestForResponseAsync(JsonRpcRequest request, JavaType responseType) {
         return sendCommon(request)
-                .thenApply(mappingFuncFor(responseType));
+                .thenApply(body -> this.<JsonRpcResponse<R>, JavaType>mappingFuncFor(responseType, body.cbor).apply(body.stream));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The batch is sent as a JSON array in a single HTTP {@code POST}.
+     */
+    @Override
+    public List<CompletableFuture<JsonRpcResponse<?>>> sendBatchAsync(List<JsonRpcRequest> requests, List<JavaType> responseTypes) {
+        BatchResponseReader reader = new BatchResponseReader(codec, requests, responseTypes);
+        if (!requests.isEmpty()) {
+            sendCommon(requests)
+                    .thenAccept(s -> readBatch(reader, s))
+                    .whenComplete((v, t) -> {
+                        if (t != null) {
+                            reader.failAll(t instanceof CompletionException && t.getCause() != null ? t.getCause() : t);
+                        }
+                    });
+        }
+        return reader.futures();
     }
 
     // For testing only
     CompletableFuture<String> sendRequestForResponseString(JsonRpcRequest request) {
-        return sendCommon(request);
+        return sendCommon(request).thenApply(body -> readString(body.stream));
     }
 
     /**
@@ -89,36 +234,173 @@ public class JsonRpcClientJavaNet implements JsonRpcTransport<JavaType> {
         return serverURI;
     }
 
-    private String encodeJsonRpcRequest(JsonRpcRequest request) throws JsonProcessingException {
-        return mapper.writeValueAsString(request);
+    private byte[] encodeJsonRpcRequest(Object request, boolean cbor) throws JsonProcessingException {
+        JsonRpcCodec requestCodec = cbor ? codec.cbor() : codec;
+        if (compression == Compression.REQUEST_AND_RESPONSE) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (OutputStream out = new GZIPOutputStream(bytes)) {
+                requestCodec.writer().writeValue(out, request);
+            } catch (JsonProcessingException e) {
+                throw e;
+            } catch (IOException e) {
+                // Not expected when writing to a ByteArrayOutputStream
+                throw new IllegalStateException(e);
+            }
+            return bytes.toByteArray();
+        }
+        return requestCodec.writer().writeValueAsBytes(request);
+    }
+
+    private void readBatch(BatchResponseReader reader, Body body) {
+        try (JsonParser parser = (body.cbor ? codec.cbor().mapper() : mapper).createParser(body.stream)) {
+            reader.read(parser);
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
     }
 
     /**
-     * @param request A JSON-RPC request
-     * @return A future for a JSON-RPC response in String format
+     * @param request A JSON-RPC request or a {@link List} of requests (batch)
+     * @return A future for a JSON-RPC response body stream. Deserializing from the stream may block
+     *          until the body is fully received, so callers should deserialize in a dependent stage
+     *          (which will run on the {@link HttpClient}'s executor) rather than holding the stream.
      */
-    private CompletableFuture<String> sendCommon(JsonRpcRequest request) {
+    private CompletableFuture<Body> sendCommon(Object request) {
         log.debug("Send: {}", request);
+        boolean cbor = useCbor;
         try {
-            HttpRequest httpRequest = buildJsonRpcPostRequest(request);
-            return client.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofString())
-                    .whenComplete(this::log)
-                    .thenCompose(this::handleStatusError)
-                    .thenApply(HttpResponse::body)
+            HttpRequest httpRequest = buildJsonRpcPostRequest(request, cbor);
+            CompletableFuture<HttpResponse<InputStream>> response = client.sendAsync(httpRequest, this::bodySubscriberFor)
                     .whenComplete(this::log);
+            if (cbor) {
+                response = response.thenCompose(r -> checkCborSupported(request, r));
+            }
+            return response
+                    .thenCompose(this::handleStatusError)
+                    .thenApply(r -> body(request, r));
         } catch (JsonProcessingException e) {
             return CompletableFuture.failedFuture(e);
         }
     }
 
+    // If the server responded to a CBOR request without CBOR because it couldn't read the request, it can't have
+    // executed it: resend it as JSON and use JSON from now on. Any other response is returned as-is.
+    private CompletableFuture<HttpResponse<InputStream>> checkCborSupported(Object request, HttpResponse<InputStream> response) {
+        int status = response.statusCode();
+        boolean unreadable = status == 415 || ((status == 400 || status == 500) && isParseError(response.body()));
+        if (isCbor(response.headers()) || !unreadable) {
+            return CompletableFuture.completedFuture(response);
+        }
+        log.info("Server {} does not support CBOR (HTTP status {}), using JSON", serverURI, status);
+        useCbor = false;
+        try {
+            response.body().close();
+            return client.sendAsync(buildJsonRpcPostRequest(request, false), this::bodySubscriberFor)
+                    .whenComplete(this::log);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // Check whether a (buffered) error response body is a JSON-RPC parse error, leaving the body unread
+    private boolean isParseError(InputStream body) {
+        if (!body.markSupported()) {
+            return false;
+        }
+        body.mark(Integer.MAX_VALUE);
+        try {
+            return mapper.readTree(body).path("error").path("code").asInt() == JsonRpcError.Error.PARSE_ERROR.getCode();
+        } catch (IOException e) {
+            return false;
+        } finally {
+            try {
+                body.reset();
+            } catch (IOException e) {
+                log.warn("Can't reset response body", e);
+            }
+        }
+    }
+
+    private static boolean isCbor(HttpHeaders headers) {
+        return headers.firstValue("Content-Type").map(CborSupport::isCbor).orElse(false);
+    }
+
+    /**
+     * Choose a {@link HttpResponse.BodySubscriber} for a response. Successful responses are streamed directly
+     * to Jackson so large responses are never held in memory as a {@code String}. Error responses (which
+     * are small and are needed as a string for the exception) and all responses when debug logging is
+     * enabled are buffered.
+     * @param responseInfo status code and headers of the response
+     * @return a body subscriber that provides the body as an {@link InputStream}
+     */
+    private HttpResponse.BodySubscriber<InputStream> bodySubscriberFor(HttpResponse.ResponseInfo responseInfo) {
+        @Nullable String encoding = responseInfo.headers().firstValue("Content-Encoding").orElse(null);
+        if (responseInfo.statusCode() == 200 && !log.isDebugEnabled()) {
+            return HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofInputStream(), in -> decoding(encoding, in));
+        } else {
+            boolean cbor = isCbor(responseInfo.headers());
+            return HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofByteArray(), bytes -> bufferedBody(encoding, cbor, bytes));
+        }
+    }
+
+    // Wrap a response body stream to decompress it, if necessary
+    private static InputStream decoding(@Nullable String encoding, InputStream in) {
+        if (encoding == null || encoding.equalsIgnoreCase("identity")) {
+            return in;
+        } else if (encoding.equalsIgnoreCase("gzip") || encoding.equalsIgnoreCase("deflate")) {
+            return new DecodingInputStream(encoding, in);
+        } else {
+            throw new CompletionException(new IOException("Unsupported Content-Encoding: " + encoding));
+        }
+    }
+
+    private Body body(Object request, HttpResponse<InputStream> response) {
+        if (metrics != JsonRpcMetrics.NOOP) {
+            response.headers()
+                    .firstValueAsLong("Content-Length")
+                    .ifPresent(length -> metrics.responseBytes(methodFor(request), length));
+        }
+        return new Body(response.body(), isCbor(response.headers()));
+    }
+
+    // Method name used for metrics
+    private static String methodFor(Object request) {
+        return request instanceof JsonRpcRequest ? ((JsonRpcRequest) request).getMethod() : JsonRpcMetrics.BATCH;
+    }
+
+    private InputStream bufferedBody(@Nullable String encoding, boolean cbor, byte[] body) {
+        if (encoding != null) {
+            try (InputStream in = decoding(encoding, new ByteArrayInputStream(body))) {
+                body = in.readAllBytes();
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }
+        if (cbor) {
+            log.debug("Received: {} bytes of CBOR", body.length);
+        } else {
+            log.debug("Received: {}", new String(body, StandardCharsets.UTF_8));
+        }
+        return new ByteArrayInputStream(body);
+    }
+
+    // Read a (complete) response body stream into a String
+    private static String readString(InputStream body) {
+        try (InputStream in = body) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
     /**
      * Process the HTTP status code. Treats values other than 200 as an error.
      * @param response A received HTTP response.
      * @return Completed or failed future as appropriate.
      */
-    private CompletableFuture<HttpResponse<String>> handleStatusError(HttpResponse<String> response) {
+    private CompletableFuture<HttpResponse<InputStream>> handleStatusError(HttpResponse<InputStream> response) {
         if (response.statusCode() != 200) {
-            String body = response.body();
+            String body = readString(response.body());
             log.warn("Bad status code: {}: {}", response.statusCode(), body);
             log.debug("Headers: {}", response.headers());
             // Return a failed future containing a JsonRpcStatusException. Create the exception
@@ -158,46 +440,41 @@ public class JsonRpcClientJavaNet implements JsonRpcTransport<JavaType> {
     private Optional<JsonRpcResponse<Object>> readErrorResponse(String body) {
         JsonRpcResponse<Object> response;
         try {
-            response = mapper.readValue(body, responseTypeFor(Object.class));
+            response = codec.objectResponseReader().readValue(body);
         } catch (JsonProcessingException e) {
             response = null;
         }
         return Optional.ofNullable(response);
     }
 
-    private HttpRequest buildJsonRpcPostRequest(JsonRpcRequest request) throws JsonProcessingException {
-        String requestString = encodeJsonRpcRequest(request);
-        return buildJsonRpcPostRequest(requestString);
-    }
-
-    private HttpRequest buildJsonRpcPostRequest(String requestString) {
-        log.info("request is: {}", requestString);
-
-        String auth = username + ":" + password;
-        String basicAuth = "Basic " + JsonRpcTransport.base64Encode(auth);
-
+    private HttpRequest buildJsonRpcPostRequest(Object request, boolean cbor) throws JsonProcessingException {
+        byte[] requestBytes = encodeJsonRpcRequest(request, cbor);
+        if (metrics != JsonRpcMetrics.NOOP) {
+            metrics.requestBytes(methodFor(request), requestBytes.length);
+        }
+        if (log.isTraceEnabled() && !cbor && compression != Compression.REQUEST_AND_RESPONSE) {
+            log.trace("request is: {}", new String(requestBytes, StandardCharsets.UTF_8));
+        }
         return HttpRequest
                 .newBuilder(serverURI)
-                .header("Content-Type", "application/json;charset=" +  UTF8)
-                .header("Accept-Charset", UTF8)
-                .header("Accept", "application/json")
-                .header("Authorization", basicAuth)
-                .POST(HttpRequest.BodyPublishers.ofString(requestString))
+                .headers(cbor ? cborHeaders : headers)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(requestBytes))
                 .build();
     }
 
     // return a MappingFunction for a given type
-    private <R, T extends Type> MappingFunction<R> mappingFuncFor(T responseType) {
-        return s -> mapper.readValue(s, (JavaType) responseType);
+    private <R, T extends Type> MappingFunction<R> mappingFuncFor(T responseType, boolean cbor) {
+        ObjectReader reader = (cbor ? codec.cbor() : codec).readerFor((JavaType) responseType);
+        return reader::readValue;
     }
 
     /**
-     * Map a response string to a Java object. Wraps checked {@link JsonProcessingException}
+     * Map a response body stream to a Java object. Wraps checked {@link JsonProcessingException}
      * in unchecked {@link CompletionException}.
      * @param <R> result type
      */
     @FunctionalInterface
-    protected interface MappingFunction<R> extends Function<String, R> {
+    protected interface MappingFunction<R> extends Function<InputStream, R> {
 
         /**
          * Gets a result. Wraps checked {@link JsonProcessingException} in {@link CompletionException}
@@ -206,7 +483,7 @@ public class JsonRpcClientJavaNet implements JsonRpcTransport<JavaType> {
          * @throws CompletionException (unchecked) if a JsonProcessingException exception occurs
          */
         @Override
-        default R apply(String s) throws CompletionException {
+        default R apply(InputStream s) throws CompletionException {
             try {
                 return applyThrows(s);
             } catch (Exception e) {
@@ -220,7 +497,7 @@ public class JsonRpcClientJavaNet implements JsonRpcTransport<JavaType> {
          * @return a result
          * @throws JsonProcessingException Checked Exception
          */
-        R applyThrows(String s) throws Exception;
+        R applyThrows(InputStream s) throws Exception;
     }
 
     /**
@@ -231,33 +508,67 @@ public class JsonRpcClientJavaNet implements JsonRpcTransport<JavaType> {
      * @param httpResponse non-null on success
      * @param t non-null on error
      */
-    private void log(HttpResponse<String> httpResponse, Throwable t) {
+    private void log(HttpResponse<InputStream> httpResponse, Throwable t) {
         if ((httpResponse != null)) {
-            log.info("log data string: {}", httpResponse);
+            log.debug("log data string: {}", httpResponse);
         } else {
             log.warn("exception: ", t);
         }
     }
 
+    // A response body stream and whether it is CBOR (otherwise it is JSON)
+    private static final class Body {
+        final InputStream stream;
+        final boolean cbor;
+
+        Body(InputStream stream, boolean cbor) {
+            this.stream = stream;
+            this.cbor = cbor;
+        }
+    }
+
     /**
-     * Logging action for a {@code CompletionStage} that returns {@link String}. In the current
-     * implementation of this client, that should be a JSON-formatted string.
-     * <p>
-     * Note that an error at this layer should be treated as a warning for logging purposes, because network
-     * errors are relatively common and should be handled and/or logged at higher layers of the stack.
-     * @param s non-null on success
-     * @param t non-null on error
+     * Decompresses a {@code gzip} or {@code deflate} response body. The decompressing stream is created on the first read,
+     * because {@link GZIPInputStream} reads the gzip header in its constructor, which would block the thread
+     * that is delivering the response to the body subscriber.
      */
-    private void log(String s, Throwable t) {
-        if (s != null) {
-            log.info("log data string: {}", s.substring(0 ,Math.min(100, s.length())));
-        } else {
-            log.warn("exception: ", t);
+    private static final class DecodingInputStream extends InputStream {
+        private final String encoding;
+        private final InputStream in;
+        @Nullable
+        private InputStream decoder;
+
+        DecodingInputStream(String encoding, InputStream in) {
+            this.encoding = encoding;
+            this.in = in;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return decoder().read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return decoder().read(b, off, len);
         }
-    }
 
-    private JavaType responseTypeFor(Class<?> resultType) {
-        return mapper.getTypeFactory().
-                constructParametricType(JsonRpcResponse.class, resultType);
+        @Override
+        public void close() throws IOException {
+            if (decoder != null) {
+                decoder.close();
+            } else {
+                in.close();
+            }
+        }
+
+        private InputStream decoder() throws IOException {
+            InputStream d = decoder;
+            if (d == null) {
+                d = encoding.equalsIgnoreCase("gzip") ? new GZIPInputStream(in) : new InflaterInputStream(in);
+                decoder = d;
+            }
+            return d;
+        }
     }
 }
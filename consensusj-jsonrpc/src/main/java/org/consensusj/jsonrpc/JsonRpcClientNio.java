@@ -0,0 +1,512 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.net.InetSocketAddress;
+import java.net.ProtocolFamily;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * JSON-RPC client using HTTP/1.1 <i>pipelining</i> over a small number of persistent NIO {@link SocketChannel}s.
+ * <p>
+ * Requests are written to a connection as soon as they are sent, without waiting for the responses to earlier
+ * requests on the same connection. Each connection has an I/O thread that uses a non-blocking {@link SocketChannel}
+ * and a {@link Selector} to connect, write queued requests and parse responses incrementally from a direct
+ * {@link ByteBuffer}. Since HTTP/1.1 responses are returned in request order, it completes the oldest
+ * outstanding request with each response. Sending a request only serializes it and queues it on a connection, so
+ * callers are never blocked by connecting, name resolution or a full socket send buffer. Each request is sent on the connection with the fewest outstanding
+ * requests. Responses are deserialized on the common {@link java.util.concurrent.ForkJoinPool}, so slow
+ * deserialization doesn't hold up reading.
+ * <p>
+ * This is intended for high-throughput use (e.g. bulk block scanning) against servers that support pipelining,
+ * such as Bitcoin Core. Plug it into a {@link DefaultRpcClient} with a {@link DefaultRpcClient.TransportFactory}.
+ * Only plain {@code http} is supported.
+ * <p>
+ * HTTP over a UNIX domain socket is supported with a {@code unix:} URI containing the path of the socket
+ * (e.g. {@code unix:///home/user/jrpc-echod-http.socket}). This requires Java 16 or later at runtime.
+ * <p>
+ * If the server closes a connection (e.g. because it was idle), requests
+ * outstanding on that connection fail with an {@link IOException} and a new connection is made for the next request.
+ * <p>
+ * Responses are deserialized on the I/O thread of the connection they arrived on, so dependent stages added
+ * with non-async methods also run there and should not block. Use more connections to spread deserialization
+ * across more threads.
+ * <p>
+ * Call {@link #close()} to close the connections.
+ */
+public class JsonRpcClientNio implements JsonRpcTransport<JavaType>, AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(JsonRpcClientNio.class);
+    /**
+     * URI scheme for HTTP over a UNIX domain socket
+     */
+    public static final String UNIX_SCHEME = "unix";
+    private static final int DEFAULT_CONNECTIONS = 2;
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    // Maximum number of queued buffers written with one (gathering) write
+    private static final int MAX_GATHER = 64;
+    private static final byte[] CRLFCRLF = "\r\n\r\n".getBytes(StandardCharsets.US_ASCII);
+
+    private final ObjectMapper mapper;
+    private final JsonRpcCodec codec;
+    private final URI serverURI;
+    private final SocketAddress address;
+    // Request line and headers up to (and including) "Content-Length: "
+    private final byte[] requestHead;
+    private final Connection[] connections;
+    private volatile boolean closed = false;
+
+    /**
+     * Construct a client with the default number of connections
+     * @param mapper mapper for serializing/deserializing JSON
+     * @param server URI of the server (must be {@code http} or {@code unix})
+     * @param rpcUser username
+     * @param rpcPassword password
+     */
+    public JsonRpcClientNio(ObjectMapper mapper, URI server, @Nullable String rpcUser, @Nullable String rpcPassword) {
+        this(mapper, server, rpcUser, rpcPassword, DEFAULT_CONNECTIONS);
+    }
+
+    /**
+     * @param mapper mapper for serializing/deserializing JSON
+     * @param server URI of the server (must be {@code http} or {@code unix})
+     * @param rpcUser username
+     * @param rpcPassword password
+     * @param connections number of connections to pipeline requests over
+     */
+    public JsonRpcClientNio(ObjectMapper mapper, URI server, @Nullable String rpcUser, @Nullable String rpcPassword, int connections) {
+        this(mapper, socketAddressFor(server), server, rpcUser, rpcPassword, connections);
+    }
+
+    /**
+     * @param mapper mapper for serializing/deserializing JSON
+     * @param address socket address to connect to. An unresolved {@link InetSocketAddress} is resolved on each connect.
+     * @param server URI of the server, used for the request path and {@code Host} header
+     * @param rpcUser username
+     * @param rpcPassword password
+     * @param connections number of connections to pipeline requests over
+     */
+    public JsonRpcClientNio(ObjectMapper mapper, SocketAddress address, URI server, @Nullable String rpcUser, @Nullable String rpcPassword, int connections) {
+        if (connections < 1) {
+            throw new IllegalArgumentException("connections must be at least 1");
+        }
+        log.debug("Constructing JSON-RPC client for: {}", server);
+        this.mapper = mapper;
+        this.codec = new JsonRpcCodec(mapper);
+        this.serverURI = server;
+        this.address = address;
+        this.requestHead = requestHead(server, rpcUser, rpcPassword);
+        this.connections = new Connection[connections];
+        for (int i = 0; i < connections; i++) {
+            this.connections[i] = new Connection();
+        }
+    }
+
+    @Override
+    public URI getServerURI() {
+        return serverURI;
+    }
+
+    @Override
+    public <R> CompletableFuture<JsonRpcResponse<R>> sendRequestForResponseAsync(JsonRpcRequest request, JavaType responseType) {
+        return send(request)
+                .thenApply(response -> readResponse(response, responseType));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The batch is sent as a JSON array in a single HTTP {@code POST}.
+     */
+    @Override
+    public List<CompletableFuture<JsonRpcResponse<?>>> sendBatchAsync(List<JsonRpcRequest> requests, List<JavaType> responseTypes) {
+        BatchResponseReader reader = new BatchResponseReader(codec, requests, responseTypes);
+        if (!requests.isEmpty()) {
+            send(requests)
+                    .thenAccept(response -> readBatch(reader, response))
+                    .whenComplete((v, t) -> {
+                        if (t != null) {
+                            reader.failAll(t instanceof CompletionException && t.getCause() != null ? t.getCause() : t);
+                        }
+                    });
+        }
+        return reader.futures();
+    }
+
+    /**
+     * Close all connections. Outstanding requests will fail.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (Connection connection : connections) {
+            connection.close();
+        }
+    }
+
+    private CompletableFuture<Http1ResponseParser.Response> send(Object request) {
+        if (closed) {
+            return CompletableFuture.failedFuture(new IOException("Transport is closed"));
+        }
+        log.debug("Send: {}", request);
+        byte[] body;
+        try {
+            body = codec.writer().writeValueAsBytes(request);
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return leastBusy().send(body);
+    }
+
+    private Connection leastBusy() {
+        Connection best = connections[0];
+        for (int i = 1; i < connections.length; i++) {
+            if (connections[i].outstanding.get() < best.outstanding.get()) {
+                best = connections[i];
+            }
+        }
+        return best;
+    }
+
+    private <R> JsonRpcResponse<R> readResponse(Http1ResponseParser.Response response, JavaType responseType) {
+        checkStatus(response);
+        try {
+            return codec.readerFor(responseType).readValue(response.body);
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private void readBatch(BatchResponseReader reader, Http1ResponseParser.Response response) {
+        checkStatus(response);
+        try (JsonParser parser = mapper.createParser(response.body)) {
+            reader.read(parser);
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    // Throw a JsonRpcStatusException (wrapped in CompletionException) for responses other than 200
+    private void checkStatus(Http1ResponseParser.Response response) {
+        if (response.statusCode != 200) {
+            String body = new String(response.body, StandardCharsets.UTF_8);
+            log.warn("Bad status code: {}: {}", response.statusCode, body);
+            JsonRpcResponse<Object> jsonResponse = null;
+            if (response.isJson()) {
+                try {
+                    jsonResponse = codec.objectResponseReader().readValue(response.body);
+                } catch (IOException e) {
+                    // Fall through and use the body string
+                }
+            }
+            throw new CompletionException(jsonResponse != null
+                    ? new JsonRpcStatusException(response.statusCode, jsonResponse)
+                    : new JsonRpcStatusException(response.statusCode, body));
+        }
+    }
+
+    private SocketAddress resolvedAddress() {
+        if (address instanceof InetSocketAddress && ((InetSocketAddress) address).isUnresolved()) {
+            InetSocketAddress unresolved = (InetSocketAddress) address;
+            return new InetSocketAddress(unresolved.getHostString(), unresolved.getPort());
+        }
+        return address;
+    }
+
+    /**
+     * Is the URI for HTTP over a UNIX domain socket?
+     * @param server a URI
+     * @return true if the URI is a {@code unix:} (UNIX domain socket) URI
+     */
+    public static boolean isUnixSocketURI(URI server) {
+        return UNIX_SCHEME.equalsIgnoreCase(server.getScheme());
+    }
+
+    /**
+     * Create a {@code java.net.UnixDomainSocketAddress}. This module targets Java 11, so this is done reflectively.
+     * @param path path of the socket file
+     * @return a socket address
+     * @throws UnsupportedOperationException if UNIX domain sockets are not supported by the running JVM
+     */
+    public static SocketAddress unixSocketAddress(Path path) {
+        try {
+            Class<?> addressClass = Class.forName("java.net.UnixDomainSocketAddress");
+            return (SocketAddress) addressClass.getMethod("of", Path.class).invoke(null, path);
+        } catch (ReflectiveOperationException e) {
+            throw new UnsupportedOperationException("UNIX domain sockets require Java 16 or later", e);
+        }
+    }
+
+    private static SocketAddress socketAddressFor(URI server) {
+        if (isUnixSocketURI(server)) {
+            if (server.getPath() == null || server.getPath().isEmpty()) {
+                throw new IllegalArgumentException("Missing socket path in URI: " + server);
+            }
+            return unixSocketAddress(Path.of(server.getPath()));
+        }
+        if (!"http".equalsIgnoreCase(server.getScheme()) || server.getHost() == null) {
+            throw new IllegalArgumentException("Unsupported server URI: " + server);
+        }
+        return InetSocketAddress.createUnresolved(server.getHost(), server.getPort() != -1 ? server.getPort() : 80);
+    }
+
+    private static byte[] requestHead(URI server, @Nullable String rpcUser, @Nullable String rpcPassword) {
+        // For UNIX domain sockets the URI path is the path of the socket file
+        String path = !isUnixSocketURI(server) && server.getRawPath() != null && !server.getRawPath().isEmpty() ? server.getRawPath() : "/";
+        String host = !isUnixSocketURI(server) && server.getHost() != null
+                ? server.getHost() + (server.getPort() != -1 ? ":" + server.getPort() : "")
+                : "localhost";
+        String head = "POST " + path + " HTTP/1.1\r\n" +
+                "Host: " + host + "\r\n" +
+                "Authorization: Basic " + JsonRpcTransport.base64Encode(rpcUser + ":" + rpcPassword) + "\r\n" +
+                "Content-Type: application/json;charset=UTF-8\r\n" +
+                "Accept: application/json\r\n" +
+                "Content-Length: ";
+        return head.getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * A persistent connection. The current pipeline is replaced (on the next request) if it fails or is closed.
+     */
+    private final class Connection {
+        private final AtomicInteger outstanding = new AtomicInteger();
+        // Guarded by `this`
+        @Nullable
+        private Pipeline pipeline;
+
+        CompletableFuture<Http1ResponseParser.Response> send(byte[] body) {
+            CompletableFuture<Http1ResponseParser.Response> future = new CompletableFuture<>();
+            outstanding.incrementAndGet();
+            future.whenComplete((r, t) -> outstanding.decrementAndGet());
+            byte[] length = Integer.toString(body.length).getBytes(StandardCharsets.US_ASCII);
+            ByteBuffer head = ByteBuffer.allocate(requestHead.length + length.length + CRLFCRLF.length);
+            head.put(requestHead).put(length).put(CRLFCRLF).flip();
+            synchronized (this) {
+                Pipeline p = pipeline;
+                try {
+                    if (p == null || p.failed) {
+                        p = new Pipeline(this);
+                        pipeline = p;
+                    }
+                    // The response queue must be in the same order as the requests written, so enqueue while holding the lock
+                    p.pending.add(future);
+                    p.enqueue(head, ByteBuffer.wrap(body));
+                } catch (IOException e) {
+                    future.completeExceptionally(e);
+                }
+            }
+            return future;
+        }
+
+        synchronized void close() {
+            if (pipeline != null) {
+                pipeline.fail(new IOException("Transport closed"));
+            }
+        }
+    }
+
+    /**
+     * A single socket connection with its queues of requests to write and outstanding requests, and an I/O thread
+     * that connects, writes the requests and reads the responses.
+     */
+    private final class Pipeline implements Runnable {
+        private final Object lock;
+        private final Selector selector;
+        private final SocketChannel channel;
+        private final Queue<ByteBuffer> writes = new ConcurrentLinkedQueue<>();
+        private final Queue<CompletableFuture<Http1ResponseParser.Response>> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean wakeupPending = new AtomicBoolean();
+        private volatile boolean failed = false;
+
+        Pipeline(Object lock) throws IOException {
+            this.lock = lock;
+            this.selector = Selector.open();
+            try {
+                this.channel = openChannel(address);
+                channel.configureBlocking(false);
+            } catch (IOException | RuntimeException e) {
+                selector.close();
+                throw e;
+            }
+            Thread io = new Thread(this, "JsonRpcClientNio-" + serverURI);
+            io.setDaemon(true);
+            io.start();
+        }
+
+        // Called while holding the lock, after adding the request's future to `pending`
+        void enqueue(ByteBuffer head, ByteBuffer body) {
+            writes.add(head);
+            writes.add(body);
+            if (wakeupPending.compareAndSet(false, true)) {
+                selector.wakeup();
+            }
+        }
+
+        @Override
+        public void run() {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+            ByteBuffer[] gather = new ByteBuffer[MAX_GATHER];
+            Http1ResponseParser parser = new Http1ResponseParser();
+            try {
+                SelectionKey key = channel.register(selector,
+                        channel.connect(resolvedAddress()) ? SelectionKey.OP_READ : SelectionKey.OP_CONNECT);
+                while (!failed) {
+                    selector.select();
+                    wakeupPending.set(false);
+                    int ready = selector.selectedKeys().remove(key) ? key.readyOps() : 0;
+                    if ((ready & SelectionKey.OP_CONNECT) != 0 && channel.finishConnect()) {
+                        key.interestOps(SelectionKey.OP_READ);
+                    }
+                    if (!channel.isConnected()) {
+                        continue;
+                    }
+                    if ((ready & SelectionKey.OP_READ) != 0) {
+                        read(buffer, parser);
+                    }
+                    key.interestOps(flush(gather) ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+                }
+            } catch (IOException e) {
+                fail(e);
+            } catch (RuntimeException e) {
+                // e.g. UnresolvedAddressException, or CancelledKeyException after close
+                fail(new IOException(e));
+            } finally {
+                try {
+                    selector.close();
+                } catch (IOException ignored) {
+                }
+            }
+        }
+
+        // Read what is available and complete requests with any complete responses
+        private void read(ByteBuffer buffer, Http1ResponseParser parser) throws IOException {
+            if (channel.read(buffer) < 0) {
+                Http1ResponseParser.Response last = parser.endOfStream();
+                if (last != null) {
+                    complete(last);
+                }
+                throw new EOFException("Connection closed by server");
+            }
+            buffer.flip();
+            Http1ResponseParser.Response response;
+            while ((response = parser.parse(buffer)) != null) {
+                complete(response);
+                if (response.connectionClose) {
+                    throw new EOFException("Connection closed by server");
+                }
+            }
+            buffer.compact();
+        }
+
+        // Write queued buffers until the queue is empty or the socket send buffer is full. Returns true if there is more to write.
+        private boolean flush(ByteBuffer[] gather) throws IOException {
+            while (true) {
+                int count = 0;
+                for (ByteBuffer b : writes) {
+                    gather[count++] = b;
+                    if (count == gather.length) {
+                        break;
+                    }
+                }
+                if (count == 0) {
+                    return false;
+                }
+                channel.write(gather, 0, count);
+                boolean full = false;
+                for (int i = 0; i < count && !full; i++) {
+                    if (gather[i].hasRemaining()) {
+                        full = true;
+                    } else {
+                        writes.poll();
+                    }
+                }
+                Arrays.fill(gather, 0, count, null);
+                if (full) {
+                    return true;
+                }
+            }
+        }
+
+        private void complete(Http1ResponseParser.Response response) throws IOException {
+            CompletableFuture<Http1ResponseParser.Response> future = pending.poll();
+            if (future == null) {
+                throw new IOException("Received unexpected HTTP response");
+            }
+            future.complete(response);
+        }
+
+        void fail(IOException e) {
+            synchronized (lock) {
+                if (!failed) {
+                    log.debug("Connection {} failed: {}", channel, e.toString());
+                    failed = true;
+                }
+            }
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+            }
+            selector.wakeup();
+            writes.clear();
+            CompletableFuture<Http1ResponseParser.Response> future;
+            while ((future = pending.poll()) != null) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+
+    // Open an unconnected channel for the address family
+    private static SocketChannel openChannel(SocketAddress address) throws IOException {
+        if (address instanceof InetSocketAddress) {
+            return SocketChannel.open();
+        }
+        // SocketChannel.open(ProtocolFamily) is Java 15+ and StandardProtocolFamily.UNIX is Java 16+, so use reflection
+        try {
+            ProtocolFamily unix = StandardProtocolFamily.valueOf("UNIX");
+            return (SocketChannel) SocketChannel.class.getMethod("open", ProtocolFamily.class).invoke(null, unix);
+        } catch (InvocationTargetException e) {
+            throw e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e.getCause());
+        } catch (ReflectiveOperationException | IllegalArgumentException e) {
+            throw new UnsupportedOperationException("UNIX domain sockets require Java 16 or later", e);
+        }
+    }
+}
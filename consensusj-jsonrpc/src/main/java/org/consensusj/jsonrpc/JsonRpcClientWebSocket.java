@@ -0,0 +1,269 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.net.ssl.SSLContext;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+
+/**
+ * JSON-RPC client using a single, long-lived {@link WebSocket} (e.g. the {@code /ws} endpoint of {@code jrpc-echod}.)
+ * <p>
+ * Any number of requests may be outstanding at once: responses are matched to requests by {@code id} using
+ * a map of pending requests. Messages from the server that are JSON-RPC <i>notifications</i> (they have a
+ * {@code method} and no {@code id}) are published to subscribers of {@link #notifications()}. Notifications are
+ * dropped (and logged) for subscribers that fall too far behind.
+ * <p>
+ * The connection is opened on first use. If it is closed or fails, outstanding requests fail and a new
+ * connection is opened for the next request. Call {@link #close()} to close the connection.
+ */
+public class JsonRpcClientWebSocket implements JsonRpcTransport<JavaType>, AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(JsonRpcClientWebSocket.class);
+
+    private final ObjectMapper mapper;
+    private final JsonRpcCodec codec;
+    private final URI serverURI;
+    private final HttpClient client;
+    private final String basicAuth;
+    private final Map<String, Pending> pending = new ConcurrentHashMap<>();
+    private final SubmissionPublisher<JsonRpcNotification> notificationPublisher = new SubmissionPublisher<>();
+    // Guarded by `this`. Completes (with the WebSocket) when the previous send has completed, since WebSocket allows
+    // only one outstanding send.
+    @Nullable
+    private CompletableFuture<WebSocket> connection;
+    private volatile boolean closed = false;
+
+    /**
+     * @param mapper mapper for serializing/deserializing JSON
+     * @param server WebSocket URI of the server ({@code ws} or {@code wss})
+     * @param rpcUser username
+     * @param rpcPassword password
+     */
+    public JsonRpcClientWebSocket(ObjectMapper mapper, URI server, @Nullable String rpcUser, @Nullable String rpcPassword) {
+        this(mapper, JsonRpcTransport.getDefaultSSLContext(), server, rpcUser, rpcPassword);
+    }
+
+    /**
+     * @param mapper mapper for serializing/deserializing JSON
+     * @param sslContext SSL context for {@code wss} connections
+     * @param server WebSocket URI of the server ({@code ws} or {@code wss})
+     * @param rpcUser username
+     * @param rpcPassword password
+     */
+    public JsonRpcClientWebSocket(ObjectMapper mapper, SSLContext sslContext, URI server, @Nullable String rpcUser, @Nullable String rpcPassword) {
+        log.debug("Constructing JSON-RPC WebSocket client for: {}", server);
+        this.mapper = mapper;
+        this.codec = new JsonRpcCodec(mapper);
+        this.serverURI = server;
+        this.basicAuth = "Basic " + JsonRpcTransport.base64Encode(rpcUser + ":" + rpcPassword);
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMinutes(2))
+                .sslContext(sslContext)
+                .build();
+    }
+
+    @Override
+    public URI getServerURI() {
+        return serverURI;
+    }
+
+    /**
+     * Server-sent JSON-RPC notifications
+     * @return a publisher of notifications received on the WebSocket
+     */
+    public Flow.Publisher<JsonRpcNotification> notifications() {
+        return notificationPublisher;
+    }
+
+    @Override
+    public <R> CompletableFuture<JsonRpcResponse<R>> sendRequestForResponseAsync(JsonRpcRequest request, JavaType responseType) {
+        String text;
+        try {
+            text = codec.writer().writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<JsonRpcResponse<?>> future = new CompletableFuture<>();
+        Pending p = new Pending(responseType, future);
+        if (pending.putIfAbsent(request.getId(), p) != null) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Request with id already pending: " + request.getId()));
+        }
+        // Remove the entry however the future is completed (e.g. cancelled or timed out by the caller)
+        future.whenComplete((r, t) -> pending.remove(request.getId(), p));
+        log.debug("Send: {}", request);
+        send(text).whenComplete((ws, t) -> {
+            if (t != null) {
+                future.completeExceptionally(t);
+            }
+        });
+        @SuppressWarnings("unchecked")
+        CompletableFuture<JsonRpcResponse<R>> result = (CompletableFuture<JsonRpcResponse<R>>) (CompletableFuture<?>) future;
+        return result;
+    }
+
+    /**
+     * Close the WebSocket. Outstanding requests will fail and notification subscribers will be completed.
+     */
+    @Override
+    public void close() {
+        CompletableFuture<WebSocket> c;
+        synchronized (this) {
+            closed = true;
+            c = connection;
+            connection = null;
+        }
+        if (c != null) {
+            c.thenCompose(ws -> ws.sendClose(WebSocket.NORMAL_CLOSURE, ""))
+                    .exceptionally(t -> null);
+        }
+        failAll(new IOException("WebSocket closed"));
+        notificationPublisher.close();
+    }
+
+    // Queue a message to be sent after any previous message, connecting if necessary
+    private synchronized CompletableFuture<WebSocket> send(String text) {
+        if (closed) {
+            return CompletableFuture.failedFuture(new IOException("Transport is closed"));
+        }
+        CompletableFuture<WebSocket> previous = connection;
+        if (previous == null || previous.isCompletedExceptionally()) {
+            previous = connect();
+        }
+        // Reconnect if the server has closed the WebSocket
+        CompletableFuture<WebSocket> ready = previous.thenCompose(ws -> ws.isOutputClosed() || ws.isInputClosed()
+                ? connect()
+                : CompletableFuture.completedFuture(ws));
+        CompletableFuture<WebSocket> sent = ready.thenCompose(ws -> ws.sendText(text, true));
+        // The next send waits for this one to finish, whether it succeeds or not
+        connection = ready.thenCompose(ws -> sent.handle((r, t) -> ws));
+        return sent;
+    }
+
+    private CompletableFuture<WebSocket> connect() {
+        log.debug("Connecting to {}", serverURI);
+        return client.newWebSocketBuilder()
+                .header("Authorization", basicAuth)
+                .buildAsync(serverURI, new Listener());
+    }
+
+    private void failAll(Throwable t) {
+        List<Pending> failed = new ArrayList<>(pending.values());
+        pending.clear();
+        failed.forEach(p -> p.future.completeExceptionally(t));
+    }
+
+    // Handle a complete message from the server
+    private void onMessage(String text) {
+        JsonNode node;
+        try {
+            node = mapper.readTree(text);
+        } catch (JsonProcessingException e) {
+            log.warn("Invalid JSON message from server: {}", text);
+            return;
+        }
+        JsonNode id = node.get("id");
+        JsonNode method = node.get("method");
+        if ((id == null || id.isNull()) && method != null) {
+            onNotification(node, method.asText());
+            return;
+        }
+        @Nullable Pending p = (id != null && !id.isNull()) ? pending.remove(id.asText()) : null;
+        if (p == null) {
+            log.warn("Response for unknown request id: {}", id);
+            return;
+        }
+        try {
+            JsonRpcResponse<?> response = codec.readerFor(p.responseType).readValue(node);
+            p.future.complete(response);
+        } catch (IOException e) {
+            p.future.completeExceptionally(e);
+        }
+    }
+
+    private void onNotification(JsonNode node, String method) {
+        JsonNode params = node.get("params");
+        List<@Nullable Object> paramList = params != null && params.isArray()
+                ? mapper.convertValue(params, mapper.getTypeFactory().constructCollectionType(List.class, Object.class))
+                : List.of();
+        JsonNode jsonrpc = node.get("jsonrpc");
+        JsonRpcNotification notification = new JsonRpcNotification(
+                jsonrpc != null ? jsonrpc.asText() : JsonRpcMessage.Version.V2.jsonrpc(),
+                method,
+                paramList);
+        notificationPublisher.offer(notification, (subscriber, n) -> {
+            log.warn("Dropping notification {} for slow subscriber", n.getMethod());
+            return false;
+        });
+    }
+
+    private static final class Pending {
+        final JavaType responseType;
+        final CompletableFuture<JsonRpcResponse<?>> future;
+
+        Pending(JavaType responseType, CompletableFuture<JsonRpcResponse<?>> future) {
+            this.responseType = responseType;
+            this.future = future;
+        }
+    }
+
+    private final class Listener implements WebSocket.Listener {
+        private final StringBuilder message = new StringBuilder();
+
+        @Override
+        public @Nullable CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+            message.append(data);
+            if (last) {
+                String text = message.toString();
+                message.setLength(0);
+                onMessage(text);
+            }
+            webSocket.request(1);
+            return null;
+        }
+
+        @Override
+        public @Nullable CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+            log.debug("WebSocket closed: {} {}", statusCode, reason);
+            failAll(new IOException("WebSocket closed by server: " + statusCode + " " + reason));
+            return null;
+        }
+
+        @Override
+        public void onError(WebSocket webSocket, Throwable error) {
+            log.warn("WebSocket error", error);
+            failAll(error);
+        }
+    }
+}
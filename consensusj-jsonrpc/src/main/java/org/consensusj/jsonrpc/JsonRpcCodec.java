@@ -0,0 +1,110 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-type cache of Jackson {@link ObjectReader}s and a shared {@link ObjectWriter} for the Jackson-based
+ * {@link JsonRpcTransport} implementations. {@code ObjectReader} and {@code ObjectWriter} are immutable and
+ * thread-safe, so building them once per response type avoids re-resolving the (root) deserializer on every request.
+ * <p>
+ * Readers and the writer are created on first use, so the {@link ObjectMapper} should be fully configured (e.g.
+ * modules registered) before the first request is sent. Changes to the mapper's configuration after that are
+ * not seen by readers that have already been created.
+ */
+final class JsonRpcCodec {
+    private final ObjectMapper mapper;
+    private final Map<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+    @Nullable
+    private volatile ObjectWriter writer;
+    @Nullable
+    private volatile JsonRpcCodec cbor;
+
+    /**
+     * @param mapper mapper for serializing/deserializing JSON
+     */
+    JsonRpcCodec(ObjectMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    /**
+     * @return the underlying mapper (e.g. for creating parsers)
+     */
+    ObjectMapper mapper() {
+        return mapper;
+    }
+
+    /**
+     * @return the type {@code JsonRpcResponse<Object>}, used for error responses
+     */
+    JavaType objectResponseType() {
+        return mapper.getTypeFactory().constructParametricType(JsonRpcResponse.class, Object.class);
+    }
+
+    /**
+     * @param responseType a response type, e.g. {@code JsonRpcResponse<String>}
+     * @return a cached reader for the type
+     */
+    ObjectReader readerFor(JavaType responseType) {
+        ObjectReader reader = readers.get(responseType);
+        return reader != null ? reader : readers.computeIfAbsent(responseType, mapper::readerFor);
+    }
+
+    /**
+     * @return a reader for {@code JsonRpcResponse<Object>}
+     */
+    ObjectReader objectResponseReader() {
+        return readerFor(objectResponseType());
+    }
+
+    /**
+     * @return a cached writer for requests
+     */
+    ObjectWriter writer() {
+        ObjectWriter w = writer;
+        if (w == null) {
+            // Benign race: at worst a few equivalent writers are created
+            w = mapper.writer();
+            writer = w;
+        }
+        return w;
+    }
+
+    /**
+     * @return a codec for CBOR, created on first use from a copy of this codec's mapper
+     */
+    JsonRpcCodec cbor() {
+        JsonRpcCodec c = cbor;
+        if (c == null) {
+            synchronized (this) {
+                c = cbor;
+                if (c == null) {
+                    c = new JsonRpcCodec(CborSupport.mapperFor(mapper));
+                    cbor = c;
+                }
+            }
+        }
+        return c;
+    }
+}
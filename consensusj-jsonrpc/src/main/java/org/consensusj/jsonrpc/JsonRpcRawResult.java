@@ -0,0 +1,124 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+
+/**
+ * A JSON-RPC {@code result} that has not been bound to a Java type. Use {@code JsonRpcResponse<JsonRpcRawResult>} as the
+ * response type to parse only the response envelope ({@code jsonrpc}, {@code id}, and {@code error}): the {@code result}
+ * is copied token-by-token into a {@link TokenBuffer} (without building a tree or binding any POJOs) and can be bound
+ * later, on demand, with {@link #as(Class)} or {@link #as(JavaType)}.
+ * <p>
+ * When serialized by Jackson (e.g. as part of a {@link JsonRpcResponse} returned by a {@link JsonRpcService}) the
+ * buffered tokens are replayed directly to the output, so a proxy or relay can forward a result without
+ * deserializing and reserializing it. See {@link ForwardingJsonRpcService}.
+ * <p>
+ * Instances are immutable and may be bound more than once and from multiple threads.
+ */
+@JsonDeserialize(using = JsonRpcRawResult.Deserializer.class)
+public final class JsonRpcRawResult implements JsonSerializable {
+    private final TokenBuffer buffer;
+
+    /**
+     * @param buffer buffer containing exactly one JSON value. Its {@link ObjectCodec} is used for binding.
+     */
+    public JsonRpcRawResult(TokenBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Bind the result to a Java type.
+     * @param type the type to bind to
+     * @param <T> the result type
+     * @return the bound result (or {@code null} if the result is JSON {@code null})
+     * @throws IOException if the result can't be bound to the type
+     */
+    public <T> @Nullable T as(Class<T> type) throws IOException {
+        try (JsonParser parser = asParser()) {
+            return codec().readValue(parser, type);
+        }
+    }
+
+    /**
+     * Bind the result to a Java type.
+     * @param type the type to bind to
+     * @param <T> the result type
+     * @return the bound result (or {@code null} if the result is JSON {@code null})
+     * @throws IOException if the result can't be bound to the type
+     */
+    public <T> @Nullable T as(JavaType type) throws IOException {
+        try (JsonParser parser = asParser()) {
+            return codec().readValue(parser, type);
+        }
+    }
+
+    /**
+     * @return a new parser over the buffered result, positioned before its first token
+     */
+    public JsonParser asParser() {
+        return buffer.asParser();
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        buffer.serialize(gen);
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer) throws IOException {
+        serialize(gen, serializers);
+    }
+
+    private ObjectCodec codec() {
+        ObjectCodec codec = buffer.getCodec();
+        if (codec == null) {
+            throw new IllegalStateException("No ObjectCodec available to bind result");
+        }
+        return codec;
+    }
+
+    /**
+     * Copies the {@code result} into a {@link TokenBuffer} without binding it.
+     */
+    public static final class Deserializer extends StdDeserializer<JsonRpcRawResult> {
+        public Deserializer() {
+            super(JsonRpcRawResult.class);
+        }
+
+        @Override
+        public JsonRpcRawResult deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            TokenBuffer buffer = ctxt.bufferAsCopyOfValue(p);
+            if (buffer.getCodec() == null) {
+                buffer.setCodec(p.getCodec());
+            }
+            return new JsonRpcRawResult(buffer);
+        }
+    }
+}
@@ -16,16 +16,15 @@
 package org.consensusj.jsonrpc;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import org.consensusj.jsonrpc.internal.NumberStringSerializer;
 import org.jspecify.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
 
 import static org.consensusj.jsonrpc.JsonRpcMessage.Version.*;
 
@@ -35,8 +34,9 @@ import static org.consensusj.jsonrpc.JsonRpcMessage.Version.*;
  * <ul>
  *     <li><b>jsonrpc</b>: the version of the JSON-RPC protocol. The default is {@code "2.0"}.</li>
  *     <li><b>id</b>: an identifier sent in request that is returned in {@link JsonRpcResponse}. By default, we use
- *     atomically-incremented {@code long} values, but {@code String} values are also supported as they are allowed
- *     by the specification and may be sent by clients.</li>
+ *     {@code long} values from a {@link RequestIdGenerator} (one per {@link DefaultRpcClient}), but {@code String}
+ *     values are also supported as they are allowed by the specification and may be sent by clients. Numeric ids are
+ *     stored as a {@code long} and serialized as a JSON {@code Number} without an intermediate {@code String}.</li>
  *     <li><b>method:</b> the name of the method to be invoked.</li>
  *     <li><b>params:</b> the parameters for the rpc call. Currently only {@code by-position} parameters are supported, represented
  *     as a Java {@link List} and serialized as a JSON {@code Array}.</li>
@@ -49,12 +49,18 @@ import static org.consensusj.jsonrpc.JsonRpcMessage.Version.*;
  */
 public class JsonRpcRequest {
     private static final JsonRpcMessage.Version DEFAULT_JSON_RPC_VERSION = V2;
-    private static final AtomicLong nextRequestId =  new AtomicLong(0);
+    private static final RequestIdGenerator sharedIdGenerator = new RequestIdGenerator();
+    private static final long NOT_NUMERIC = Long.MIN_VALUE;
+    private static final Pattern numberRegEx = Pattern.compile("^-?\\d+$");
 
     private final String  method;
     private final List<@Nullable Object> params;
     private final String  jsonrpc;   // version
-    private final String  id;
+    private final long    numericId;
+    private final boolean numeric;   // true if the id is numericId
+    // For numeric ids, created lazily by getId(). A benign race (as with String.hashCode) since Strings are immutable.
+    // Only null after getId() for a request that was deserialized without an id.
+    private @Nullable String id;
 
     /**
      * Constructor for use by Jackson deserialization. Deserialization will typically
@@ -76,6 +82,9 @@ public class JsonRpcRequest {
         this.jsonrpc = jsonrpc != null ? jsonrpc : V1.jsonrpc();
         this.method = method;
         this.id = id;
+        // Numeric strings were always serialized as numbers (see NumberStringSerializer), so parse them once here
+        this.numericId = parseNumericId(id);
+        this.numeric = numericId != NOT_NUMERIC;
         this.params = params != null ? Collections.unmodifiableList(new ArrayList<>(params)) : List.of();
     }
 
@@ -83,8 +92,7 @@ public class JsonRpcRequest {
      * This constructor is more strongly-typed than the deserialization constructor and should be preferred to that
      * constructor where possible.
      * It uses the {@link JsonRpcMessage.Version} {@code enum} and uses a {@code long} to specify
-     * the {@code id} value (which is stored internally as a {@link String}.
-     * a {@code long}.
+     * the {@code id} value.
      *
      * @param jsonRpcVersion JSON-RPC version (enum)
      * @param id message id
@@ -95,7 +103,12 @@ public class JsonRpcRequest {
                           long id,
                           String method,
                           List<@Nullable Object> params) {
-        this(jsonRpcVersion.jsonrpc(), Long.toString(id), method, params);
+        this.jsonrpc = jsonRpcVersion.jsonrpc();
+        this.method = method;
+        this.numericId = id;
+        this.numeric = true;
+        this.id = null;
+        this.params = Collections.unmodifiableList(new ArrayList<>(params));
     }
 
     /**
@@ -110,7 +123,7 @@ public class JsonRpcRequest {
      * @param params Parameters to serialize
      */
     public JsonRpcRequest(JsonRpcMessage.Version jsonRpcVersion, String method, List<@Nullable Object> params) {
-        this(jsonRpcVersion, JsonRpcRequest.nextRequestId.incrementAndGet(), method, removeTrailingNulls(params));
+        this(jsonRpcVersion, sharedIdGenerator.next(), method, removeTrailingNulls(params));
     }
 
     /**
@@ -134,6 +147,11 @@ public class JsonRpcRequest {
         this(method, List.of());
     }
 
+    // Used by JsonRpcClient#nextRequestId()
+    static long nextSharedId() {
+        return sharedIdGenerator.next();
+    }
+
     public String getJsonrpc() {
         return jsonrpc;
     }
@@ -146,15 +164,67 @@ public class JsonRpcRequest {
      * Get the JSON-RPC {@code id} member.
      * <p>
      * According to the JSON-RPC Specification {@code id} can be a {@code String}, {@code Number},
-     * or {@code NULL}. We generally represent {@code id} as a Java {@link String}. However, when serialization with
-     * Jackson, we use {@link NumberStringSerializer} to produce a JavaScript {@code Number} (integer) when possible.
+     * or {@code NULL}. We generally represent {@code id} as a Java {@link String}. However, when serializing with
+     * Jackson, we produce a JavaScript {@code Number} (integer) when possible (as {@link NumberStringSerializer} does.)
      * This was necessary for compatibility with certain servers.
-     * {@code JsonRpcRequest#getId()} with
      * @return The id as a string
      */
-    @JsonSerialize(using=NumberStringSerializer.class)
+    @JsonIgnore
+    @SuppressWarnings("NullAway")   // See comment on id
     public String getId() {
-        return id;
+        String s = id;
+        if (s == null && numeric) {
+            s = Long.toString(numericId);
+            id = s;
+        }
+        return s;
+    }
+
+    /**
+     * @return {@code true} if the {@code id} is an integer, in which case it is available from {@link #getNumericId()}
+     */
+    @JsonIgnore
+    public boolean hasNumericId() {
+        return numeric;
+    }
+
+    /**
+     * Get the {@code id} as a {@code long}, without creating a {@code String}. Useful as a key for
+     * correlating responses with requests.
+     * @return the id
+     * @throws IllegalStateException if the id is not numeric
+     */
+    @JsonIgnore
+    public long getNumericId() {
+        if (!numeric) {
+            throw new IllegalStateException("id is not numeric: " + id);
+        }
+        return numericId;
+    }
+
+    /**
+     * A request deserialized without an {@code id} (or with a {@code null} {@code id}, as used by JSON-RPC 1.0) is a
+     * <i>notification</i>, and the server must not send a response for it.
+     * @return {@code true} if this request is a notification
+     */
+    @JsonIgnore
+    public boolean isNotification() {
+        return !numeric && id == null;
+    }
+
+    // The value Jackson serializes as the id: a Long for numeric ids, else a String
+    @JsonProperty("id")
+    private @Nullable Object jsonId() {
+        return numeric ? (Object) numericId : id;
+    }
+
+    private static long parseNumericId(@Nullable String id) {
+        if (id != null && numberRegEx.matcher(id).matches()) {
+            try {
+                return Long.parseLong(id);
+            } catch (NumberFormatException ignored) {}
+        }
+        return NOT_NUMERIC;
     }
 
     public List<@Nullable Object> getParams() {
@@ -173,10 +243,10 @@ public class JsonRpcRequest {
      * @param <T> The type of the elements (for JSON-RPC this is usually {@link Object})
      */
     static <T> List<@Nullable T> removeTrailingNulls(List<@Nullable T> params) {
-        LinkedList<@Nullable T> cleaned = new LinkedList<>(params);
-        while (!cleaned.isEmpty() && cleaned.getLast() == null) {
-            cleaned.removeLast();
+        int size = params.size();
+        while (size > 0 && params.get(size - 1) == null) {
+            size--;
         }
-        return cleaned;
+        return size == params.size() ? params : params.subList(0, size);
     }
 }
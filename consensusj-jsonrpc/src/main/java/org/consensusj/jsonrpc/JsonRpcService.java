@@ -15,6 +15,8 @@
  */
 package org.consensusj.jsonrpc;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -32,4 +34,51 @@ public interface JsonRpcService extends AutoCloseable {
      * @return a future for a Response object with either a <b>result</b> or an error.
      */
     <RSLT> CompletableFuture<JsonRpcResponse<RSLT>> call(JsonRpcRequest req);
+
+    /**
+     * Handle a JSON-RPC batch. Each request is passed to {@link #call(JsonRpcRequest)} without waiting for
+     * earlier requests to complete, so requests in a batch are handled concurrently.
+     * <p>
+     * Responses are in the same order as the requests. Notifications (see {@link JsonRpcRequest#isNotification()})
+     * are called, but have no entry in the response list, so the list is empty if the batch only contains notifications
+     * (in which case a server should not send a response body.) A request that fails (including by throwing an exception
+     * from {@code call}) gets an error response. An empty batch is invalid and should be rejected by the server before
+     * calling this method (see {@link JsonRpcBodyHandler}.)
+     * @param requests A list of request objects
+     * @return a future for a list of Response objects (each with either a <b>result</b> or an error), completed when
+     *         all requests (including notifications) have completed.
+     */
+    default CompletableFuture<List<JsonRpcResponse<Object>>> callBatch(List<JsonRpcRequest> requests) {
+        List<CompletableFuture<JsonRpcResponse<Object>>> futures = new ArrayList<>(requests.size());
+        for (JsonRpcRequest request : requests) {
+            CompletableFuture<JsonRpcResponse<Object>> future;
+            try {
+                future = this.call(request);
+            } catch (RuntimeException e) {
+                // An exception thrown by one call is an error for that request, not for the batch
+                future = CompletableFuture.failedFuture(e);
+            }
+            futures.add(future);
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .handle((v, t) -> {
+                    List<JsonRpcResponse<Object>> responses = new ArrayList<>(requests.size());
+                    for (int i = 0; i < requests.size(); i++) {
+                        if (!requests.get(i).isNotification()) {
+                            responses.add(responseOrError(requests.get(i), futures.get(i)));
+                        }
+                    }
+                    return responses;
+                });
+    }
+
+    // Implementations of call() should return errors as error responses, but a failed future must not fail the batch
+    private static JsonRpcResponse<Object> responseOrError(JsonRpcRequest request, CompletableFuture<JsonRpcResponse<Object>> future) {
+        try {
+            return future.join();
+        } catch (RuntimeException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            return new JsonRpcResponse<>(request, JsonRpcError.of(JsonRpcError.Error.SERVER_EXCEPTION, cause));
+        }
+    }
 }
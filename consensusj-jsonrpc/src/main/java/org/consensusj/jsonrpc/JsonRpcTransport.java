@@ -15,15 +15,21 @@
  */
 package org.consensusj.jsonrpc;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import javax.net.ssl.SSLContext;
 import java.io.IOException;
 import java.lang.reflect.Type;
 import java.net.URI;
 import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Defines the interface for a network-layer implementation of a JSON-RPC client.
@@ -61,6 +67,41 @@ public interface JsonRpcTransport<T extends Type> extends AsyncSupport {
      */
     <R> CompletableFuture<JsonRpcResponse<R>> sendRequestForResponseAsync(JsonRpcRequest request, T responseType);
 
+    /**
+     * Send a list of {@link JsonRpcRequest}s as a JSON-RPC 2.0 <i>batch</i>. Responses are correlated with requests
+     * by {@code id}, so each request in the batch must have a unique {@code id}. Responses may be returned by the
+     * server in any order.
+     * <p>
+     * The default implementation sends each request individually with {@link #sendRequestForResponseAsync(JsonRpcRequest, Type)}.
+     * Transports that can send a batch in a single network round-trip should override this method.
+     * @param requests The requests to send
+     * @param responseTypes The response type expected for each request (in the same order as {@code requests})
+     * @return A list of future JSON RPC Responses (in the same order as {@code requests})
+     */
+    default List<CompletableFuture<JsonRpcResponse<?>>> sendBatchAsync(List<JsonRpcRequest> requests, List<T> responseTypes) {
+        if (requests.size() != responseTypes.size()) {
+            throw new IllegalArgumentException("requests and responseTypes must be the same size");
+        }
+        return IntStream.range(0, requests.size())
+                .mapToObj(i -> this.<Object>sendRequestForResponseAsync(requests.get(i), responseTypes.get(i))
+                        .<JsonRpcResponse<?>>thenApply(r -> r))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Send a list of {@link JsonRpcRequest}s that all have the same response type as a JSON-RPC 2.0 <i>batch</i>.
+     * @param <R> Type of result objects
+     * @param requests The requests to send
+     * @param responseType The response type expected for all requests
+     * @return A list of future JSON RPC Responses (in the same order as {@code requests})
+     * @see #sendBatchAsync(List, List)
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    default <R> List<CompletableFuture<JsonRpcResponse<R>>> sendBatchAsync(List<JsonRpcRequest> requests, T responseType) {
+        List<T> responseTypes = requests.stream().map(r -> responseType).collect(Collectors.toList());
+        return (List) sendBatchAsync(requests, responseTypes);
+    }
+
     /**
      * Synchronously complete a JSON-RPC request by calling {@link CompletableFuture#get()}, unwrapping nested
      * {@link JsonRpcException} or {@link IOException} from {@link ExecutionException}.
@@ -88,6 +129,27 @@ public interface JsonRpcTransport<T extends Type> extends AsyncSupport {
         }
     }
 
+    /**
+     * Determine whether an error from a JSON-RPC call is <i>transient</i>, i.e. whether the same request might
+     * succeed if it is sent again. Network errors, timeouts, and HTTP status codes {@code 429}, {@code 502},
+     * {@code 503}, and {@code 504} are transient. Errors returned by a (healthy) JSON-RPC server, JSON parsing and
+     * mapping errors (which would fail the same way again), and programming errors are not.
+     * @param error An error (possibly wrapped in {@link CompletionException} or {@link ExecutionException})
+     * @return true if the error is transient
+     */
+    static boolean isTransientError(Throwable error) {
+        Throwable t = error;
+        while ((t instanceof CompletionException || t instanceof ExecutionException) && t.getCause() != null) {
+            t = t.getCause();
+        }
+        if (t instanceof JsonRpcStatusException) {
+            int httpCode = ((JsonRpcStatusException) t).httpCode;
+            return httpCode == 429 || httpCode == 502 || httpCode == 503 || httpCode == 504;
+        }
+        return (t instanceof IOException && !(t instanceof JsonRpcException) && !(t instanceof JsonProcessingException))
+                || t instanceof TimeoutException;
+    }
+
     /**
      * Encode username password as Base64 for basic authentication
      * <p>
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc;
+
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * A {@link JsonRpcTransport} that uses a {@link ConcurrencyLimiter} to cap the number of requests in-flight on
+ * the delegate transport. Requests over the limit are queued (client-side) until a permit is available, without
+ * blocking the calling thread. A batch counts as a single request.
+ * <p>
+ * Use a {@link FixedConcurrencyLimiter} for a fixed limit or an {@link AimdConcurrencyLimiter} to adapt the
+ * limit to the observed latency and overload errors (e.g. HTTP {@code 503}) from the server.
+ * @param <T> Type that can be used (in addition to {@link Class}) to declare expected result types for JSON-RPC method calls.
+ */
+public class LimitingJsonRpcTransport<T extends Type> implements JsonRpcTransport<T>, AutoCloseable {
+    private final JsonRpcTransport<T> delegate;
+    private final ConcurrencyLimiter limiter;
+
+    /**
+     * @param delegate The transport used to send requests
+     * @param limiter The limiter that grants permission to send
+     */
+    public LimitingJsonRpcTransport(JsonRpcTransport<T> delegate, ConcurrencyLimiter limiter) {
+        this.delegate = delegate;
+        this.limiter = limiter;
+    }
+
+    /**
+     * @return the concurrency limiter used by this transport
+     */
+    public ConcurrencyLimiter getLimiter() {
+        return limiter;
+    }
+
+    @Override
+    public URI getServerURI() {
+        return delegate.getServerURI();
+    }
+
+    @Override
+    public <R> CompletableFuture<JsonRpcResponse<R>> sendRequestForResponseAsync(JsonRpcRequest request, T responseType) {
+        return limiter.acquire().thenCompose(permit -> {
+            CompletableFuture<JsonRpcResponse<R>> response;
+            try {
+                response = delegate.sendRequestForResponseAsync(request, responseType);
+            } catch (RuntimeException e) {
+                permit.release(e);
+                throw e;
+            }
+            return response.whenComplete((r, t) -> permit.release(t));
+        });
+    }
+
+    @Override
+    public List<CompletableFuture<JsonRpcResponse<?>>> sendBatchAsync(List<JsonRpcRequest> requests, List<T> responseTypes) {
+        CompletableFuture<List<CompletableFuture<JsonRpcResponse<?>>>> sent = limiter.acquire().thenApply(permit -> {
+            List<CompletableFuture<JsonRpcResponse<?>>> responses;
+            try {
+                responses = delegate.sendBatchAsync(requests, responseTypes);
+            } catch (RuntimeException e) {
+                permit.release(e);
+                throw e;
+            }
+            CompletableFuture.allOf(responses.toArray(new CompletableFuture<?>[0]))
+                    .whenComplete((v, t) -> permit.release(t));
+            return responses;
+        });
+        return IntStream.range(0, requests.size())
+                .mapToObj(i -> sent.thenCompose(responses -> responses.get(i)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Close the delegate transport, if it is {@link AutoCloseable}.
+     */
+    @Override
+    public void close() {
+        DefaultRpcClient.closeTransport(delegate);
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * A {@link JsonRpcTransport} that distributes requests across several equivalent servers (e.g. synced replicas.)
+ * <p>
+ * The first endpoint is the <i>primary</i>. <i>Read-only</i> requests are balanced across all enabled endpoints using
+ * "power of two choices": two endpoints are chosen at random and the request is sent to the one with fewer
+ * outstanding requests. All other requests (e.g. wallet methods or transactions being sent) are always sent to
+ * the primary. A batch is balanced only if all its requests are read-only.
+ * <p>
+ * Endpoints can be disabled (ejected) and re-enabled with {@link #setEnabled(int, boolean)}, for example by
+ * a health check. If no endpoint is enabled, read-only requests are sent to the primary.
+ * @param <T> Type that can be used (in addition to {@link Class}) to declare expected result types for JSON-RPC method calls.
+ */
+public class LoadBalancingJsonRpcTransport<T extends Type> implements JsonRpcTransport<T>, AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(LoadBalancingJsonRpcTransport.class);
+
+    private final List<Endpoint<T>> endpoints;
+    private final Predicate<JsonRpcRequest> readOnly;
+
+    /**
+     * @param transports Transports for each endpoint, the first is the primary
+     * @param readOnly Returns {@code true} for requests that can be sent to any endpoint
+     */
+    public LoadBalancingJsonRpcTransport(List<? extends JsonRpcTransport<T>> transports, Predicate<JsonRpcRequest> readOnly) {
+        if (transports.isEmpty()) {
+            throw new IllegalArgumentException("at least one endpoint is required");
+        }
+        List<Endpoint<T>> list = new ArrayList<>(transports.size());
+        transports.forEach(t -> list.add(new Endpoint<>(t)));
+        this.endpoints = List.copyOf(list);
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * @return URI of the primary endpoint
+     */
+    @Override
+    public URI getServerURI() {
+        return endpoints.get(0).transport.getServerURI();
+    }
+
+    /**
+     * @return the number of endpoints
+     */
+    public int size() {
+        return endpoints.size();
+    }
+
+    /**
+     * @param index endpoint index (0 is the primary)
+     * @return the transport for the endpoint, which can be used to send requests to a specific endpoint
+     */
+    public JsonRpcTransport<T> getEndpoint(int index) {
+        return endpoints.get(index).transport;
+    }
+
+    /**
+     * @param index endpoint index (0 is the primary)
+     * @return true if read-only requests may be sent to the endpoint
+     */
+    public boolean isEnabled(int index) {
+        return endpoints.get(index).enabled;
+    }
+
+    /**
+     * Enable or disable (eject) an endpoint for read-only requests.
+     * @param index endpoint index (0 is the primary)
+     * @param enabled true to enable, false to disable
+     */
+    public void setEnabled(int index, boolean enabled) {
+        Endpoint<T> endpoint = endpoints.get(index);
+        if (endpoint.enabled != enabled) {
+            log.info("{} endpoint {}", enabled ? "Enabling" : "Disabling", endpoint.transport.getServerURI());
+            endpoint.enabled = enabled;
+        }
+    }
+
+    /**
+     * @param index endpoint index (0 is the primary)
+     * @return the number of requests sent to the endpoint that haven't completed
+     */
+    public int getOutstanding(int index) {
+        return endpoints.get(index).outstanding.get();
+    }
+
+    @Override
+    public <R> CompletableFuture<JsonRpcResponse<R>> sendRequestForResponseAsync(JsonRpcRequest request, T responseType) {
+        Endpoint<T> endpoint = readOnly.test(request) ? choose() : endpoints.get(0);
+        endpoint.outstanding.incrementAndGet();
+        CompletableFuture<JsonRpcResponse<R>> response;
+        try {
+            response = endpoint.transport.sendRequestForResponseAsync(request, responseType);
+        } catch (RuntimeException e) {
+            endpoint.outstanding.decrementAndGet();
+            throw e;
+        }
+        return response.whenComplete((r, t) -> endpoint.outstanding.decrementAndGet());
+    }
+
+    @Override
+    public List<CompletableFuture<JsonRpcResponse<?>>> sendBatchAsync(List<JsonRpcRequest> requests, List<T> responseTypes) {
+        Endpoint<T> endpoint = requests.stream().allMatch(readOnly) ? choose() : endpoints.get(0);
+        endpoint.outstanding.incrementAndGet();
+        List<CompletableFuture<JsonRpcResponse<?>>> responses;
+        try {
+            responses = endpoint.transport.sendBatchAsync(requests, responseTypes);
+        } catch (RuntimeException e) {
+            endpoint.outstanding.decrementAndGet();
+            throw e;
+        }
+        CompletableFuture.allOf(responses.toArray(new CompletableFuture<?>[0]))
+                .whenComplete((v, t) -> endpoint.outstanding.decrementAndGet());
+        return responses;
+    }
+
+    /**
+     * Close all endpoint transports that are {@link AutoCloseable}.
+     */
+    @Override
+    public void close() {
+        endpoints.forEach(e -> DefaultRpcClient.closeTransport(e.transport));
+    }
+
+    // Power of two choices among enabled endpoints
+    private Endpoint<T> choose() {
+        int[] enabled = IntStream.range(0, endpoints.size()).filter(i -> endpoints.get(i).enabled).toArray();
+        if (enabled.length == 0) {
+            return endpoints.get(0);
+        } else if (enabled.length == 1) {
+            return endpoints.get(enabled[0]);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(enabled.length);
+        // Choose a different second endpoint
+        int second = (first + 1 + random.nextInt(enabled.length - 1)) % enabled.length;
+        Endpoint<T> a = endpoints.get(enabled[first]);
+        Endpoint<T> b = endpoints.get(enabled[second]);
+        return a.outstanding.get() <= b.outstanding.get() ? a : b;
+    }
+
+    private static final class Endpoint<T extends Type> {
+        final JsonRpcTransport<T> transport;
+        final AtomicInteger outstanding = new AtomicInteger();
+        volatile boolean enabled = true;
+
+        Endpoint(JsonRpcTransport<T> transport) {
+            this.transport = transport;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc;
+
+import org.consensusj.jsonrpc.metrics.JsonRpcMetrics;
+
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A {@link JsonRpcTransport} that records per-method latency, in-flight, and error metrics with a {@link JsonRpcMetrics}.
+ * Latency is measured from sending the request until the response is deserialized.
+ * <p>
+ * Request and response sizes are only known by the underlying transport, see
+ * {@link JsonRpcClientJavaNet#JsonRpcClientJavaNet(com.fasterxml.jackson.databind.ObjectMapper, javax.net.ssl.SSLContext, URI, String, String, JsonRpcMetrics)}.
+ * @param <T> Type that can be used (in addition to {@link Class}) to declare expected result types for JSON-RPC method calls.
+ */
+public class MetricsJsonRpcTransport<T extends Type> implements JsonRpcTransport<T>, AutoCloseable {
+    private final JsonRpcTransport<T> delegate;
+    private final JsonRpcMetrics metrics;
+
+    /**
+     * @param delegate The transport used to send requests
+     * @param metrics Where to record metrics
+     */
+    public MetricsJsonRpcTransport(JsonRpcTransport<T> delegate, JsonRpcMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public URI getServerURI() {
+        return delegate.getServerURI();
+    }
+
+    @Override
+    public <R> CompletableFuture<JsonRpcResponse<R>> sendRequestForResponseAsync(JsonRpcRequest request, T responseType) {
+        String method = request.getMethod();
+        metrics.requestStarted(method);
+        long start = System.nanoTime();
+        CompletableFuture<JsonRpcResponse<R>> response;
+        try {
+            response = delegate.sendRequestForResponseAsync(request, responseType);
+        } catch (RuntimeException e) {
+            metrics.requestCompleted(method, System.nanoTime() - start, null, e);
+            throw e;
+        }
+        return response.whenComplete((r, t) -> metrics.requestCompleted(method, System.nanoTime() - start, r != null ? r.getError() : null, t));
+    }
+
+    @Override
+    public List<CompletableFuture<JsonRpcResponse<?>>> sendBatchAsync(List<JsonRpcRequest> requests, List<T> responseTypes) {
+        requests.forEach(r -> metrics.requestStarted(r.getMethod()));
+        long start = System.nanoTime();
+        List<CompletableFuture<JsonRpcResponse<?>>> responses;
+        try {
+            responses = delegate.sendBatchAsync(requests, responseTypes);
+        } catch (RuntimeException e) {
+            requests.forEach(r -> metrics.requestCompleted(r.getMethod(), System.nanoTime() - start, null, e));
+            throw e;
+        }
+        for (int i = 0; i < requests.size(); i++) {
+            String method = requests.get(i).getMethod();
+            responses.get(i).whenComplete((r, t) -> metrics.requestCompleted(method, System.nanoTime() - start, r != null ? r.getError() : null, t));
+        }
+        return responses;
+    }
+
+    /**
+     * Close the delegate transport, if it is {@link AutoCloseable}.
+     */
+    @Override
+    public void close() {
+        DefaultRpcClient.closeTransport(delegate);
+    }
+}
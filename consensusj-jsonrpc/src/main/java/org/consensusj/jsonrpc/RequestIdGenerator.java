@@ -0,0 +1,82 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Generates {@code long} JSON-RPC request ids without a single, JVM-wide point of contention.
+ * <p>
+ * The ids are split between a power-of-two number of <i>stripes</i>, each with its own counter on its own cache line.
+ * A thread always uses the same stripe, so concurrent threads usually increment different counters. Stripe {@code s}
+ * of {@code n} produces the ids {@code s + 1}, {@code s + 1 + n}, {@code s + 1 + 2n}, ..., so ids are positive and
+ * unique for the lifetime of the generator, and each thread sees its ids increase. Ids are <i>not</i> globally
+ * ordered when there is more than one stripe. A single-stripe generator produces {@code 1, 2, 3, ...}.
+ * <p>
+ * {@link DefaultRpcClient} has one generator per client. Requests created with the {@link JsonRpcRequest}
+ * constructors that don't take an id share a generator.
+ */
+public final class RequestIdGenerator {
+    // 8 longs = 64 bytes, so that each counter is on its own cache line
+    private static final int PADDING = 8;
+    private static final int MAX_STRIPES = 256;
+    private static final int DEFAULT_STRIPES = stripesFor(Runtime.getRuntime().availableProcessors());
+
+    private final int stripes;
+    private final AtomicLongArray counters;
+
+    /**
+     * Create a generator with a number of stripes determined by the number of available processors
+     */
+    public RequestIdGenerator() {
+        this(DEFAULT_STRIPES);
+    }
+
+    /**
+     * @param stripes number of stripes, rounded up to a power of two (at most {@code 256}.) Use {@code 1} for
+     *                strictly sequential ids.
+     */
+    public RequestIdGenerator(int stripes) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("stripes must be at least 1");
+        }
+        this.stripes = stripesFor(stripes);
+        this.counters = new AtomicLongArray((this.stripes + 1) * PADDING);
+    }
+
+    /**
+     * @return the number of stripes (a power of two)
+     */
+    public int stripes() {
+        return stripes;
+    }
+
+    /**
+     * @return the next id for the calling thread
+     */
+    public long next() {
+        int stripe = stripes == 1 ? 0 : (int) Thread.currentThread().getId() & (stripes - 1);
+        // Offset by one padding slot so that the first counter doesn't share a line with the array header
+        long count = counters.getAndIncrement((stripe + 1) * PADDING);
+        return count * stripes + stripe + 1;
+    }
+
+    private static int stripesFor(int n) {
+        n = Math.min(Math.max(1, n), MAX_STRIPES);
+        int p = Integer.highestOneBit(n);
+        return p == n ? p : p << 1;
+    }
+}
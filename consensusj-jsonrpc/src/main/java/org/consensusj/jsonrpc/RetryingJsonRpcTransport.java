@@ -0,0 +1,128 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * A {@link JsonRpcTransport} that retries <i>idempotent</i> requests that fail with a transient error
+ * (see {@link JsonRpcTransport#isTransientError(Throwable)}.)
+ * <p>
+ * Retries are delayed using exponential backoff with "full jitter": the delay before retry {@code n} is chosen
+ * randomly between zero and {@code min(maxDelay, baseDelay * 2^(n-1))}, so that clients that failed at the same
+ * time don't retry at the same time. Delays are scheduled with {@link CompletableFuture#delayedExecutor}, no thread
+ * is blocked while waiting. If the returned future is completed by the caller (e.g. cancelled, or by
+ * {@link DeadlineJsonRpcTransport}) no further retries are made.
+ * <p>
+ * Batches are sent unchanged (without retries.)
+ * @param <T> Type that can be used (in addition to {@link Class}) to declare expected result types for JSON-RPC method calls.
+ */
+public class RetryingJsonRpcTransport<T extends Type> implements JsonRpcTransport<T>, AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(RetryingJsonRpcTransport.class);
+
+    private final JsonRpcTransport<T> delegate;
+    private final Predicate<JsonRpcRequest> idempotent;
+    private final int maxAttempts;
+    private final long baseDelayNanos;
+    private final long maxDelayNanos;
+
+    /**
+     * @param delegate The transport used to send requests
+     * @param idempotent Returns {@code true} for requests that are safe to send more than once
+     * @param maxAttempts Maximum number of attempts (including the first)
+     * @param baseDelay Maximum delay before the first retry
+     * @param maxDelay Upper bound on the delay before any retry
+     */
+    public RetryingJsonRpcTransport(JsonRpcTransport<T> delegate, Predicate<JsonRpcRequest> idempotent, int maxAttempts, Duration baseDelay, Duration maxDelay) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1");
+        }
+        this.delegate = delegate;
+        this.idempotent = idempotent;
+        this.maxAttempts = maxAttempts;
+        this.baseDelayNanos = baseDelay.toNanos();
+        this.maxDelayNanos = maxDelay.toNanos();
+    }
+
+    @Override
+    public URI getServerURI() {
+        return delegate.getServerURI();
+    }
+
+    @Override
+    public <R> CompletableFuture<JsonRpcResponse<R>> sendRequestForResponseAsync(JsonRpcRequest request, T responseType) {
+        if (maxAttempts == 1 || !idempotent.test(request)) {
+            return delegate.sendRequestForResponseAsync(request, responseType);
+        }
+        CompletableFuture<JsonRpcResponse<R>> result = new CompletableFuture<>();
+        attempt(request, responseType, 1, result);
+        return result;
+    }
+
+    @Override
+    public List<CompletableFuture<JsonRpcResponse<?>>> sendBatchAsync(List<JsonRpcRequest> requests, List<T> responseTypes) {
+        return delegate.sendBatchAsync(requests, responseTypes);
+    }
+
+    /**
+     * Close the delegate transport, if it is {@link AutoCloseable}.
+     */
+    @Override
+    public void close() {
+        DefaultRpcClient.closeTransport(delegate);
+    }
+
+    private <R> void attempt(JsonRpcRequest request, T responseType, int attempt, CompletableFuture<JsonRpcResponse<R>> result) {
+        if (result.isDone()) {
+            return;
+        }
+        CompletableFuture<JsonRpcResponse<R>> response;
+        try {
+            response = delegate.sendRequestForResponseAsync(request, responseType);
+        } catch (RuntimeException e) {
+            response = CompletableFuture.failedFuture(e);
+        }
+        response.whenComplete((r, t) -> {
+            if (t == null) {
+                result.complete(r);
+            } else if (attempt < maxAttempts && JsonRpcTransport.isTransientError(t)) {
+                long delay = backoffNanos(attempt);
+                log.debug("Retrying {} (attempt {} of {}) in {}ms after error: {}", request.getMethod(), attempt + 1, maxAttempts, TimeUnit.NANOSECONDS.toMillis(delay), t.toString());
+                CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS)
+                        .execute(() -> attempt(request, responseType, attempt + 1, result));
+            } else {
+                result.completeExceptionally(t);
+            }
+        });
+    }
+
+    // Full jitter: a random delay between zero and the (capped) exponential backoff
+    private long backoffNanos(int attempt) {
+        long exponential = baseDelayNanos * (1L << Math.min(attempt - 1, 20));
+        long cap = exponential < 0 ? maxDelayNanos : Math.min(maxDelayNanos, exponential);
+        return ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Factory methods for executors used by JSON-RPC clients.
+ * <p>
+ * This library targets Java 11, so virtual threads (Java 21) are accessed using reflection. Check
+ * {@link #isVirtualThreadSupported()} before calling the virtual-thread methods.
+ */
+public final class RpcExecutors {
+    private RpcExecutors() {
+    }
+
+    /**
+     * @return {@code true} if the running JVM supports virtual threads
+     */
+    public static boolean isVirtualThreadSupported() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Create a {@link ThreadFactory} for virtual threads.
+     * @param namePrefix prefix for thread names, a counter is appended
+     * @return a factory that creates virtual threads
+     * @throws UnsupportedOperationException if the JVM doesn't support virtual threads
+     */
+    public static ThreadFactory virtualThreadFactory(String namePrefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (NoSuchMethodException | ClassNotFoundException e) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or later", e);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Can't create virtual thread factory", e);
+        }
+    }
+
+    /**
+     * Create an executor that starts a new thread for each task. When used with a virtual thread factory
+     * (from {@link #virtualThreadFactory(String)}) a large number of tasks can block (e.g. waiting for a
+     * synchronous JSON-RPC response) without tying up platform threads.
+     * @param threadFactory factory for the threads
+     * @return a new thread-per-task executor
+     * @throws UnsupportedOperationException if the JVM doesn't support thread-per-task executors (Java 21 or later)
+     */
+    public static ExecutorService newThreadPerTaskExecutor(ThreadFactory threadFactory) {
+        Method method;
+        try {
+            method = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+        } catch (NoSuchMethodException e) {
+            throw new UnsupportedOperationException("Thread-per-task executors require Java 21 or later", e);
+        }
+        try {
+            return (ExecutorService) method.invoke(null, threadFactory);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Can't create thread-per-task executor", e);
+        }
+    }
+
+    /**
+     * Create an executor that starts a new virtual thread for each task.
+     * @param namePrefix prefix for thread names
+     * @return a new virtual-thread-per-task executor
+     * @throws UnsupportedOperationException if the JVM doesn't support virtual threads
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor(String namePrefix) {
+        return newThreadPerTaskExecutor(virtualThreadFactory(namePrefix));
+    }
+}
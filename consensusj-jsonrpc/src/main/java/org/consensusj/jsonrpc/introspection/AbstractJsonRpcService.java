@@ -19,19 +19,64 @@ import org.jspecify.annotations.Nullable;
 
 import java.lang.reflect.Method;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 /**
  * GraalVM-compatible implementation of {@link JsonRpcServiceWrapper} that takes a map of {@link Method}s in the constructor
  * so that introspection can be done at static initialization time (which means during native image generation).
  * Since {@link #getServiceObject()} returns {@code this} you typically directly subclass {@code AbstractJsonRpcService}.
  * For example see {@link org.consensusj.jsonrpc.introspection.sample.MathService}.
+ * <p>
+ * A {@link MethodDispatcher} is created for each method on its first call and reused after that. {@link Blocking} methods
+ * are called on the executor passed to {@link #AbstractJsonRpcService(Map, Executor)} (or the shared
+ * {@link BlockingExecutor#getDefault() default}.)
+ * <p>
+ * Subclasses built with the {@code consensusj-jsonrpc-processor} annotation processor can instead pass the generated
+ * {@link JsonRpcDispatcher} to {@link #AbstractJsonRpcService(JsonRpcDispatcher)}. Methods are then called directly,
+ * without reflection, and {@link #getMethod(String)} returns {@code null}.
  */
 public abstract class AbstractJsonRpcService implements JsonRpcServiceWrapper {
     protected final Map<String, Method> methods;
+    private final @Nullable JsonRpcDispatcher<Object> generated;
+    private final Map<String, MethodDispatcher> dispatchers = new ConcurrentHashMap<>();
+    private final Executor blockingExecutor;
 
     public AbstractJsonRpcService(Map<String, Method> methods) {
+        this(methods, BlockingExecutor.getDefault());
+    }
+
+    /**
+     * @param methods A map that maps method-name strings to {@link Method} objects
+     * @param blockingExecutor Executor for {@link Blocking} methods, typically a {@link BlockingExecutor}
+     */
+    public AbstractJsonRpcService(Map<String, Method> methods, Executor blockingExecutor) {
         this.methods = methods;
+        this.generated = null;
+        this.blockingExecutor = blockingExecutor;
+    }
+
+    /**
+     * Construct a service that calls {@link Blocking} methods on the shared {@link BlockingExecutor#getDefault() default}
+     * {@link BlockingExecutor}.
+     * @param dispatcher A dispatcher generated for the subclass by {@code consensusj-jsonrpc-processor}
+     */
+    public AbstractJsonRpcService(JsonRpcDispatcher<? extends AbstractJsonRpcService> dispatcher) {
+        this(dispatcher, BlockingExecutor.getDefault());
+    }
+
+    /**
+     * @param dispatcher A dispatcher generated for the subclass by {@code consensusj-jsonrpc-processor}
+     * @param blockingExecutor Executor for {@link Blocking} methods, typically a {@link BlockingExecutor}
+     */
+    @SuppressWarnings("unchecked")
+    public AbstractJsonRpcService(JsonRpcDispatcher<? extends AbstractJsonRpcService> dispatcher, Executor blockingExecutor) {
+        this.methods = Map.of();
+        // The generated dispatcher is for the class of getServiceObject()
+        this.generated = (JsonRpcDispatcher<Object>) (JsonRpcDispatcher<?>) dispatcher;
+        this.blockingExecutor = blockingExecutor;
     }
 
     @Override
@@ -45,6 +90,27 @@ public abstract class AbstractJsonRpcService implements JsonRpcServiceWrapper {
         return methods.get(methodName);
     }
 
+    @Override
+    public Executor getBlockingExecutor() {
+        return blockingExecutor;
+    }
+
+    @Override
+    @Nullable
+    public MethodDispatcher getDispatcher(String methodName) {
+        JsonRpcDispatcher<Object> g = generated;
+        if (g != null) {
+            return g.methodNames().contains(methodName)
+                    ? dispatchers.computeIfAbsent(methodName, n -> Objects.requireNonNull(g.dispatcher(getServiceObject(), n)))
+                    : null;
+        }
+        Method method = getMethod(methodName);
+        // getServiceObject() is called lazily since subclasses may set the service object after this constructor
+        return method != null
+                ? dispatchers.computeIfAbsent(methodName, n -> MethodDispatcher.of(method, getServiceObject()))
+                : null;
+    }
+
     protected <RSLT> CompletableFuture<RSLT> result(RSLT result) {
         return CompletableFuture.completedFuture(result);
     }
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc.introspection;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a public method of a service object as a JSON-RPC method that may block, so it is called on a
+ * {@link BlockingExecutor} rather than on the caller's (e.g. the HTTP server's event loop) thread.
+ * <p>
+ * A blocking method may have a plain return type (e.g. {@code Integer} or {@code void}) which is used as the
+ * JSON-RPC {@code result}. It may also return a {@link java.util.concurrent.CompletableFuture} if it blocks before
+ * returning the future. {@link JsonRpcServiceWrapper#reflect(Class)} only includes methods with plain return types
+ * if they have this annotation.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Blocking {
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc.introspection;
+
+import org.consensusj.jsonrpc.RpcExecutors;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor for {@link Blocking} JSON-RPC service methods. It runs each call on a new virtual thread, and at most
+ * {@code maxConcurrency} calls run at once: additional calls wait (on their own virtual threads) for a running call
+ * to complete.
+ * <p>
+ * On JVMs without virtual threads (before Java 21) a pool of up to {@code maxConcurrency} daemon platform threads
+ * is used instead. Note that a virtual thread that blocks inside a {@code synchronized} block (as some bitcoinj
+ * methods do) holds on to its carrier thread on JVMs before Java 24.
+ */
+public final class BlockingExecutor implements Executor {
+    /**
+     * Default maximum number of concurrent blocking calls
+     */
+    public static final int DEFAULT_MAX_CONCURRENCY = 256;
+    private static final String THREAD_NAME_PREFIX = "jsonrpc-blocking-";
+
+    private final int maxConcurrency;
+    private final boolean virtual;
+    private final ExecutorService executor;
+    private final Semaphore permits;
+
+    /**
+     * Create an executor with {@link #DEFAULT_MAX_CONCURRENCY}
+     */
+    public BlockingExecutor() {
+        this(DEFAULT_MAX_CONCURRENCY);
+    }
+
+    /**
+     * @param maxConcurrency Maximum number of calls that run at once
+     */
+    public BlockingExecutor(int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be at least 1");
+        }
+        this.maxConcurrency = maxConcurrency;
+        this.virtual = RpcExecutors.isVirtualThreadSupported();
+        this.executor = virtual
+                ? RpcExecutors.newVirtualThreadPerTaskExecutor(THREAD_NAME_PREFIX)
+                : newPlatformThreadPool(maxConcurrency);
+        this.permits = new Semaphore(maxConcurrency, true);
+    }
+
+    /**
+     * The shared executor used by services that aren't configured with their own.
+     * @return an executor with {@link #DEFAULT_MAX_CONCURRENCY}
+     */
+    public static BlockingExecutor getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * @return the maximum number of calls that run at once
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * @return {@code true} if calls run on virtual threads
+     */
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (virtual) {
+            executor.execute(() -> {
+                permits.acquireUninterruptibly();
+                try {
+                    command.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        } else {
+            // The pool size is the limit
+            executor.execute(command);
+        }
+    }
+
+    private static ExecutorService newPlatformThreadPool(int maxConcurrency) {
+        AtomicInteger count = new AtomicInteger();
+        ThreadFactory threadFactory = r -> {
+            Thread t = new Thread(r, THREAD_NAME_PREFIX + count.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        };
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(maxConcurrency, maxConcurrency,
+                60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    // Lazily create the default executor
+    private static final class DefaultHolder {
+        static final BlockingExecutor INSTANCE = new BlockingExecutor();
+    }
+}
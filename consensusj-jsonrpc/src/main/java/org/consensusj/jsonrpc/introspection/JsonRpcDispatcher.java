@@ -0,0 +1,47 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc.introspection;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.Set;
+
+/**
+ * Maps JSON-RPC method names to {@link MethodDispatcher}s for a service class without reflection.
+ * <p>
+ * Implementations are generated at compile-time by the {@code consensusj-jsonrpc-processor} annotation processor,
+ * which writes a {@code <Service>Dispatcher} class next to each concrete subclass of {@link AbstractJsonRpcService}.
+ * The generated class switches on the method name and calls the service methods directly, converting {@code params}
+ * with {@link ParamConverters}, so no reflection configuration is needed for GraalVM native images. Pass an
+ * instance to {@link AbstractJsonRpcService#AbstractJsonRpcService(JsonRpcDispatcher)} to use it.
+ *
+ * @param <S> the service class
+ */
+public interface JsonRpcDispatcher<S> {
+    /**
+     * Get the names of the JSON-RPC methods.
+     * @return the names of all methods {@link #dispatcher(Object, String)} can dispatch
+     */
+    Set<String> methodNames();
+
+    /**
+     * Get a dispatcher for a named JSON-RPC method.
+     * @param service the service object to call the method on
+     * @param methodName the name of the method to call
+     * @return dispatcher bound to {@code service} (or {@code null} if not found)
+     */
+    @Nullable MethodDispatcher dispatcher(S service, String methodName);
+}
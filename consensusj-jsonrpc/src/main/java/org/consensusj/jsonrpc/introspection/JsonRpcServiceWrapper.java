@@ -29,11 +29,12 @@ import org.slf4j.LoggerFactory;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.List;
-import java.util.Collections;
-import java.util.ArrayList;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 import static org.consensusj.jsonrpc.JsonRpcError.Error.INVALID_PARAMS;
@@ -47,6 +48,8 @@ import static org.consensusj.jsonrpc.JsonRpcError.Error.SERVER_EXCEPTION;
  * <p>
  * The wrapped class must contain one or more asynchronous methods that return {@link CompletableFuture}s for objects that represent
  * JSON-RPC {@code result} values. They are mapped to JSON objects when serialized (via <b>Jackson</b> in the current implementation.)
+ * Methods that block can be annotated with {@link Blocking} and may return {@code result} values directly. They are called on the
+ * {@link #getBlockingExecutor() blocking executor} (virtual threads, when available.)
  * <p>
  * This interface contains a {@code default} implementation of {@link JsonRpcService#call(JsonRpcRequest)} that
  * uses {@link JsonRpcServiceWrapper#callMethod(String, List)} to call the wrapped service object.
@@ -56,9 +59,13 @@ import static org.consensusj.jsonrpc.JsonRpcError.Error.SERVER_EXCEPTION;
  *     <li>{@link #getServiceObject()} to return the wrapped object (singleton)</li>
  *     <li>{@link #getMethod(String)} to return a {@link Method} object for the named JSON-RPC {@code method}.</li>
  * </ul>
+ * Methods are called through a {@link MethodDispatcher}. Implementations should override {@link #getDispatcher(String)}
+ * to cache dispatchers, as {@link AbstractJsonRpcService} does.
  * <p>
  * The trick to <b>GraalVM</b>-compatibility is to use the {@code static} {@link JsonRpcServiceWrapper#reflect(Class)} method in your
- * implementation at (static) initialization time so the reflection is done at GraalVM compile-time.
+ * implementation at (static) initialization time so the reflection is done at GraalVM compile-time. Alternatively,
+ * {@link AbstractJsonRpcService} subclasses can use a {@link JsonRpcDispatcher} generated at (Java) compile-time and
+ * avoid reflection entirely.
  */
 public interface JsonRpcServiceWrapper extends JsonRpcService {
     Logger log = LoggerFactory.getLogger(JsonRpcServiceWrapper.class);
@@ -79,6 +86,26 @@ public interface JsonRpcServiceWrapper extends JsonRpcService {
     @Nullable
     Method getMethod(String methodName);
 
+    /**
+     * Get a {@link MethodDispatcher} for a named JSON-RPC method. The default implementation creates a new
+     * dispatcher on each call.
+     * @param methodName the name of the method to call
+     * @return dispatcher bound to the service object (or {@code null} if not found)
+     */
+    @Nullable
+    default MethodDispatcher getDispatcher(String methodName) {
+        Method method = getMethod(methodName);
+        return method != null ? MethodDispatcher.of(method, getServiceObject()) : null;
+    }
+
+    /**
+     * Get the executor for {@link Blocking} methods.
+     * @return the shared {@link BlockingExecutor#getDefault() default} executor, unless overridden
+     */
+    default Executor getBlockingExecutor() {
+        return BlockingExecutor.getDefault();
+    }
+
     /**
      * Handle a request by calling method, getting a result, and embedding it in a response.
      * 
@@ -121,7 +148,7 @@ public interface JsonRpcServiceWrapper extends JsonRpcService {
      */
     private JsonRpcError exceptionToError(Throwable ex) {
         if (ex instanceof IllegalArgumentException) {
-            // This assumes the IllegalArgumentException was from mh.invoke
+            // This assumes the IllegalArgumentException was from MethodDispatcher.invoke
             return JsonRpcError.of(INVALID_PARAMS, ex);
         } else if (ex instanceof NoSuchMethodError) {
             // This assumes the NoSuchMethodError was from callMethod
@@ -141,12 +168,13 @@ public interface JsonRpcServiceWrapper extends JsonRpcService {
     private <RSLT> CompletableFuture<RSLT> callMethod(String methodName, List<@Nullable Object> params) {
         log.debug("JsonRpcServiceWrapper.callMethod: {}", methodName);
         CompletableFuture<RSLT> future;
-        final Method mh = getMethod(methodName);
-        if (mh != null) {
-            List<@Nullable Object> completeParams = addNullParams(mh.getParameterCount(), params);
+        final MethodDispatcher dispatcher = getDispatcher(methodName);
+        if (dispatcher != null && dispatcher.isBlocking()) {
+            future = callBlocking(dispatcher, params);
+        } else if (dispatcher != null) {
             try {
                 @SuppressWarnings("unchecked")
-                CompletableFuture<RSLT> liveFuture = (CompletableFuture<RSLT>) mh.invoke(getServiceObject(), completeParams.toArray());
+                CompletableFuture<RSLT> liveFuture = (CompletableFuture<RSLT>) Objects.requireNonNull(dispatcher.invoke(params), "null future");
                 future = liveFuture;
             } catch (Throwable throwable) {
                 log.error("Exception invoking service object: ", throwable);
@@ -160,31 +188,51 @@ public interface JsonRpcServiceWrapper extends JsonRpcService {
     }
 
     /**
-     * Fills in any omitted optional params from a given param list with nulls
+     * Call a {@link Blocking} method on the {@link #getBlockingExecutor() blocking executor}
      *
-     * @param numParams Total number of params a method expects
-     * @param paramsFromNet Param list which may omit unused optional params
-     * @return Param list which does not omit unused optional params
+     * @param dispatcher Dispatcher for the method
+     * @param params List of JSON-RPC parameters
+     * @return A future result POJO
      */
-    private List<@Nullable Object> addNullParams(int numParams, List<@Nullable Object> paramsFromNet) {
-        int nullParamsNeeded = Math.max(0, numParams - paramsFromNet.size());
-        if (nullParamsNeeded > 0) {
-            List<@Nullable Object> combined = new ArrayList<>(paramsFromNet);
-            combined.addAll(Collections.nCopies(nullParamsNeeded, null));
-            return Collections.unmodifiableList(combined);
-        } else {
-            return paramsFromNet;
+    private <RSLT> CompletableFuture<RSLT> callBlocking(MethodDispatcher dispatcher, List<@Nullable Object> params) {
+        CompletableFuture<RSLT> future = new CompletableFuture<>();
+        try {
+            getBlockingExecutor().execute(() -> {
+                try {
+                    @Nullable Object result = dispatcher.invoke(params);
+                    if (result instanceof CompletableFuture) {
+                        @SuppressWarnings("unchecked")
+                        CompletableFuture<RSLT> liveFuture = (CompletableFuture<RSLT>) result;
+                        liveFuture.whenComplete((r, t) -> {
+                            if (t != null) {
+                                future.completeExceptionally(t);
+                            } else {
+                                future.complete(r);
+                            }
+                        });
+                    } else {
+                        @SuppressWarnings("unchecked")
+                        RSLT r = (RSLT) result;
+                        future.complete(r);
+                    }
+                } catch (Throwable throwable) {
+                    log.error("Exception invoking service object: ", throwable);
+                    future.completeExceptionally(throwable);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
         }
+        return future;
     }
 
-
     // TODO: Create a mechanism to return a map with only the desired remotely-accessible methods in it.
-    // For server-side JSON-RPC we should migrate away from CompletableFuture to Virtual Threads
     // We should have (or generate) a mapping from lower-case JSON-RPC method names to Java camel-case names,
     // so this `reflect` method can use a List (or Map) data structure and see if Method::name is present
     // in the list.
     /**
-     * Use reflection/introspection to generate a map of methods.
+     * Use reflection/introspection to generate a map of methods. Public methods that return {@link CompletableFuture}
+     * or are annotated with {@link Blocking} are included.
      * Generally this is called to initialize a {@link Map} stored in a static field, so the reflection can be done
      * during GraalVM compile-time.
      * @param apiClass The service class to reflect/introspect
@@ -193,7 +241,8 @@ public interface JsonRpcServiceWrapper extends JsonRpcService {
     static Map<String, Method> reflect(Class<?>  apiClass) {
         return Arrays.stream(apiClass.getMethods())
                 .filter(m -> Modifier.isPublic(m.getModifiers()))               // Only public methods
-                .filter(m -> m.getReturnType().equals(CompletableFuture.class)) // Only methods that return CompletableFuture
+                .filter(m -> m.getReturnType().equals(CompletableFuture.class)  // Only methods that return CompletableFuture
+                        || m.isAnnotationPresent(Blocking.class))               // or are marked as blocking
                 .collect(Collectors
                         .toUnmodifiableMap(Method::getName, // key is method name
                                 (method) -> method,         // value is Method object
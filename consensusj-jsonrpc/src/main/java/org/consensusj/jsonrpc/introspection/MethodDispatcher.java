@@ -0,0 +1,61 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc.introspection;
+
+import org.jspecify.annotations.Nullable;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Calls one service method, bound to a service object, with JSON-RPC {@code params}.
+ * <p>
+ * Dispatchers are created at runtime from a {@link Method} with {@link #of(Method, Object)} or are generated at
+ * compile-time by {@code consensusj-jsonrpc-processor} (see {@link JsonRpcDispatcher}.) Either way, parameters that
+ * don't match the method's parameter types fail with {@link IllegalArgumentException}, as they did with
+ * {@code Method.invoke}, including the widening conversions {@code Method.invoke} allows for primitive parameters.
+ * <p>
+ * Methods annotated with {@link Blocking} and methods that don't return a {@link CompletableFuture} are
+ * {@link #isBlocking() blocking} and should be invoked on a {@link BlockingExecutor}.
+ */
+public interface MethodDispatcher {
+    /**
+     * Does the method need to be called on a {@link BlockingExecutor}?
+     * @return {@code true} if the method is annotated with {@link Blocking} or doesn't return a {@link CompletableFuture}
+     */
+    boolean isBlocking();
+
+    /**
+     * Call the method. {@code params} may omit trailing (optional) parameters, which are passed as {@code null}.
+     * @param params JSON-RPC {@code params}
+     * @return the value returned by the method
+     * @throws IllegalArgumentException if there are too many {@code params} or they don't match the parameter types
+     * @throws Throwable anything thrown by the method
+     */
+    @Nullable Object invoke(List<@Nullable Object> params) throws Throwable;
+
+    /**
+     * Create a dispatcher for a method of a service object, using a {@link java.lang.invoke.MethodHandle}
+     * that is created once instead of {@link Method#invoke}.
+     * @param method A public method (typically from {@link JsonRpcServiceWrapper#reflect(Class)})
+     * @param target The service object to call the method on
+     * @return a dispatcher
+     */
+    static MethodDispatcher of(Method method, Object target) {
+        return MethodHandleDispatcher.of(method, target);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc.introspection;
+
+import org.jspecify.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link MethodDispatcher} that calls one service method with JSON-RPC {@code params}, using a {@link MethodHandle} that is created once
+ * (from a {@link Method} found by {@link JsonRpcServiceWrapper#reflect(Class)}) instead of {@link Method#invoke}.
+ * <p>
+ * The handle is bound to the service object and adapted to take an {@code Object[]} of exactly the method's arity, so
+ * each call only copies the {@code params} into one array (omitted trailing params are left {@code null}) and checks
+ * their types (with the same rules as {@link ParamConverters}.) Exceptions thrown by the method are rethrown unchanged.
+ * <p>
+ * Creating the handle at runtime works in a GraalVM native image as long as the method is registered for reflection,
+ * which is already required for {@code Method.invoke}. If the method can't be accessed with a {@code MethodHandle}
+ * (e.g. the service class isn't public) {@code Method.invoke} is used.
+ */
+final class MethodHandleDispatcher implements MethodDispatcher {
+    private static final MethodType SPREAD_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    private final Method method;
+    private final Object target;
+    private final Class<?>[] parameterTypes;
+    private final boolean blocking;
+    private final @Nullable MethodHandle handle;
+
+    private MethodHandleDispatcher(Method method, Object target, @Nullable MethodHandle handle) {
+        this.method = method;
+        this.target = target;
+        this.parameterTypes = method.getParameterTypes();
+        this.blocking = method.isAnnotationPresent(Blocking.class) || method.getReturnType() != CompletableFuture.class;
+        this.handle = handle;
+    }
+
+    static MethodHandleDispatcher of(Method method, Object target) {
+        @Nullable MethodHandle mh = unreflect(method);
+        MethodHandle spread = mh != null
+                ? mh.bindTo(target).asSpreader(Object[].class, method.getParameterCount()).asType(SPREAD_TYPE)
+                : null;
+        return new MethodHandleDispatcher(method, target, spread);
+    }
+
+    @Override
+    public boolean isBlocking() {
+        return blocking;
+    }
+
+    @Override
+    public @Nullable Object invoke(List<@Nullable Object> params) throws Throwable {
+        int arity = parameterTypes.length;
+        ParamConverters.checkArity(params, arity);
+        @Nullable Object[] args = new Object[arity];
+        for (int i = 0; i < params.size(); i++) {
+            @Nullable Object arg = params.get(i);
+            if (!ParamConverters.isAssignable(parameterTypes[i], arg)) {
+                throw new IllegalArgumentException("argument type mismatch for parameter " + i + " of " + method.getName());
+            }
+            args[i] = arg;
+        }
+        for (int i = params.size(); i < arity; i++) {
+            if (parameterTypes[i].isPrimitive()) {
+                throw new IllegalArgumentException("missing argument for primitive parameter " + i + " of " + method.getName());
+            }
+        }
+        if (handle != null) {
+            return (Object) handle.invokeExact(args);
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause() != null ? e.getCause() : e;
+        }
+    }
+
+    private static @Nullable MethodHandle unreflect(Method method) {
+        try {
+            return MethodHandles.publicLookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            // e.g. a public method of a non-public class
+            try {
+                return method.trySetAccessible() ? MethodHandles.lookup().unreflect(method) : null;
+            } catch (IllegalAccessException | SecurityException e2) {
+                return null;
+            }
+        }
+    }
+}
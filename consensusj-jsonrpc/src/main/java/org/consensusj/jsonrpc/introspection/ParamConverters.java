@@ -0,0 +1,216 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc.introspection;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Conversion of JSON-RPC {@code params} to method arguments, used by generated {@link JsonRpcDispatcher}s
+ * (and by {@link MethodDispatcher#of(java.lang.reflect.Method, Object)}.)
+ * <p>
+ * The rules are the same as for {@code Method.invoke}: {@code null} or an instance is accepted for a reference type
+ * and a wrapper of the same or a narrower primitive type is accepted for a primitive type (see JLS 5.1.2.) Omitted
+ * trailing {@code params} are {@code null}, which is an error for primitive types. Errors are reported with
+ * {@link IllegalArgumentException}, which is mapped to a JSON-RPC {@code INVALID_PARAMS} error.
+ */
+public final class ParamConverters {
+    // Primitive types in widening order, see JLS 5.1.2. char is handled separately.
+    private static final List<Class<?>> NUMERIC_PRIMITIVES = List.of(byte.class, short.class, int.class, long.class, float.class, double.class);
+    private static final Map<Class<?>, Class<?>> WRAPPER_TO_PRIMITIVE = Map.of(
+            Boolean.class, boolean.class,
+            Byte.class, byte.class,
+            Short.class, short.class,
+            Character.class, char.class,
+            Integer.class, int.class,
+            Long.class, long.class,
+            Float.class, float.class,
+            Double.class, double.class);
+
+    private ParamConverters() {
+    }
+
+    /**
+     * Check there are no more {@code params} than parameters
+     * @param params JSON-RPC {@code params}
+     * @param arity number of method parameters
+     * @throws IllegalArgumentException if there are too many {@code params}
+     */
+    public static void checkArity(List<@Nullable Object> params, int arity) {
+        if (params.size() > arity) {
+            throw new IllegalArgumentException("wrong number of arguments: " + params.size() + " expected: " + arity);
+        }
+    }
+
+    /**
+     * Get an argument for a parameter of a reference type
+     * @param params JSON-RPC {@code params}
+     * @param index parameter index
+     * @param type (erased) parameter type
+     * @param methodName method name for error messages
+     * @param <T> parameter type
+     * @return the argument, or {@code null} if it is {@code null} or omitted
+     * @throws IllegalArgumentException if the argument is not an instance of {@code type}
+     */
+    public static <T> @Nullable T ref(List<@Nullable Object> params, int index, Class<T> type, String methodName) {
+        @Nullable Object arg = index < params.size() ? params.get(index) : null;
+        if (arg != null && !type.isInstance(arg)) {
+            throw mismatch(index, methodName);
+        }
+        return type.cast(arg);
+    }
+
+    /**
+     * Get an argument for a {@code boolean} parameter
+     * @param params JSON-RPC {@code params}
+     * @param index parameter index
+     * @param methodName method name for error messages
+     * @return the argument
+     * @throws IllegalArgumentException if the argument is missing or not a {@link Boolean}
+     */
+    public static boolean toBoolean(List<@Nullable Object> params, int index, String methodName) {
+        return (Boolean) primitive(params, index, boolean.class, methodName);
+    }
+
+    /**
+     * Get an argument for a {@code byte} parameter
+     * @param params JSON-RPC {@code params}
+     * @param index parameter index
+     * @param methodName method name for error messages
+     * @return the argument
+     * @throws IllegalArgumentException if the argument is missing or not a {@link Byte}
+     */
+    public static byte toByte(List<@Nullable Object> params, int index, String methodName) {
+        return (Byte) primitive(params, index, byte.class, methodName);
+    }
+
+    /**
+     * Get an argument for a {@code char} parameter
+     * @param params JSON-RPC {@code params}
+     * @param index parameter index
+     * @param methodName method name for error messages
+     * @return the argument
+     * @throws IllegalArgumentException if the argument is missing or not a {@link Character}
+     */
+    public static char toChar(List<@Nullable Object> params, int index, String methodName) {
+        return (Character) primitive(params, index, char.class, methodName);
+    }
+
+    /**
+     * Get an argument for a {@code short} parameter
+     * @param params JSON-RPC {@code params}
+     * @param index parameter index
+     * @param methodName method name for error messages
+     * @return the argument
+     * @throws IllegalArgumentException if the argument is missing or can't be widened to {@code short}
+     */
+    public static short toShort(List<@Nullable Object> params, int index, String methodName) {
+        return ((Number) primitive(params, index, short.class, methodName)).shortValue();
+    }
+
+    /**
+     * Get an argument for an {@code int} parameter
+     * @param params JSON-RPC {@code params}
+     * @param index parameter index
+     * @param methodName method name for error messages
+     * @return the argument
+     * @throws IllegalArgumentException if the argument is missing or can't be widened to {@code int}
+     */
+    public static int toInt(List<@Nullable Object> params, int index, String methodName) {
+        Object arg = primitive(params, index, int.class, methodName);
+        return arg instanceof Character ? (Character) arg : ((Number) arg).intValue();
+    }
+
+    /**
+     * Get an argument for a {@code long} parameter
+     * @param params JSON-RPC {@code params}
+     * @param index parameter index
+     * @param methodName method name for error messages
+     * @return the argument
+     * @throws IllegalArgumentException if the argument is missing or can't be widened to {@code long}
+     */
+    public static long toLong(List<@Nullable Object> params, int index, String methodName) {
+        Object arg = primitive(params, index, long.class, methodName);
+        return arg instanceof Character ? (Character) arg : ((Number) arg).longValue();
+    }
+
+    /**
+     * Get an argument for a {@code float} parameter
+     * @param params JSON-RPC {@code params}
+     * @param index parameter index
+     * @param methodName method name for error messages
+     * @return the argument
+     * @throws IllegalArgumentException if the argument is missing or can't be widened to {@code float}
+     */
+    public static float toFloat(List<@Nullable Object> params, int index, String methodName) {
+        Object arg = primitive(params, index, float.class, methodName);
+        return arg instanceof Character ? (Character) arg : ((Number) arg).floatValue();
+    }
+
+    /**
+     * Get an argument for a {@code double} parameter
+     * @param params JSON-RPC {@code params}
+     * @param index parameter index
+     * @param methodName method name for error messages
+     * @return the argument
+     * @throws IllegalArgumentException if the argument is missing or can't be widened to {@code double}
+     */
+    public static double toDouble(List<@Nullable Object> params, int index, String methodName) {
+        Object arg = primitive(params, index, double.class, methodName);
+        return arg instanceof Character ? (Character) arg : ((Number) arg).doubleValue();
+    }
+
+    // Same rules as Method.invoke: null for any reference type, widening for primitive types
+    static boolean isAssignable(Class<?> type, @Nullable Object arg) {
+        if (arg == null) {
+            return !type.isPrimitive();
+        }
+        if (!type.isPrimitive()) {
+            return type.isInstance(arg);
+        }
+        @Nullable Class<?> from = WRAPPER_TO_PRIMITIVE.get(arg.getClass());
+        if (from == null) {
+            return false;
+        }
+        if (from == type) {
+            return true;
+        }
+        if (from == char.class) {
+            // char widens to int, long, float and double
+            return NUMERIC_PRIMITIVES.indexOf(type) >= NUMERIC_PRIMITIVES.indexOf(int.class);
+        }
+        int fromRank = NUMERIC_PRIMITIVES.indexOf(from);
+        return fromRank >= 0 && NUMERIC_PRIMITIVES.indexOf(type) > fromRank;
+    }
+
+    // Get a (boxed) argument that can be widened to the primitive type
+    private static Object primitive(List<@Nullable Object> params, int index, Class<?> type, String methodName) {
+        @Nullable Object arg = index < params.size() ? params.get(index) : null;
+        if (arg == null) {
+            throw new IllegalArgumentException("missing argument for primitive parameter " + index + " of " + methodName);
+        }
+        if (!isAssignable(type, arg)) {
+            throw mismatch(index, methodName);
+        }
+        return arg;
+    }
+
+    private static IllegalArgumentException mismatch(int index, String methodName) {
+        return new IllegalArgumentException("argument type mismatch for parameter " + index + " of " + methodName);
+    }
+}
@@ -20,14 +20,11 @@ import org.consensusj.jsonrpc.JsonRpcRequest;
 import org.consensusj.jsonrpc.JsonRpcResponse;
 import org.consensusj.jsonrpc.JsonRpcService;
 import org.consensusj.jsonrpc.introspection.AbstractJsonRpcService;
-import org.consensusj.jsonrpc.introspection.JsonRpcServiceWrapper;
+import org.consensusj.jsonrpc.introspection.JsonRpcDispatcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.invoke.MethodHandles;
-import java.lang.reflect.Method;
 import java.util.Arrays;
-import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
@@ -39,14 +36,13 @@ import java.util.concurrent.ExecutionException;
  */
 public class MathService extends AbstractJsonRpcService {
     private static final Logger log = LoggerFactory.getLogger(MathService.class);
-    private static final Map<String, Method> methods = JsonRpcServiceWrapper.reflect(MethodHandles.lookup().lookupClass());
 
     /**
-     * Constructor that calls {@link AbstractJsonRpcService#AbstractJsonRpcService(Map)} with a private, statically-initialized
-     * {@link Map} of methods generated with {@link JsonRpcServiceWrapper#reflect(Class)}  }.
+     * Constructor that calls {@link AbstractJsonRpcService#AbstractJsonRpcService(JsonRpcDispatcher)} with the
+     * {@code MathServiceDispatcher} generated at compile-time, so no reflection is used.
      */
     public MathService() {
-        super(methods);
+        super(new MathServiceDispatcher());
     }
 
     public static void main(String[] args) throws ExecutionException, InterruptedException {
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc.metrics;
+
+import org.consensusj.jsonrpc.JsonRpcError;
+import org.consensusj.jsonrpc.JsonRpcErrorException;
+import org.consensusj.jsonrpc.JsonRpcStatusException;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link JsonRpcMetrics} implementation that records per-method {@link MethodMetrics} in memory.
+ * <p>
+ * Error counts are keyed by the JSON-RPC error code, from the response or from a
+ * {@link JsonRpcErrorException} or {@link JsonRpcStatusException}.
+ */
+public class InMemoryJsonRpcMetrics implements JsonRpcMetrics {
+    private final Map<String, MethodMetrics> methods = new ConcurrentHashMap<>();
+
+    /**
+     * @return metrics for all methods that have been called, by method name
+     */
+    public Map<String, MethodMetrics> getMethods() {
+        return Collections.unmodifiableMap(methods);
+    }
+
+    /**
+     * @param method JSON-RPC method name
+     * @return metrics for the method (created if necessary)
+     */
+    public MethodMetrics forMethod(String method) {
+        MethodMetrics m = methods.get(method);
+        return m != null ? m : methods.computeIfAbsent(method, this::newMethodMetrics);
+    }
+
+    /**
+     * Create metrics for a method the first time it is called. Subclasses can override this to publish the metrics.
+     * @param method JSON-RPC method name
+     * @return new metrics for the method
+     */
+    protected MethodMetrics newMethodMetrics(String method) {
+        return new MethodMetrics(method);
+    }
+
+    @Override
+    public void requestStarted(String method) {
+        forMethod(method).started();
+    }
+
+    @Override
+    public void requestCompleted(String method, long latencyNanos, @Nullable JsonRpcError error, @Nullable Throwable failure) {
+        MethodMetrics m = forMethod(method);
+        m.completed(latencyNanos);
+        if (error != null) {
+            m.error(error.getCode());
+        }
+        if (failure != null) {
+            m.failed();
+            Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+            if (cause instanceof JsonRpcErrorException) {
+                m.error(((JsonRpcErrorException) cause).getError().getCode());
+            } else if (cause instanceof JsonRpcStatusException && ((JsonRpcStatusException) cause).jsonRpcCode != 0) {
+                m.error(((JsonRpcStatusException) cause).jsonRpcCode);
+            }
+        }
+    }
+
+    @Override
+    public void requestBytes(String method, long bytes) {
+        forMethod(method).getRequestBytes().record(bytes);
+    }
+
+    @Override
+    public void responseBytes(String method, long bytes) {
+        forMethod(method).getResponseBytes().record(bytes);
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link JsonRpcMetrics} implementation that publishes the metrics for each method as a {@link JsonRpcMethodMXBean}
+ * with the {@link ObjectName} {@code org.consensusj.jsonrpc:type=JsonRpcClient,client=<client>,method=<method>}.
+ * Call {@link #close()} to unregister the MXBeans.
+ */
+public class JmxJsonRpcMetrics extends InMemoryJsonRpcMetrics implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(JmxJsonRpcMetrics.class);
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final MBeanServer server;
+    private final String clientName;
+    private final Set<ObjectName> registered = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Publish metrics to the platform {@link MBeanServer}.
+     * @param clientName Name to identify the client (e.g. the server host) in the {@code ObjectName}s
+     */
+    public JmxJsonRpcMetrics(String clientName) {
+        this(ManagementFactory.getPlatformMBeanServer(), clientName);
+    }
+
+    /**
+     * @param server MBean server to register with
+     * @param clientName Name to identify the client (e.g. the server host) in the {@code ObjectName}s
+     */
+    public JmxJsonRpcMetrics(MBeanServer server, String clientName) {
+        this.server = server;
+        this.clientName = clientName;
+    }
+
+    /**
+     * @param method JSON-RPC method name
+     * @return the {@code ObjectName} for the method's MXBean
+     * @throws MalformedObjectNameException if the name is invalid
+     */
+    public ObjectName objectNameFor(String method) throws MalformedObjectNameException {
+        return new ObjectName("org.consensusj.jsonrpc:type=JsonRpcClient,client=" + ObjectName.quote(clientName) +
+                ",method=" + ObjectName.quote(method));
+    }
+
+    @Override
+    protected MethodMetrics newMethodMetrics(String method) {
+        MethodMetrics metrics = super.newMethodMetrics(method);
+        try {
+            ObjectName name = objectNameFor(method);
+            server.registerMBean(new MethodMXBean(metrics), name);
+            registered.add(name);
+        } catch (JMException e) {
+            log.warn("Can't register MXBean for method {}", method, e);
+        }
+        return metrics;
+    }
+
+    /**
+     * Unregister all MXBeans registered by this instance.
+     */
+    @Override
+    public void close() {
+        for (ObjectName name : registered) {
+            try {
+                server.unregisterMBean(name);
+            } catch (InstanceNotFoundException e) {
+                // Already unregistered
+            } catch (JMException e) {
+                log.warn("Can't unregister MXBean {}", name, e);
+            }
+        }
+        registered.clear();
+    }
+
+    private static final class MethodMXBean implements JsonRpcMethodMXBean {
+        private final MethodMetrics metrics;
+
+        MethodMXBean(MethodMetrics metrics) {
+            this.metrics = metrics;
+        }
+
+        @Override
+        public String getMethod() {
+            return metrics.getMethod();
+        }
+
+        @Override
+        public long getCount() {
+            return metrics.getLatencyNanos().getCount();
+        }
+
+        @Override
+        public long getInFlight() {
+            return metrics.getInFlight();
+        }
+
+        @Override
+        public long getFailureCount() {
+            return metrics.getFailureCount();
+        }
+
+        @Override
+        public Map<Integer, Long> getErrorCounts() {
+            return metrics.getErrorCounts();
+        }
+
+        @Override
+        public double getLatencyMeanMillis() {
+            return metrics.getLatencyNanos().getMean() / NANOS_PER_MILLI;
+        }
+
+        @Override
+        public double getLatencyP50Millis() {
+            return metrics.getLatencyNanos().getPercentile(0.5) / NANOS_PER_MILLI;
+        }
+
+        @Override
+        public double getLatencyP99Millis() {
+            return metrics.getLatencyNanos().getPercentile(0.99) / NANOS_PER_MILLI;
+        }
+
+        @Override
+        public double getLatencyP999Millis() {
+            return metrics.getLatencyNanos().getPercentile(0.999) / NANOS_PER_MILLI;
+        }
+
+        @Override
+        public double getLatencyMaxMillis() {
+            return metrics.getLatencyNanos().getMax() / NANOS_PER_MILLI;
+        }
+
+        @Override
+        public double getRequestBytesMean() {
+            return metrics.getRequestBytes().getMean();
+        }
+
+        @Override
+        public double getResponseBytesMean() {
+            return metrics.getResponseBytes().getMean();
+        }
+    }
+}
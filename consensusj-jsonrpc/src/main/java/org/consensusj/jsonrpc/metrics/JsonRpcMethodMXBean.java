@@ -0,0 +1,37 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of the {@link MethodMetrics} for a JSON-RPC method. Latencies are in milliseconds.
+ * @see JmxJsonRpcMetrics
+ */
+public interface JsonRpcMethodMXBean {
+    String getMethod();
+    long getCount();
+    long getInFlight();
+    long getFailureCount();
+    Map<Integer, Long> getErrorCounts();
+    double getLatencyMeanMillis();
+    double getLatencyP50Millis();
+    double getLatencyP99Millis();
+    double getLatencyP999Millis();
+    double getLatencyMaxMillis();
+    double getRequestBytesMean();
+    double getResponseBytesMean();
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc.metrics;
+
+import org.consensusj.jsonrpc.JsonRpcError;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Service provider interface for recording JSON-RPC client metrics. Implementations must be thread-safe and
+ * should be fast, as the methods are called on the I/O path of every request.
+ * <p>
+ * All methods have empty default implementations and {@link #NOOP} does nothing. Metrics are recorded by
+ * {@link org.consensusj.jsonrpc.MetricsJsonRpcTransport} (latency, in-flight and error counts) and by transports that
+ * accept a {@code JsonRpcMetrics} (byte sizes.)
+ * @see InMemoryJsonRpcMetrics
+ * @see JmxJsonRpcMetrics
+ */
+public interface JsonRpcMetrics {
+    /**
+     * Metrics implementation that does nothing
+     */
+    JsonRpcMetrics NOOP = new JsonRpcMetrics() {};
+
+    /**
+     * Called when a request is sent.
+     * @param method JSON-RPC method name
+     */
+    default void requestStarted(String method) {
+    }
+
+    /**
+     * Called when a request completes, successfully or not.
+     * @param method JSON-RPC method name
+     * @param latencyNanos time from sending the request to receiving (and deserializing) the response
+     * @param error the JSON-RPC error in the response or {@code null}
+     * @param failure the exception the request failed with or {@code null}
+     */
+    default void requestCompleted(String method, long latencyNanos, @Nullable JsonRpcError error, @Nullable Throwable failure) {
+    }
+
+    /**
+     * Called with the size of a serialized request.
+     * @param method JSON-RPC method name ({@link #BATCH} for a batch)
+     * @param bytes size of the request body
+     */
+    default void requestBytes(String method, long bytes) {
+    }
+
+    /**
+     * Called with the size of a response, if known.
+     * @param method JSON-RPC method name ({@link #BATCH} for a batch)
+     * @param bytes size of the response body
+     */
+    default void responseBytes(String method, long bytes) {
+    }
+
+    /**
+     * Pseudo method name used to record the sizes of batch requests and responses
+     */
+    String BATCH = "(batch)";
+}
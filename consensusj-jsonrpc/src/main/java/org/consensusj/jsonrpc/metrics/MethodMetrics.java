@@ -0,0 +1,106 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics for a single JSON-RPC method, recorded by {@link InMemoryJsonRpcMetrics}.
+ */
+public final class MethodMetrics {
+    private final String method;
+    private final Histogram latencyNanos = new Histogram();
+    private final Histogram requestBytes = new Histogram();
+    private final Histogram responseBytes = new Histogram();
+    private final LongAdder inFlight = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final Map<Integer, LongAdder> errorCounts = new ConcurrentHashMap<>();
+
+    MethodMetrics(String method) {
+        this.method = method;
+    }
+
+    /**
+     * @return JSON-RPC method name
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * @return latency (nanoseconds) of completed requests
+     */
+    public Histogram getLatencyNanos() {
+        return latencyNanos;
+    }
+
+    /**
+     * @return sizes of requests (bytes)
+     */
+    public Histogram getRequestBytes() {
+        return requestBytes;
+    }
+
+    /**
+     * @return sizes of responses (bytes)
+     */
+    public Histogram getResponseBytes() {
+        return responseBytes;
+    }
+
+    /**
+     * @return number of requests that have been sent and haven't completed
+     */
+    public long getInFlight() {
+        return inFlight.sum();
+    }
+
+    /**
+     * @return number of requests that failed with an exception (including JSON-RPC errors)
+     */
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    /**
+     * @return number of JSON-RPC errors by {@link org.consensusj.jsonrpc.JsonRpcError} code
+     */
+    public Map<Integer, Long> getErrorCounts() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        errorCounts.forEach((code, count) -> counts.put(code, count.sum()));
+        return counts;
+    }
+
+    void started() {
+        inFlight.increment();
+    }
+
+    void completed(long latency) {
+        inFlight.decrement();
+        latencyNanos.record(latency);
+    }
+
+    void failed() {
+        failures.increment();
+    }
+
+    void error(int code) {
+        errorCounts.computeIfAbsent(code, c -> new LongAdder()).increment();
+    }
+}
@@ -17,14 +17,10 @@ package org.consensusj.jsonrpc.services;
 
 import org.consensusj.jsonrpc.JsonRpcShutdownService;
 import org.consensusj.jsonrpc.introspection.AbstractJsonRpcService;
-import org.consensusj.jsonrpc.introspection.JsonRpcServiceWrapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.Closeable;
-import java.lang.invoke.MethodHandles;
-import java.lang.reflect.Method;
-import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -32,7 +28,6 @@ import java.util.concurrent.CompletableFuture;
  */
 public class EchoJsonRpcService extends AbstractJsonRpcService implements Closeable {
     private static final Logger log = LoggerFactory.getLogger(EchoJsonRpcService.class);
-    private static final Map<String, Method> methods = JsonRpcServiceWrapper.reflect(MethodHandles.lookup().lookupClass());
     private static final String helpString =
             "echo message\n" +
             "help\n" +
@@ -41,7 +36,7 @@ public class EchoJsonRpcService extends AbstractJsonRpcService implements Closea
     private final JsonRpcShutdownService shutdownService;
 
     public EchoJsonRpcService(JsonRpcShutdownService shutdownService) {
-        super(methods);
+        super(new EchoJsonRpcServiceDispatcher());
         this.shutdownService = shutdownService;
     }
 
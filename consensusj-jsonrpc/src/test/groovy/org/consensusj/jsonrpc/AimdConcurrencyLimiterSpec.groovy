@@ -0,0 +1,116 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc
+
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.CompletionException
+
+/**
+ * Test {@link AimdConcurrencyLimiter}
+ */
+class AimdConcurrencyLimiterSpec extends Specification {
+    static final JsonRpcStatusException workQueueDepthExceeded = new JsonRpcStatusException(503, "Work queue depth exceeded")
+
+    def "limit increases when a busy limiter's calls succeed"() {
+        given:
+        def limiter = new AimdConcurrencyLimiter(4, 100, Duration.ofMinutes(1))
+
+        when:
+        def permits = (1..4).collect { limiter.acquire().join() }
+        permits.each { it.release(null) }
+
+        then:
+        limiter.limit == 6
+    }
+
+    def "limit doesn't increase when it isn't being used"() {
+        given:
+        def limiter = new AimdConcurrencyLimiter(10, 100, Duration.ofMinutes(1))
+
+        when:
+        (1..10).each { limiter.acquire().join().release(null) }
+
+        then:
+        limiter.limit == 10
+    }
+
+    def "limit decreases on HTTP 503 and queued requests wait"() {
+        given:
+        def limiter = new AimdConcurrencyLimiter(10, 1, 100, Duration.ofMinutes(1), 0.5, Integer.MAX_VALUE)
+        def permits = (1..10).collect { limiter.acquire().join() }
+        def waiting = limiter.acquire()
+
+        when: "a call fails with 503 (wrapped, as it would be by a CompletableFuture)"
+        permits[0].release(new CompletionException(workQueueDepthExceeded))
+
+        then: "the limit is halved and the queued request keeps waiting"
+        limiter.limit == 5
+        !waiting.isDone()
+
+        when: "more calls complete"
+        permits[1..5]*.release(null)
+
+        then: "the queued request is sent"
+        waiting.isDone()
+        limiter.inFlight == 5
+    }
+
+    def "slow calls decrease the limit"() {
+        given:
+        def limiter = new AimdConcurrencyLimiter(10, 100, Duration.ofMillis(1))
+
+        when:
+        def permit = limiter.acquire().join()
+        Thread.sleep(10)
+        permit.release(null)
+
+        then:
+        limiter.limit == 9
+    }
+
+    def "limit stays within bounds"() {
+        given:
+        def limiter = new AimdConcurrencyLimiter(2, 2, 3, Duration.ofMinutes(1), 0.5, Integer.MAX_VALUE)
+
+        when:
+        (1..5).each { limiter.acquire().join().release(workQueueDepthExceeded) }
+
+        then:
+        limiter.limit == 2
+
+        when:
+        (1..5).each {
+            def permits = (1..limiter.limit).collect { limiter.acquire().join() }
+            permits*.release(null)
+        }
+
+        then:
+        limiter.limit == 3
+    }
+
+    def "JSON-RPC errors don't change the limit"() {
+        given:
+        def limiter = new AimdConcurrencyLimiter(4, 100, Duration.ofMinutes(1))
+
+        when:
+        limiter.acquire().join().release(new JsonRpcStatusException(500, "Method not found"))
+
+        then:
+        limiter.limit == 4
+    }
+}
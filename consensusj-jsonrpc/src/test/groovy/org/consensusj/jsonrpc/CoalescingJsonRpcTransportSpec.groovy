@@ -0,0 +1,87 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import org.consensusj.jsonrpc.introspection.sample.MathService
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.time.Duration
+
+/**
+ * Test automatic coalescing of requests into batches
+ */
+class CoalescingJsonRpcTransportSpec extends Specification {
+    @Shared @AutoCleanup
+    TestJsonRpcHttpServer server = new TestJsonRpcHttpServer(new MathService())
+
+    def "concurrent requests within the window are sent in one HTTP request"() {
+        given:
+        def client = newClient(Duration.ofMillis(200), 100)
+        int before = server.httpRequestCount
+
+        when:
+        def futures = (1..10).collect { client.<Integer>sendRequestForResponseAsync(client.buildJsonRequest("add", it, 1), client.responseTypeFor(Integer.class)) }
+        def results = futures*.join()*.result
+
+        then:
+        results == (1..10).collect { it + 1 }
+        server.httpRequestCount == before + 1
+    }
+
+    def "a full batch is sent without waiting for the window"() {
+        given:
+        def client = newClient(Duration.ofMinutes(10), 5)
+        int before = server.httpRequestCount
+
+        when:
+        def futures = (1..10).collect { client.<Integer>sendRequestForResponseAsync(client.buildJsonRequest("add", it, 1), client.responseTypeFor(Integer.class)) }
+        def results = futures*.join()*.result
+
+        then:
+        results == (1..10).collect { it + 1 }
+        server.httpRequestCount == before + 2
+    }
+
+    def "a single request is sent after the window elapses"() {
+        given:
+        def client = newClient(Duration.ofMillis(10), 100)
+
+        expect:
+        client.send("add", Integer.class, 2, 3) == 5
+    }
+
+    def "error for one coalesced request doesn't fail the others"() {
+        given:
+        def client = newClient(Duration.ofMillis(200), 100)
+
+        when:
+        def good = client.<Integer>sendRequestForResponseAsync(client.buildJsonRequest("add", 1, 1), client.responseTypeFor(Integer.class))
+        def bad = client.<Integer>sendRequestForResponseAsync(client.buildJsonRequest("nosuchmethod"), client.responseTypeFor(Integer.class))
+
+        then:
+        good.join().result == 2
+        bad.join().error.code == JsonRpcError.Error.METHOD_NOT_FOUND.code
+    }
+
+    DefaultRpcClient newClient(Duration maxDelay, int maxBatchSize) {
+        URI uri = server.URI
+        def factory = { ObjectMapper m -> new JsonRpcClientJavaNet(m, uri, "", "") } as DefaultRpcClient.TransportFactory
+        return new DefaultRpcClient(factory.coalescing(maxDelay, maxBatchSize), JsonRpcMessage.Version.V2)
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets
+
+/**
+ * Test the incremental HTTP/1.1 response parser
+ */
+class Http1ResponseParserSpec extends Specification {
+    static final String pipelined =
+            "HTTP/1.1 200 OK\r\nContent-Type: application/json\r\nContent-Length: 13\r\n\r\n{\"result\":1}\n" +
+            "HTTP/1.1 200 OK\r\nTransfer-Encoding: chunked\r\n\r\n5\r\n{\"res\r\n8;ext=1\r\nult\":2}\n\r\n0\r\n\r\n" +
+            "HTTP/1.1 500 Internal Server Error\r\nContent-Length: 5\r\nConnection: close\r\n\r\nerror"
+
+    @Unroll
+    def "parses pipelined responses fed #chunkSize byte(s) at a time"(int chunkSize) {
+        given:
+        def parser = new Http1ResponseParser()
+        byte[] bytes = pipelined.getBytes(StandardCharsets.ISO_8859_1)
+        List<Http1ResponseParser.Response> responses = []
+
+        when:
+        for (int i = 0; i < bytes.length; i += chunkSize) {
+            def buffer = ByteBuffer.wrap(bytes, i, Math.min(chunkSize, bytes.length - i))
+            def response
+            while ((response = parser.parse(buffer)) != null) {
+                responses << response
+            }
+        }
+
+        then:
+        responses*.statusCode == [200, 200, 500]
+        responses.collect { new String(it.body, StandardCharsets.UTF_8) } == ['{"result":1}\n', '{"result":2}\n', 'error']
+        responses*.isJson() == [true, false, false]
+        responses*.connectionClose == [false, false, true]
+        parser.endOfStream() == null
+
+        where:
+        chunkSize << [1, 7, 64, 4096]
+    }
+
+    def "body delimited by connection close"() {
+        given:
+        def parser = new Http1ResponseParser()
+        def buffer = ByteBuffer.wrap("HTTP/1.0 200 OK\r\n\r\nbody".getBytes(StandardCharsets.ISO_8859_1))
+
+        expect:
+        parser.parse(buffer) == null
+        new String(parser.endOfStream().body, StandardCharsets.UTF_8) == "body"
+    }
+
+    def "connection closed mid-response is an error"() {
+        given:
+        def parser = new Http1ResponseParser()
+        parser.parse(ByteBuffer.wrap("HTTP/1.1 200 OK\r\nContent-Length: 10\r\n\r\nabc".getBytes(StandardCharsets.ISO_8859_1)))
+
+        when:
+        parser.endOfStream()
+
+        then:
+        thrown(IOException)
+    }
+}
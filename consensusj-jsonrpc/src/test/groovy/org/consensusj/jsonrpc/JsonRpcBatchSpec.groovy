@@ -0,0 +1,100 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import org.consensusj.jsonrpc.introspection.sample.MathService
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.lang.Unroll
+
+/**
+ * Test JSON-RPC 2.0 batch requests with both Jackson-based transports
+ */
+class JsonRpcBatchSpec extends Specification {
+    @Shared @AutoCleanup
+    TestJsonRpcHttpServer server = new TestJsonRpcHttpServer(new MathService())
+
+    @Unroll
+    def "batch of #count requests is sent in one HTTP request with #transportName"(String transportName, DefaultRpcClient.TransportFactory factory, int count) {
+        given:
+        def client = new DefaultRpcClient(factory, JsonRpcMessage.Version.V2)
+        def requests = (1..count).collect { client.buildJsonRequest("add", it, 1) }
+        int before = server.httpRequestCount
+
+        when: "batch is sent (server returns responses in reverse order)"
+        List<JsonRpcResponse<Integer>> responses = client.sendBatchAsync(requests, client.responseTypeFor(Integer.class))*.join()
+
+        then: "each response is correlated with its request"
+        responses*.id == requests*.id
+        responses*.result == (1..count).collect { it + 1 }
+        server.httpRequestCount == before + 1
+
+        where:
+        [transportName, factory, count] << [transports(), [1, 10]].combinations().collect { it.flatten() }
+    }
+
+    @Unroll
+    def "error for one request in batch doesn't fail the others with #transportName"(String transportName, DefaultRpcClient.TransportFactory factory) {
+        given:
+        def client = new DefaultRpcClient(factory, JsonRpcMessage.Version.V2)
+        def requests = [client.buildJsonRequest("add", 1, 1), client.buildJsonRequest("nosuchmethod")]
+
+        when:
+        List<JsonRpcResponse<Integer>> responses = client.sendBatchAsync(requests, client.responseTypeFor(Integer.class))*.join()
+
+        then:
+        responses[0].result == 2
+        responses[1].error.code == JsonRpcError.Error.METHOD_NOT_FOUND.code
+
+        where:
+        [transportName, factory] << transports()
+    }
+
+    def "empty batch sends nothing"() {
+        given:
+        def client = new DefaultRpcClient(transports()[0][1], JsonRpcMessage.Version.V2)
+        int before = server.httpRequestCount
+
+        when:
+        def futures = client.sendBatchAsync([], client.responseTypeFor(Integer.class))
+
+        then:
+        futures.isEmpty()
+        server.httpRequestCount == before
+    }
+
+    def "duplicate ids are rejected"() {
+        given:
+        def client = new DefaultRpcClient(transports()[0][1], JsonRpcMessage.Version.V2)
+        def request = client.buildJsonRequest("add", 1, 1)
+
+        when:
+        client.sendBatchAsync([request, request], client.responseTypeFor(Integer.class))
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    List<List<Object>> transports() {
+        URI uri = server.URI
+        return [
+            ["JsonRpcClientJavaNet", { ObjectMapper m -> new JsonRpcClientJavaNet(m, uri, "", "") } as DefaultRpcClient.TransportFactory],
+            ["JsonRpcClientHttpUrlConnection", { ObjectMapper m -> new JsonRpcClientHttpUrlConnection(m, JsonRpcTransport.getDefaultSSLContext(), uri, "", "") } as DefaultRpcClient.TransportFactory]
+        ]
+    }
+}
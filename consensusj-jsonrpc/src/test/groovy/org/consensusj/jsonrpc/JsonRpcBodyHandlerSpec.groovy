@@ -0,0 +1,151 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc
+
+import com.fasterxml.jackson.databind.JsonNode
+import com.fasterxml.jackson.databind.ObjectMapper
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+import java.util.concurrent.CompletableFuture
+
+/**
+ * Test the JSON-RPC 2.0 error and batch rules of {@link JsonRpcBodyHandler}
+ */
+class JsonRpcBodyHandlerSpec extends Specification {
+    static final int PARSE_ERROR = JsonRpcError.Error.PARSE_ERROR.code
+    static final int INVALID_REQUEST = JsonRpcError.Error.INVALID_REQUEST.code
+
+    @Shared
+    ObjectMapper mapper = new ObjectMapper()
+
+    @Shared
+    JsonRpcService service = new TestService()
+
+    def "unparseable body gets a parse error"() {
+        when:
+        def result = handle('{"jsonrpc": "2.0", "method": "echo", "params": ["bar"], "id": 1')
+
+        then:
+        result.statusCode == 400
+        errorCode(read(result)) == PARSE_ERROR
+        read(result).get("id").isNull()
+    }
+
+    def "single invalid request #body gets an invalid request error"() {
+        when:
+        def result = handle(body)
+
+        then:
+        result.statusCode == 400
+        errorCode(read(result)) == INVALID_REQUEST
+
+        where:
+        body << ['1', '"echo"', '{"jsonrpc": "2.0", "params": ["no method"], "id": 1}']
+    }
+
+    def "each invalid element of a batch gets its own invalid request error"() {
+        when:
+        def result = handle('[1, 2, 3]')
+        def responses = read(result)
+
+        then:
+        result.statusCode == 200
+        responses.size() == 3
+        responses.every { errorCode(it) == INVALID_REQUEST && it.get("id").isNull() }
+    }
+
+    def "valid and invalid elements of a batch are answered in order"() {
+        when:
+        def responses = read(handle('''[
+                {"jsonrpc": "2.0", "id": 1, "method": "echo", "params": ["one"]},
+                {"foo": "boo"},
+                {"jsonrpc": "2.0", "method": "echo", "params": ["notification"]},
+                {"jsonrpc": "2.0", "id": 4, "method": "throw", "params": []},
+                {"jsonrpc": "2.0", "id": 5, "method": "echo", "params": ["five"]}
+            ]'''))
+
+        then: "the notification has no response and the exception thrown by call() only fails its own request"
+        responses.size() == 4
+        responses.get(0).get("result").asText() == "one"
+        errorCode(responses.get(1)) == INVALID_REQUEST
+        responses.get(2).get("id").asInt() == 4
+        errorCode(responses.get(2)) == JsonRpcError.Error.SERVER_EXCEPTION.code
+        responses.get(3).get("result").asText() == "five"
+    }
+
+    def "empty batch gets a single invalid request error"() {
+        when:
+        def response = read(handle('[]'))
+
+        then:
+        response.isObject()
+        errorCode(response) == INVALID_REQUEST
+    }
+
+    def "batch of notifications has no response body"() {
+        when:
+        def result = handle('[{"jsonrpc": "2.0", "method": "echo", "params": ["notification"]}]')
+
+        then:
+        result.statusCode == 204
+        result.body == null
+    }
+
+    def "CBOR requests get CBOR responses"() {
+        given:
+        ObjectMapper cborMapper = CborSupport.mapperFor(mapper)
+        byte[] body = cborMapper.writeValueAsBytes(mapper.readTree('[{"jsonrpc": "2.0", "id": 1, "method": "echo", "params": ["cbor"]}, 1]'))
+
+        when:
+        def result = JsonRpcBodyHandler.handle(service, cborMapper, body).join()
+        def responses = cborMapper.readTree(result.body)
+
+        then:
+        responses.get(0).get("result").asText() == "cbor"
+        errorCode(responses.get(1)) == INVALID_REQUEST
+    }
+
+    JsonRpcBodyHandler.Result handle(String body) {
+        return JsonRpcBodyHandler.handle(service, mapper, body.getBytes(StandardCharsets.UTF_8)).join()
+    }
+
+    JsonNode read(JsonRpcBodyHandler.Result result) {
+        return mapper.readTree(result.body)
+    }
+
+    static int errorCode(JsonNode response) {
+        return response.get("error").get("code").asInt()
+    }
+
+    /**
+     * Echoes its first parameter. The {@code throw} method throws from {@code call} (rather than returning an error.)
+     */
+    static class TestService implements JsonRpcService {
+        @Override
+        <RSLT> CompletableFuture<JsonRpcResponse<RSLT>> call(JsonRpcRequest req) {
+            if (req.method == "throw") {
+                throw new IllegalStateException("thrown by call()")
+            }
+            return CompletableFuture.completedFuture(new JsonRpcResponse<RSLT>(req, (RSLT) req.params.get(0)))
+        }
+
+        @Override
+        void close() {
+        }
+    }
+}
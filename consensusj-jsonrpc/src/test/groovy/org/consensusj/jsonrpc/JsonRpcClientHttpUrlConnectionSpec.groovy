@@ -15,7 +15,9 @@
  */
 package org.consensusj.jsonrpc
 
-
+import com.fasterxml.jackson.databind.ObjectMapper
+import org.consensusj.jsonrpc.introspection.sample.MathService
+import spock.lang.AutoCleanup
 import spock.lang.Specification
 import spock.lang.Unroll
 
@@ -23,7 +25,9 @@ import spock.lang.Unroll
  * RPCClient test specification
  */
 class JsonRpcClientHttpUrlConnectionSpec extends Specification {
-
+    // Not shared: connections cached by the JDK (for keep-alive) must not be reused across features
+    @AutoCleanup
+    TestJsonRpcHttpServer server = new TestJsonRpcHttpServer(new MathService())
 
     def "constructor works correctly" () {
         when:
@@ -44,4 +48,31 @@ class JsonRpcClientHttpUrlConnectionSpec extends Specification {
         "a:b"               | "YTpi"
         "0" * 80            | "MDAwMDAwMDAwMDAwMDAwMDAwMDAwMDAwMDAwMDAwMDAwMDAwMDAwMDAwMDAwMDAwMDAwMDAwMDAwMDAwMDAwMDAwMDAwMDAwMDAwMDAwMDA="
     }
+
+    def "keep-alive mode reuses connections"() {
+        given:
+        def mapper = new ObjectMapper()
+        def client = new JsonRpcClientHttpUrlConnection(mapper, JsonRpcTransport.getDefaultSSLContext(), server.URI, "", "", 1)
+        def responseType = mapper.getTypeFactory().constructParametricType(JsonRpcResponse.class, Integer.class)
+
+        when:
+        def results = (1..10).collect { client.sendRequestForResponse(new JsonRpcRequest("add", [it, 1]), responseType).result }
+
+        then:
+        results == (1..10).collect { it + 1 }
+        server.connectionCount == 1
+    }
+
+    def "default mode uses a new connection per request"() {
+        given:
+        def mapper = new ObjectMapper()
+        def client = new JsonRpcClientHttpUrlConnection(mapper, JsonRpcTransport.getDefaultSSLContext(), server.URI, "", "")
+        def responseType = mapper.getTypeFactory().constructParametricType(JsonRpcResponse.class, Integer.class)
+
+        when:
+        (1..3).each { client.sendRequestForResponse(new JsonRpcRequest("add", [it, 1]), responseType) }
+
+        then:
+        server.connectionCount == 3
+    }
 }
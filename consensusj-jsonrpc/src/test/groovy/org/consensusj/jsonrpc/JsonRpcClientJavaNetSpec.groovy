@@ -0,0 +1,163 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc
+
+import com.fasterxml.jackson.databind.JavaType
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.sun.net.httpserver.HttpExchange
+import com.sun.net.httpserver.HttpServer
+import org.consensusj.jsonrpc.metrics.JsonRpcMetrics
+import org.consensusj.jsonrpc.services.EchoJsonRpcService
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.net.http.HttpClient
+import java.util.concurrent.CompletionException
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Test {@link JsonRpcClientJavaNet} against an in-process server
+ */
+class JsonRpcClientJavaNetSpec extends Specification {
+    @Shared @AutoCleanup
+    TestJsonRpcHttpServer server = new TestJsonRpcHttpServer(new EchoJsonRpcService({ -> "stopping" } as JsonRpcShutdownService))
+
+    @Shared
+    ObjectMapper mapper = new ObjectMapper()
+
+    def "large response is deserialized from the response stream"() {
+        given:
+        def client = new JsonRpcClientJavaNet(mapper, server.URI, "", "")
+        def message = "0123456789abcdef" * 256 * 1024     // 4 MiB
+        def request = new JsonRpcRequest("echo", [message])
+
+        when:
+        JsonRpcResponse<String> response = client.sendRequestForResponseAsync(request, responseTypeFor(String.class)).join()
+
+        then:
+        response.id == request.id
+        response.result == message
+    }
+
+    def "response can be read as a string"() {
+        given:
+        def client = new JsonRpcClientJavaNet(mapper, server.URI, "", "")
+
+        when:
+        String response = client.sendRequestForResponseString(new JsonRpcRequest("echo", ["hello"])).join()
+
+        then:
+        mapper.readTree(response).get("result").asText() == "hello"
+    }
+
+    def "compressed request and response with #compression"() {
+        given:
+        def client = new JsonRpcClientJavaNet(mapper, JsonRpcTransport.getDefaultSSLContext(), server.URI, "", "", JsonRpcMetrics.NOOP, version, compression)
+        def message = "0123456789abcdef" * 64 * 1024     // 1 MiB
+        def request = new JsonRpcRequest("echo", [message])
+        int requestsBefore = server.compressedRequestCount
+        int responsesBefore = server.compressedResponseCount
+
+        when:
+        JsonRpcResponse<String> response = client.sendRequestForResponseAsync(request, responseTypeFor(String.class)).join()
+
+        then:
+        response.result == message
+        server.compressedRequestCount - requestsBefore == compressedRequests
+        server.compressedResponseCount - responsesBefore == compressedResponses
+
+        where:
+        version                     | compression                                       || compressedRequests | compressedResponses
+        HttpClient.Version.HTTP_1_1 | JsonRpcClientJavaNet.Compression.NONE             || 0                  | 0
+        HttpClient.Version.HTTP_1_1 | JsonRpcClientJavaNet.Compression.RESPONSE         || 0                  | 1
+        HttpClient.Version.HTTP_2   | JsonRpcClientJavaNet.Compression.REQUEST_AND_RESPONSE || 1              | 1
+    }
+
+    def "compressed batch responses are decompressed"() {
+        given:
+        def client = new JsonRpcClientJavaNet(mapper, JsonRpcTransport.getDefaultSSLContext(), server.URI, "", "", JsonRpcMetrics.NOOP, HttpClient.Version.HTTP_1_1, JsonRpcClientJavaNet.Compression.RESPONSE)
+        def requests = (1..3).collect { new JsonRpcRequest("echo", ["message ${it}".toString()]) }
+        def types = requests.collect { responseTypeFor(String.class) }
+
+        when:
+        def results = client.sendBatchAsync(requests, types).collect { it.join().result }
+
+        then:
+        results == ["message 1", "message 2", "message 3"]
+    }
+
+    def "CBOR client falls back to JSON for a server without CBOR support"() {
+        given:
+        def client = new JsonRpcClientJavaNet(mapper, JsonRpcTransport.getDefaultSSLContext(), server.URI, "", "", JsonRpcMetrics.NOOP,
+                HttpClient.Version.HTTP_1_1, JsonRpcClientJavaNet.Compression.NONE, JsonRpcClientJavaNet.Format.CBOR)
+        int before = server.httpRequestCount
+
+        when: "the first request is sent as CBOR, rejected, and resent as JSON"
+        JsonRpcResponse<String> first = client.sendRequestForResponseAsync(new JsonRpcRequest("echo", ["one"]), responseTypeFor(String.class)).join()
+
+        then:
+        first.result == "one"
+        server.httpRequestCount - before == 2
+
+        when: "later requests are sent as JSON"
+        JsonRpcResponse<String> second = client.sendRequestForResponseAsync(new JsonRpcRequest("echo", ["two"]), responseTypeFor(String.class)).join()
+
+        then:
+        second.result == "two"
+        server.httpRequestCount - before == 3
+    }
+
+    def "CBOR request is #description after a #status error with code #code"() {
+        given: "a server that answers every request with a JSON-RPC error"
+        def errorServer = HttpServer.create(new InetSocketAddress(InetAddress.loopbackAddress, 0), 0)
+        def executions = new AtomicInteger()
+        errorServer.createContext("/", { HttpExchange exchange ->
+            exchange.requestBody.readAllBytes()
+            executions.incrementAndGet()
+            byte[] body = mapper.writeValueAsBytes([jsonrpc: "2.0", id: null, error: [code: code, message: "error"]])
+            exchange.responseHeaders.add("Content-Type", "application/json")
+            exchange.sendResponseHeaders(status, body.length)
+            exchange.responseBody.withCloseable { it.write(body) }
+        })
+        errorServer.start()
+        def uri = URI.create("http://127.0.0.1:${errorServer.address.port}/")
+        def client = new JsonRpcClientJavaNet(mapper, JsonRpcTransport.getDefaultSSLContext(), uri, "", "", JsonRpcMetrics.NOOP,
+                HttpClient.Version.HTTP_1_1, JsonRpcClientJavaNet.Compression.NONE, JsonRpcClientJavaNet.Format.CBOR)
+
+        when:
+        client.sendRequestForResponseAsync(new JsonRpcRequest("echo", ["one"]), responseTypeFor(String.class)).join()
+
+        then:
+        CompletionException e = thrown()
+        e.cause instanceof JsonRpcStatusException
+        executions.get() == expectedExecutions
+
+        cleanup:
+        errorServer?.stop(0)
+
+        where:
+        description      | status | code   || expectedExecutions
+        "not re-executed" | 500    | -32603 || 1
+        "not re-executed" | 400    | -32600 || 1
+        "resent as JSON"  | 500    | -32700 || 2
+        "resent as JSON"  | 400    | -32700 || 2
+    }
+
+    JavaType responseTypeFor(Class<?> resultType) {
+        return mapper.typeFactory.constructParametricType(JsonRpcResponse.class, resultType)
+    }
+}
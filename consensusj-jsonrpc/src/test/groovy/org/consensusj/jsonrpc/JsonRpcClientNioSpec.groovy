@@ -0,0 +1,175 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc
+
+import org.consensusj.jsonrpc.introspection.sample.MathService
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+import java.nio.channels.ServerSocketChannel
+import java.nio.channels.SocketChannel
+import java.nio.file.Files
+import java.nio.file.Path
+
+/**
+ * Test {@link JsonRpcClientNio} against an in-process server
+ */
+class JsonRpcClientNioSpec extends Specification {
+    @Shared @AutoCleanup
+    TestJsonRpcHttpServer server = new TestJsonRpcHttpServer(new MathService())
+
+    def "many concurrent requests are pipelined over a fixed number of connections"() {
+        given:
+        def client = new DefaultRpcClient(m -> new JsonRpcClientNio(m, server.URI, "", "", 2), JsonRpcMessage.Version.V2)
+        int before = server.connectionCount
+
+        when:
+        def futures = (1..100).collect { client.<Integer>sendRequestForResponseAsync(client.buildJsonRequest("add", it, 1), client.responseTypeFor(Integer.class)) }
+        def results = futures*.join()*.result
+
+        then:
+        results == (1..100).collect { it + 1 }
+        server.connectionCount - before <= 2
+
+        cleanup:
+        client.close()
+    }
+
+    def "synchronous send works"() {
+        given:
+        def client = new DefaultRpcClient(m -> new JsonRpcClientNio(m, server.URI, "", ""), JsonRpcMessage.Version.V2)
+
+        expect:
+        client.send("add", Integer.class, 2, 3) == 5
+
+        cleanup:
+        client.close()
+    }
+
+    def "batch request"() {
+        given:
+        def client = new DefaultRpcClient(m -> new JsonRpcClientNio(m, server.URI, "", ""), JsonRpcMessage.Version.V2)
+        def requests = (1..5).collect { client.buildJsonRequest("add", it, 1) }
+
+        when:
+        List<JsonRpcResponse<Integer>> responses = client.sendBatchAsync(requests, client.responseTypeFor(Integer.class))*.join()
+
+        then:
+        responses*.result == (2..6)
+
+        cleanup:
+        client.close()
+    }
+
+    def "requests fail after close"() {
+        given:
+        def client = new DefaultRpcClient(m -> new JsonRpcClientNio(m, server.URI, "", ""), JsonRpcMessage.Version.V2)
+        client.close()
+
+        when:
+        client.send("add", Integer.class, 2, 3)
+
+        then:
+        thrown(IOException)
+    }
+
+    def "sending does not block when the server stops reading"() {
+        given: "a server that accepts connections but never reads"
+        def listener = ServerSocketChannel.open().bind(new InetSocketAddress(InetAddress.loopbackAddress, 0))
+        def accepted = []
+        Thread.startDaemon { while (listener.isOpen()) { try { accepted << listener.accept() } catch (IOException ignored) { return } } }
+        URI uri = URI.create("http://localhost:${listener.socket().localPort}/")
+        def client = new DefaultRpcClient(m -> new JsonRpcClientNio(m, uri, "", "", 1), JsonRpcMessage.Version.V2)
+        String big = "x" * (8 * 1024 * 1024)
+
+        when: "requests much larger than the socket buffers are sent"
+        long start = System.nanoTime()
+        def futures = (1..4).collect { client.sendRequestForResponseAsync(client.buildJsonRequest("echo", big), client.responseTypeFor(String.class)) }
+        long elapsedMillis = (System.nanoTime() - start).intdiv(1_000_000)
+
+        then: "the caller isn't blocked and the requests are outstanding"
+        elapsedMillis < 5_000
+        futures.every { !it.isDone() }
+
+        when:
+        client.close()
+
+        then: "closing fails the outstanding requests"
+        futures.every { it.isCompletedExceptionally() }
+
+        cleanup:
+        listener?.close()
+        accepted*.close()
+    }
+
+    def "requests via a UNIX domain socket using a unix: URI"() {
+        given: "a UNIX domain socket relayed to the test server"
+        Path dir = Files.createTempDirectory("jsonrpc")
+        Path socketPath = dir.resolve("test.socket")
+        def listener = ServerSocketChannel.open(StandardProtocolFamily.UNIX)
+        listener.bind(JsonRpcClientNio.unixSocketAddress(socketPath))
+        Thread.startDaemon { relay(listener, server.URI) }
+        URI uri = URI.create("unix://" + socketPath.toUri().rawPath)
+
+        and: "a client created with the standard constructor"
+        def client = new DefaultRpcClient(uri, "", "")
+
+        expect:
+        JsonRpcClientNio.isUnixSocketURI(uri)
+        client.send("add", Integer.class, 2, 3) == 5
+        client.send("add", Integer.class, 3, 4) == 7
+
+        cleanup:
+        client?.close()
+        listener?.close()
+        Files.deleteIfExists(socketPath)
+        Files.deleteIfExists(dir)
+    }
+
+    // Accept connections on the listener and relay them to a TCP server
+    static void relay(ServerSocketChannel listener, URI tcpServer) {
+        while (listener.isOpen()) {
+            SocketChannel unix
+            try {
+                unix = listener.accept()
+            } catch (IOException ignored) {
+                return
+            }
+            SocketChannel tcp = SocketChannel.open(new InetSocketAddress(tcpServer.host, tcpServer.port))
+            Thread.startDaemon { pump(unix, tcp) }
+            Thread.startDaemon { pump(tcp, unix) }
+        }
+    }
+
+    static void pump(SocketChannel from, SocketChannel to) {
+        def buffer = ByteBuffer.allocate(8192)
+        try {
+            while (from.read(buffer) >= 0) {
+                buffer.flip()
+                while (buffer.hasRemaining()) {
+                    to.write(buffer)
+                }
+                buffer.clear()
+            }
+        } catch (IOException ignored) {
+        } finally {
+            from.close()
+            to.close()
+        }
+    }
+}
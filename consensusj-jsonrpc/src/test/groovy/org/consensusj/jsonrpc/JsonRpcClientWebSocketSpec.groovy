@@ -0,0 +1,63 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import spock.lang.Specification
+
+import java.nio.channels.ServerSocketChannel
+import java.nio.channels.SocketChannel
+import java.util.concurrent.CopyOnWriteArrayList
+
+/**
+ * Test {@link JsonRpcClientWebSocket} without a WebSocket server. (See {@code JsonRpcClientWebSocketTest} in
+ * {@code consensusj-jrpc-echod} for tests against a server.)
+ */
+class JsonRpcClientWebSocketSpec extends Specification {
+
+    def "a request id can be reused after the request's future is completed by the caller"() {
+        given: "a server that accepts connections but never completes the WebSocket handshake"
+        def listener = ServerSocketChannel.open().bind(new InetSocketAddress(InetAddress.loopbackAddress, 0))
+        def accepted = new CopyOnWriteArrayList<SocketChannel>()
+        Thread.startDaemon { while (listener.isOpen()) { try { accepted << listener.accept() } catch (IOException ignored) { return } } }
+        def mapper = new ObjectMapper()
+        def transport = new JsonRpcClientWebSocket(mapper, URI.create("ws://localhost:${listener.socket().localPort}/ws"), "", "")
+        def responseType = mapper.typeFactory.constructParametricType(JsonRpcResponse, String)
+        def request = new JsonRpcRequest(JsonRpcMessage.Version.V2, 1L, "echo", ["hello"])
+
+        when: "the first request is cancelled"
+        def first = transport.sendRequestForResponseAsync(request, responseType)
+        first.cancel(false)
+
+        and: "it is retried with the same id"
+        def retry = transport.sendRequestForResponseAsync(request, responseType)
+
+        then: "the retry is pending, not rejected"
+        !retry.isDone()
+
+        when: "the transport is closed"
+        transport.close()
+        retry.join()
+
+        then: "the retry fails"
+        thrown(Exception)
+
+        cleanup:
+        transport?.close()
+        listener?.close()
+        accepted*.close()
+    }
+}
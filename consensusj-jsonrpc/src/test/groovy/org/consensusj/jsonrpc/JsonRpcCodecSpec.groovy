@@ -0,0 +1,68 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc
+
+import com.fasterxml.jackson.databind.JsonNode
+import com.fasterxml.jackson.databind.ObjectMapper
+import spock.lang.Specification
+
+/**
+ * Tests for {@link JsonRpcCodec} and the response type cache in {@link DefaultRpcClient}
+ */
+class JsonRpcCodecSpec extends Specification {
+    private static final URI uri = URI.create("http://localhost:8332")
+
+    def "readers and writer are cached"() {
+        given:
+        def mapper = new ObjectMapper()
+        def codec = new JsonRpcCodec(mapper)
+        def type = mapper.typeFactory.constructParametricType(JsonRpcResponse.class, String.class)
+
+        expect:
+        codec.readerFor(type).is(codec.readerFor(type))
+        codec.objectResponseReader().is(codec.objectResponseReader())
+        codec.writer().is(codec.writer())
+    }
+
+    def "cached reader reads a response"() {
+        given:
+        def mapper = new ObjectMapper()
+        def codec = new JsonRpcCodec(mapper)
+        def type = mapper.typeFactory.constructParametricType(JsonRpcResponse.class, Integer.class)
+
+        when:
+        JsonRpcResponse<Integer> response = codec.readerFor(type).readValue('{"jsonrpc":"2.0","id":"1","result":42}')
+
+        then:
+        response.id == "1"
+        response.result == 42
+    }
+
+    def "client returns the same response type instance for a result type"() {
+        given:
+        def client = new DefaultRpcClient(m -> new JsonRpcClientJavaNet(m, uri, "", ""), JsonRpcMessage.Version.V2)
+
+        expect:
+        client.responseTypeFor(String.class).is(client.responseTypeFor(String.class))
+        client.responseTypeFor(JsonNode.class).is(client.responseTypeFor(JsonNode.class))
+        client.responseTypeFor(client.typeForClass(Long.class)).is(client.responseTypeFor(client.typeForClass(Long.class)))
+        client.responseTypeFor(String.class) != client.responseTypeFor(Integer.class)
+        client.responseTypeFor(String.class).containedType(0).rawClass == String.class
+
+        cleanup:
+        client.close()
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc
+
+import com.fasterxml.jackson.databind.JsonNode
+import com.fasterxml.jackson.databind.ObjectMapper
+import org.consensusj.jsonrpc.services.EchoJsonRpcService
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+/**
+ * Tests for {@link JsonRpcRawResult} and {@link ForwardingJsonRpcService}
+ */
+class JsonRpcRawResultSpec extends Specification {
+    @Shared @AutoCleanup
+    TestJsonRpcHttpServer upstream = new TestJsonRpcHttpServer(new EchoJsonRpcService({ -> "stopping" } as JsonRpcShutdownService))
+
+    @Shared
+    ObjectMapper mapper = new ObjectMapper()
+
+    def "result is bound on demand"() {
+        given:
+        def type = mapper.typeFactory.constructParametricType(JsonRpcResponse.class, JsonRpcRawResult.class)
+
+        when:
+        JsonRpcResponse<JsonRpcRawResult> response = mapper.readValue('{"jsonrpc":"2.0","id":"1","result":{"a":[1,2.5,"x"],"b":null}}', type)
+
+        then:
+        response.id == "1"
+        response.error == null
+        response.result.as(Map.class) == [a: [1, 2.5, "x"], b: null]
+        response.result.as(JsonNode.class).get("a").size() == 3
+        response.result.as(mapper.typeFactory.constructMapType(Map.class, String.class, Object.class)).containsKey("b")
+    }
+
+    def "raw result is serialized unchanged"() {
+        given:
+        def type = mapper.typeFactory.constructParametricType(JsonRpcResponse.class, JsonRpcRawResult.class)
+        def json = '{"jsonrpc":"2.0","id":"1","result":{"a":[1,2.5,"x"],"b":null,"c":{"d":true}}}'
+
+        when:
+        JsonRpcResponse<JsonRpcRawResult> response = mapper.readValue(json, type)
+
+        then:
+        mapper.readTree(mapper.writeValueAsString(response)).get("result") == mapper.readTree(json).get("result")
+    }
+
+    def "null and error responses have no raw result"() {
+        given:
+        def type = mapper.typeFactory.constructParametricType(JsonRpcResponse.class, JsonRpcRawResult.class)
+
+        when:
+        JsonRpcResponse<JsonRpcRawResult> nullResult = mapper.readValue('{"jsonrpc":"2.0","id":"1","result":null}', type)
+        JsonRpcResponse<JsonRpcRawResult> error = mapper.readValue('{"jsonrpc":"2.0","id":"2","error":{"code":-32601,"message":"Method not found"}}', type)
+
+        then:
+        nullResult.result == null
+        error.result == null
+        error.error.code == -32601
+    }
+
+    def "client can request a raw response"() {
+        given:
+        def client = new DefaultRpcClient(upstream.URI, "", "")
+
+        when:
+        JsonRpcResponse<JsonRpcRawResult> response = client.sendRequestForRawResponseAsync(client.buildJsonRequest("echo", "hello")).join()
+
+        then:
+        response.result.as(String.class) == "hello"
+
+        cleanup:
+        client.close()
+    }
+
+    def "forwarding service relays results and errors"() {
+        given:
+        def proxy = new TestJsonRpcHttpServer(new ForwardingJsonRpcService(new DefaultRpcClient(upstream.URI, "", "")))
+        def client = new DefaultRpcClient(proxy.URI, "", "")
+
+        when:
+        def result = client.send("echo", String.class, "hello proxy")
+        JsonRpcResponse<Object> error = client.sendRequestForResponseAsync(client.buildJsonRequest("nosuchmethod"), client.responseTypeFor(Object.class)).join()
+
+        then:
+        result == "hello proxy"
+        error.error.code == JsonRpcError.Error.METHOD_NOT_FOUND.code
+
+        cleanup:
+        client.close()
+        proxy.close()
+    }
+
+    def "forwarding service returns a server error when upstream is unreachable"() {
+        given:
+        def service = new ForwardingJsonRpcService(new DefaultRpcClient(URI.create("http://localhost:1"), "", ""))
+
+        when:
+        JsonRpcResponse<Object> response = service.call(new JsonRpcRequest("echo", ["hello"])).join()
+
+        then:
+        response.result == null
+        response.error.code == JsonRpcError.Error.SERVER_ERROR.code
+
+        cleanup:
+        service.close()
+    }
+}
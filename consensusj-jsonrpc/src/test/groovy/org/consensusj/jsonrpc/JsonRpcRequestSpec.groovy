@@ -118,6 +118,65 @@ class JsonRpcRequestSpec extends Specification {
         request.params == Collections.emptyList()
     }
 
+    def "numeric id is serialized as a number without a string"() {
+        when:
+        def request = new JsonRpcRequest(JsonRpcMessage.Version.V2, 42L, "getblockcount", [])
+        def json = mapper.writeValueAsString(request)
+
+        then:
+        request.hasNumericId()
+        request.numericId == 42L
+        mapper.readTree(json).get("id").isIntegralNumber()
+        mapper.readTree(json).get("id").longValue() == 42L
+        request.id == "42"
+    }
+
+    @Unroll
+    def "id #id from JSON has numeric: #numeric and serializes as #expectedJson"(String id, boolean numeric, String expectedJson) {
+        when:
+        def request = new JsonRpcRequest("2.0", id, "getblockcount", [])
+
+        then:
+        request.hasNumericId() == numeric
+        request.id == id
+        mapper.readTree(mapper.writeValueAsString(request)).get("id").toString() == expectedJson
+
+        where:
+        id                     | numeric | expectedJson
+        "1"                    | true    | '1'
+        "-7"                   | true    | '-7'
+        "abc"                  | false   | '"abc"'
+        "1.5"                  | false   | '"1.5"'
+        "99999999999999999999" | false   | '"99999999999999999999"'
+    }
+
+    def "getNumericId fails for a string id"() {
+        when:
+        new JsonRpcRequest("2.0", "abc", "getblockcount", []).numericId
+
+        then:
+        thrown(IllegalStateException)
+    }
+
+    def "requests built by different clients use separate id sequences"() {
+        given:
+        def client1 = new DefaultRpcClient(URI.create("http://localhost:1"), "", "")
+        def client2 = new DefaultRpcClient(URI.create("http://localhost:1"), "", "")
+
+        when:
+        def ids1 = (1..3).collect { client1.buildJsonRequest("getblockcount").numericId }
+        def ids2 = (1..3).collect { client2.buildJsonRequest("getblockcount").numericId }
+
+        then: "a single thread sees increasing ids, starting from the beginning for each client"
+        ids1 == ids2
+        ids1 == ids1.sort(false)
+        ids1.toSet().size() == 3
+
+        cleanup:
+        client1.close()
+        client2.close()
+    }
+
     /**
      * Create <b>p</b>arameter <b>l</b>ist of unmodifiable ArrayList from varargs (can contain nulls) as need for JSON-RPC {@code params}
      * @param params
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import org.consensusj.jsonrpc.introspection.sample.MathService
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+
+/**
+ * Test of JsonRpcService default methods
+ */
+class JsonRpcServiceSpec extends Specification {
+    static final ObjectMapper mapper = new ObjectMapper()
+
+    def "batch responses are in request order"() {
+        given:
+        def service = new MathService()
+        def requests = [request(1, "add", [1, 2]), request("two", "subtract", [5, 3]), request(3, "nosuchmethod", [])]
+
+        when:
+        List<JsonRpcResponse<Object>> responses = service.callBatch(requests).get()
+
+        then:
+        responses*.id == ["1", "two", "3"]
+        responses[0].result == 3
+        responses[1].result == 2
+        responses[2].error.code == JsonRpcError.Error.METHOD_NOT_FOUND.code
+    }
+
+    def "notifications are called but have no response"() {
+        given:
+        def calls = []
+        JsonRpcService service = new RecordingService(calls)
+        def requests = [notification("first"), request(2, "second", []), notification("third")]
+
+        when:
+        List<JsonRpcResponse<Object>> responses = service.callBatch(requests).get()
+
+        then:
+        calls == ["first", "second", "third"]
+        responses*.id == ["2"]
+    }
+
+    def "requests are dispatched without waiting for earlier requests"() {
+        given:
+        def first = new CompletableFuture<JsonRpcResponse<Object>>()
+        def calls = []
+        JsonRpcService service = new RecordingService(calls, ["slow": first])
+
+        when:
+        def batch = service.callBatch([request(1, "slow", []), request(2, "fast", [])])
+
+        then:
+        calls == ["slow", "fast"]
+        !batch.isDone()
+
+        when:
+        first.complete(new JsonRpcResponse<Object>(request(1, "slow", []), "done"))
+
+        then:
+        batch.get()*.result == ["done", "fast"]
+    }
+
+    def "a failed future becomes an error response"() {
+        given:
+        JsonRpcService service = new RecordingService([], ["fail": CompletableFuture.failedFuture(new RuntimeException("boom"))])
+
+        when:
+        List<JsonRpcResponse<Object>> responses = service.callBatch([request(1, "fail", []), request(2, "ok", [])]).get()
+
+        then:
+        responses[0].error.code == JsonRpcError.Error.SERVER_EXCEPTION.code
+        responses[1].result == "ok"
+    }
+
+    def "request without id is a notification"() {
+        expect:
+        mapper.readValue('{"jsonrpc":"2.0","method":"m"}', JsonRpcRequest).isNotification()
+        mapper.readValue('{"jsonrpc":"2.0","id":null,"method":"m"}', JsonRpcRequest).isNotification()
+        !mapper.readValue('{"jsonrpc":"2.0","id":1,"method":"m"}', JsonRpcRequest).isNotification()
+        !mapper.readValue('{"jsonrpc":"2.0","id":"x","method":"m"}', JsonRpcRequest).isNotification()
+        !new JsonRpcRequest("m").isNotification()
+    }
+
+    static JsonRpcRequest request(Object id, String method, List params) {
+        return new JsonRpcRequest("2.0", id.toString(), method, params)
+    }
+
+    static JsonRpcRequest notification(String method) {
+        return mapper.readValue("{\"jsonrpc\":\"2.0\",\"method\":\"${method}\"}", JsonRpcRequest)
+    }
+
+    // Records calls and returns the method name as the result, unless a future is given for the method
+    static class RecordingService implements JsonRpcService {
+        final List<String> calls
+        final Map<String, CompletableFuture> futures
+
+        RecordingService(List<String> calls, Map<String, CompletableFuture> futures = [:]) {
+            this.calls = calls
+            this.futures = futures
+        }
+
+        @Override
+        <RSLT> CompletableFuture<JsonRpcResponse<RSLT>> call(JsonRpcRequest req) {
+            calls << req.method
+            return futures.getOrDefault(req.method, CompletableFuture.completedFuture(new JsonRpcResponse(req, req.method)))
+        }
+
+        @Override
+        void close() {
+        }
+    }
+}
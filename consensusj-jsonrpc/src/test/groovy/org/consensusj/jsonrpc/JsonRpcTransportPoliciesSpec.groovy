@@ -0,0 +1,244 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc
+
+import com.fasterxml.jackson.databind.JavaType
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.concurrent.ExecutionException
+import java.util.function.Function
+
+/**
+ * Test the retry, hedging, circuit breaker, and deadline transport policies
+ */
+class JsonRpcTransportPoliciesSpec extends Specification {
+    static final JsonRpcResponse<Object> ok = new JsonRpcResponse<Object>("2.0", "1", "ok", null)
+
+    def "idempotent requests are retried after transient errors"() {
+        given:
+        def delegate = new ScriptedTransport({ int n -> n < 3 ? failed(new ConnectException("refused")) : done() })
+        def transport = new RetryingJsonRpcTransport<JavaType>(delegate, { true }, 5, Duration.ofMillis(1), Duration.ofMillis(10))
+
+        expect:
+        transport.sendRequestForResponseAsync(request("getblockcount"), null).get().result == "ok"
+        delegate.calls == 3
+    }
+
+    def "requests aren't retried after too many attempts, non-transient errors, or if not idempotent"() {
+        given:
+        def delegate = new ScriptedTransport({ int n -> failed(error) })
+        def transport = new RetryingJsonRpcTransport<JavaType>(delegate, { it.method == "getblockcount" }, 3, Duration.ofMillis(1), Duration.ofMillis(10))
+
+        when:
+        transport.sendRequestForResponseAsync(request(method), null).get()
+
+        then:
+        ExecutionException e = thrown()
+        delegate.calls == expectedCalls
+
+        where:
+        method          | error                                             | expectedCalls
+        "getblockcount" | new ConnectException("refused")                   | 3
+        "getblockcount" | new JsonRpcStatusException(500, "Internal error") | 1
+        "sendtoaddress" | new ConnectException("refused")                   | 1
+    }
+
+    def "a hedged request is sent when the response is slow"() {
+        given: "a delegate that responds immediately, except for the 26th request"
+        def slow = new CompletableFuture<JsonRpcResponse<Object>>()
+        def delegate = new ScriptedTransport({ int n -> n == 26 ? slow : done() })
+        def transport = new HedgingJsonRpcTransport<JavaType>(delegate, { true }, 0.9, Duration.ofMillis(10))
+        (1..25).each { transport.sendRequestForResponseAsync(request("getblock"), null).join() }
+
+        when:
+        def response = transport.sendRequestForResponseAsync(request("getblock"), null).get()
+
+        then:
+        response.result == "ok"
+        delegate.calls == 27
+        transport.hedgeCount == 1
+    }
+
+    def "no hedged requests before enough latencies are observed"() {
+        given:
+        def delegate = new ScriptedTransport({ int n -> n == 1 ? CompletableFuture.supplyAsync({ Thread.sleep(50); ok }) : done() })
+        def transport = new HedgingJsonRpcTransport<JavaType>(delegate, { true }, 0.9, Duration.ofMillis(1))
+
+        when:
+        transport.sendRequestForResponseAsync(request("getblock"), null).get()
+
+        then:
+        delegate.calls == 1
+        transport.hedgeCount == 0
+    }
+
+    def "circuit breaker opens after consecutive failures and closes after a successful trial"() {
+        given:
+        boolean healthy = false
+        def delegate = new ScriptedTransport({ int n -> healthy ? done() : failed(new ConnectException("refused")) })
+        def transport = new CircuitBreakerJsonRpcTransport<JavaType>(delegate, 3, Duration.ofMillis(100))
+
+        when: "the server fails repeatedly"
+        (1..3).each { transport.sendRequestForResponseAsync(request("getblockcount"), null) }
+
+        then: "the breaker opens and requests fail without being sent"
+        transport.state == CircuitBreakerJsonRpcTransport.State.OPEN
+        unwrap { transport.sendRequestForResponseAsync(request("getblockcount"), null).join() } instanceof CircuitBreakerOpenException
+        delegate.calls == 3
+
+        when: "the server recovers and the open duration elapses"
+        healthy = true
+        Thread.sleep(150)
+        def response = transport.sendRequestForResponseAsync(request("getblockcount"), null).join()
+
+        then:
+        response.result == "ok"
+        transport.state == CircuitBreakerJsonRpcTransport.State.CLOSED
+    }
+
+    def "JSON-RPC errors don't open the circuit breaker"() {
+        given:
+        def delegate = new ScriptedTransport({ int n -> failed(new JsonRpcStatusException(500, "Method not found")) })
+        def transport = new CircuitBreakerJsonRpcTransport<JavaType>(delegate, 1, Duration.ofMinutes(1))
+
+        when:
+        (1..3).each { transport.sendRequestForResponseAsync(request("nosuchmethod"), null) }
+
+        then:
+        transport.state == CircuitBreakerJsonRpcTransport.State.CLOSED
+        delegate.calls == 3
+    }
+
+    def "deadline timeouts are circuit breaker failures, including for a hung trial request"() {
+        given: "a server that never answers"
+        List<CompletableFuture<JsonRpcResponse<Object>>> pending = []
+        def delegate = new ScriptedTransport({ int n -> def f = new CompletableFuture<JsonRpcResponse<Object>>(); pending << f; f })
+        def breaker = new CircuitBreakerJsonRpcTransport<JavaType>(delegate, 2, Duration.ofMillis(100))
+        def transport = new DeadlineJsonRpcTransport<JavaType>(breaker, { JsonRpcRequest r -> Duration.ofMillis(50) } as Function)
+
+        when: "requests time out"
+        def errors = (1..2).collect { transport.sendRequestForResponseAsync(request("getblockcount"), null) }
+                .collect { f -> unwrap { f.join() } }
+
+        then: "the timeouts open the breaker and are passed on to the delegate's futures"
+        errors.every { it instanceof DeadlineExceededException }
+        // The deadline's future may complete before the breaker's own completion handlers have run
+        new PollingConditions(timeout: 1).eventually {
+            assert breaker.state == CircuitBreakerJsonRpcTransport.State.OPEN
+            assert pending.every { it.completedExceptionally }
+        }
+
+        when: "the trial request also times out"
+        Thread.sleep(150)
+        def trialError = unwrap { transport.sendRequestForResponseAsync(request("getblockcount"), null).join() }
+
+        then: "the breaker opens again rather than staying half-open"
+        trialError instanceof DeadlineExceededException
+        delegate.calls == 3
+        new PollingConditions(timeout: 1).eventually {
+            assert breaker.state == CircuitBreakerJsonRpcTransport.State.OPEN
+        }
+    }
+
+    def "a cancelled trial request lets another trial through"() {
+        given:
+        boolean healthy = false
+        def delegate = new ScriptedTransport({ int n -> healthy ? done() : n == 1 ? failed(new ConnectException("refused")) : new CompletableFuture<JsonRpcResponse<Object>>() })
+        def breaker = new CircuitBreakerJsonRpcTransport<JavaType>(delegate, 1, Duration.ofMillis(50))
+        breaker.sendRequestForResponseAsync(request("getblockcount"), null)
+        Thread.sleep(100)
+
+        when:
+        breaker.sendRequestForResponseAsync(request("getblockcount"), null).cancel(false)
+        healthy = true
+
+        then:
+        breaker.sendRequestForResponseAsync(request("getblockcount"), null).join().result == "ok"
+        breaker.state == CircuitBreakerJsonRpcTransport.State.CLOSED
+    }
+
+    def "deadline fails slow requests and stops retries"() {
+        given:
+        def delegate = new ScriptedTransport({ int n -> failed(new ConnectException("refused")) })
+        def retrying = new RetryingJsonRpcTransport<JavaType>(delegate, { true }, 1000, Duration.ofMillis(20), Duration.ofMillis(20))
+        def transport = new DeadlineJsonRpcTransport<JavaType>(retrying, { JsonRpcRequest r -> Duration.ofMillis(100) } as Function)
+
+        when:
+        def error = unwrap { transport.sendRequestForResponseAsync(request("getblockcount"), null).join() }
+        int calls = delegate.calls
+        Thread.sleep(100)
+
+        then:
+        error instanceof DeadlineExceededException
+        delegate.calls <= calls + 1     // An attempt may have been in progress when the deadline expired
+    }
+
+    def "requests without a deadline aren't affected"() {
+        given:
+        def delegate = new ScriptedTransport({ int n -> done() })
+        def transport = new DeadlineJsonRpcTransport<JavaType>(delegate, { JsonRpcRequest r -> null } as Function)
+
+        expect:
+        transport.sendRequestForResponseAsync(request("getblockcount"), null).join().result == "ok"
+    }
+
+    static JsonRpcRequest request(String method) {
+        return new JsonRpcRequest(method, [])
+    }
+
+    static CompletableFuture<JsonRpcResponse<Object>> done() {
+        return CompletableFuture.completedFuture(ok)
+    }
+
+    static CompletableFuture<JsonRpcResponse<Object>> failed(Throwable t) {
+        return CompletableFuture.failedFuture(t)
+    }
+
+    static Throwable unwrap(Closure closure) {
+        try {
+            closure.call()
+            return null
+        } catch (CompletionException e) {
+            return e.cause
+        }
+    }
+
+    /**
+     * Transport that returns the future produced by a closure, given the (1-based) call number
+     */
+    static class ScriptedTransport implements JsonRpcTransport<JavaType> {
+        private final Closure<CompletableFuture<JsonRpcResponse<Object>>> script
+        volatile int calls = 0
+
+        ScriptedTransport(Closure<CompletableFuture<JsonRpcResponse<Object>>> script) {
+            this.script = script
+        }
+
+        @Override
+        synchronized <R> CompletableFuture<JsonRpcResponse<R>> sendRequestForResponseAsync(JsonRpcRequest request, JavaType responseType) {
+            return (CompletableFuture) script.call(++calls)
+        }
+
+        @Override
+        URI getServerURI() {
+            return URI.create("http://localhost")
+        }
+    }
+}
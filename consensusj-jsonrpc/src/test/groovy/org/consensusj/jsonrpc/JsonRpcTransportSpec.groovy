@@ -15,9 +15,14 @@
  */
 package org.consensusj.jsonrpc
 
+import com.fasterxml.jackson.core.JsonParseException
+import com.fasterxml.jackson.databind.exc.MismatchedInputException
 import spock.lang.Specification
 import spock.lang.Unroll
 
+import java.util.concurrent.CompletionException
+import java.util.concurrent.TimeoutException
+
 /**
  * Basic test of our copied Base64 class.
  */
@@ -42,4 +47,22 @@ class JsonRpcTransportSpec extends Specification {
         4     | "Basic bXl1c2VyOm15cGFzczQ="
         5     | "Basic bXl1c2VyOm15cGFzczU="
     }
+
+    @Unroll
+    def "transient error #error is #expectedResult"(Throwable error, boolean expectedResult) {
+        expect:
+        JsonRpcTransport.isTransientError(error) == expectedResult
+
+        where:
+        error                                                                      | expectedResult
+        new ConnectException("Connection refused")                                  | true
+        new CompletionException(new ConnectException("Connection refused"))         | true
+        new TimeoutException()                                                      | true
+        new JsonRpcStatusException(503, "Work queue depth exceeded")                | true
+        new JsonRpcStatusException(500, "Internal error")                           | false
+        new CircuitBreakerOpenException(URI.create("http://localhost"))             | false
+        new IllegalArgumentException()                                              | false
+        new JsonParseException(null, "Unexpected character")                       | false
+        MismatchedInputException.from(null, JsonRpcResponse, "Cannot deserialize")  | false
+    }
 }
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc
+
+import com.fasterxml.jackson.databind.JavaType
+import org.consensusj.jsonrpc.introspection.sample.MathService
+import spock.lang.AutoCleanup
+import spock.lang.Requires
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.concurrent.RejectedExecutionException
+
+/**
+ * Test {@link FixedConcurrencyLimiter}, {@link LimitingJsonRpcTransport}, and {@link RpcExecutors}
+ */
+class LimitingJsonRpcTransportSpec extends Specification {
+    @Shared @AutoCleanup
+    TestJsonRpcHttpServer server = new TestJsonRpcHttpServer(new MathService())
+
+    def "in-flight requests are capped and excess requests are queued"() {
+        given:
+        def delegate = new ManualTransport()
+        def limiter = new FixedConcurrencyLimiter(2)
+        def transport = new LimitingJsonRpcTransport<JavaType>(delegate, limiter)
+
+        when:
+        def futures = (1..5).collect { transport.sendRequestForResponseAsync(new JsonRpcRequest("test", []), null) }
+
+        then:
+        delegate.pending.size() == 2
+        limiter.inFlight == 2
+        limiter.queued == 3
+
+        when: "one request completes"
+        delegate.pending[0].complete(null)
+
+        then: "one queued request is sent"
+        futures[0].isDone()
+        delegate.pending.size() == 3
+        limiter.inFlight == 2
+        limiter.queued == 2
+
+        when: "the rest complete, including a failure"
+        delegate.pending[1].completeExceptionally(new IOException("failed"))
+        delegate.pending[2].complete(null)
+        delegate.pending[3].complete(null)
+        delegate.pending[4].complete(null)
+
+        then:
+        futures.every { it.isDone() }
+        futures[1].isCompletedExceptionally()
+        limiter.inFlight == 0
+        limiter.queued == 0
+    }
+
+    def "requests are rejected when the queue is full"() {
+        given:
+        def delegate = new ManualTransport()
+        def transport = new LimitingJsonRpcTransport<JavaType>(delegate, new FixedConcurrencyLimiter(1, 1))
+
+        when:
+        transport.sendRequestForResponseAsync(new JsonRpcRequest("test", []), null)
+        transport.sendRequestForResponseAsync(new JsonRpcRequest("test", []), null)
+        transport.sendRequestForResponseAsync(new JsonRpcRequest("test", []), null).join()
+
+        then:
+        CompletionException e = thrown()
+        e.cause instanceof RejectedExecutionException
+    }
+
+    def "limited client sends concurrent requests to a server"() {
+        given:
+        def limiter = new FixedConcurrencyLimiter(3)
+        def transportFactory = DefaultRpcClient.defaultTransportFactory(JsonRpcTransport.getDefaultSSLContext(), server.URI, "", "")
+        def client = new DefaultRpcClient(transportFactory.limited(limiter), JsonRpcMessage.Version.V2)
+
+        when:
+        def futures = (1..20).collect { client.<Integer>sendRequestForResponseAsync(client.buildJsonRequest("add", it, 1), client.responseTypeFor(Integer.class)) }
+        def results = futures*.join()*.result
+
+        then:
+        results == (1..20).collect { it + 1 }
+        limiter.inFlight == 0
+
+        cleanup:
+        client.close()
+    }
+
+    @Requires({ RpcExecutors.isVirtualThreadSupported() })
+    def "virtual thread executor runs tasks on virtual threads"() {
+        given:
+        def executor = RpcExecutors.newVirtualThreadPerTaskExecutor("test-")
+
+        when:
+        def virtual = CompletableFuture.supplyAsync({ Thread.currentThread().isVirtual() }, executor).join()
+
+        then:
+        virtual
+
+        cleanup:
+        executor.shutdown()
+    }
+
+    /**
+     * Transport that records requests and lets the test complete them
+     */
+    static class ManualTransport implements JsonRpcTransport<JavaType> {
+        final List<CompletableFuture<JsonRpcResponse<?>>> pending = []
+
+        @Override
+        <R> CompletableFuture<JsonRpcResponse<R>> sendRequestForResponseAsync(JsonRpcRequest request, JavaType responseType) {
+            def future = new CompletableFuture<JsonRpcResponse<R>>()
+            pending.add(future)
+            return future
+        }
+
+        @Override
+        URI getServerURI() {
+            return URI.create("http://localhost")
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc
+
+import com.fasterxml.jackson.databind.JavaType
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+
+/**
+ * Test {@link LoadBalancingJsonRpcTransport}
+ */
+class LoadBalancingJsonRpcTransportSpec extends Specification {
+    static final Set<String> readOnlyMethods = Set.of("getblock", "getblockhash")
+
+    def "read-only requests are spread across endpoints by outstanding requests"() {
+        given:
+        def endpoints = (0..2).collect { new CountingTransport(it) }
+        def transport = new LoadBalancingJsonRpcTransport<JavaType>(endpoints, { readOnlyMethods.contains(it.method) })
+
+        when: "requests are outstanding"
+        (1..30).each { transport.sendRequestForResponseAsync(new JsonRpcRequest("getblock", []), null) }
+
+        then: "each endpoint has some of them"
+        endpoints.every { it.pending.size() >= 5 }
+        (0..2).sum { transport.getOutstanding(it) } == 30
+
+        when:
+        endpoints.each { e -> e.pending.each { it.complete(null) } }
+
+        then:
+        (0..2).every { transport.getOutstanding(it) == 0 }
+    }
+
+    def "other requests are sent to the primary"() {
+        given:
+        def endpoints = (0..2).collect { new CountingTransport(it) }
+        def transport = new LoadBalancingJsonRpcTransport<JavaType>(endpoints, { readOnlyMethods.contains(it.method) })
+
+        when:
+        (1..10).each { transport.sendRequestForResponseAsync(new JsonRpcRequest("sendtoaddress", []), null) }
+
+        then:
+        endpoints[0].pending.size() == 10
+        endpoints[1].pending.isEmpty()
+        endpoints[2].pending.isEmpty()
+    }
+
+    def "disabled endpoints don't receive read-only requests"() {
+        given:
+        def endpoints = (0..2).collect { new CountingTransport(it) }
+        def transport = new LoadBalancingJsonRpcTransport<JavaType>(endpoints, { readOnlyMethods.contains(it.method) })
+
+        when:
+        transport.setEnabled(1, false)
+        (1..10).each { transport.sendRequestForResponseAsync(new JsonRpcRequest("getblockhash", []), null) }
+
+        then:
+        !transport.isEnabled(1)
+        endpoints[1].pending.isEmpty()
+        endpoints[0].pending.size() + endpoints[2].pending.size() == 10
+    }
+
+    def "read-only requests go to the primary when all endpoints are disabled"() {
+        given:
+        def endpoints = (0..1).collect { new CountingTransport(it) }
+        def transport = new LoadBalancingJsonRpcTransport<JavaType>(endpoints, { readOnlyMethods.contains(it.method) })
+
+        when:
+        transport.setEnabled(0, false)
+        transport.setEnabled(1, false)
+        transport.sendRequestForResponseAsync(new JsonRpcRequest("getblock", []), null)
+
+        then:
+        endpoints[0].pending.size() == 1
+        transport.serverURI == endpoints[0].serverURI
+    }
+
+    /**
+     * Transport that records requests, leaving them outstanding until the test completes them
+     */
+    static class CountingTransport implements JsonRpcTransport<JavaType> {
+        final int index
+        final List<CompletableFuture<JsonRpcResponse<?>>> pending = []
+
+        CountingTransport(int index) {
+            this.index = index
+        }
+
+        @Override
+        <R> CompletableFuture<JsonRpcResponse<R>> sendRequestForResponseAsync(JsonRpcRequest request, JavaType responseType) {
+            def future = new CompletableFuture<JsonRpcResponse<R>>()
+            pending.add(future)
+            return future
+        }
+
+        @Override
+        URI getServerURI() {
+            return URI.create("http://node${index}:8332")
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc
+
+import spock.lang.Specification
+
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+/**
+ * Test Spec for RequestIdGenerator
+ */
+class RequestIdGeneratorSpec extends Specification {
+    def "a single-stripe generator is sequential"() {
+        given:
+        def generator = new RequestIdGenerator(1)
+
+        expect:
+        (1..5).collect { generator.next() } == [1L, 2L, 3L, 4L, 5L]
+    }
+
+    def "stripes are rounded up to a power of two"(int requested, int expected) {
+        expect:
+        new RequestIdGenerator(requested).stripes() == expected
+
+        where:
+        requested | expected
+        1         | 1
+        3         | 4
+        8         | 8
+        1000      | 256
+    }
+
+    def "ids are positive and unique across threads"() {
+        given:
+        def generator = new RequestIdGenerator(4)
+        def ids = ConcurrentHashMap.newKeySet()
+        def executor = Executors.newFixedThreadPool(8)
+
+        when:
+        8.times {
+            executor.submit { 10_000.times { ids.add(generator.next()) } }
+        }
+        executor.shutdown()
+        executor.awaitTermination(30, TimeUnit.SECONDS)
+
+        then:
+        ids.size() == 80_000
+        ids.every { it > 0 }
+    }
+
+    def "invalid number of stripes is rejected"() {
+        when:
+        new RequestIdGenerator(0)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+}
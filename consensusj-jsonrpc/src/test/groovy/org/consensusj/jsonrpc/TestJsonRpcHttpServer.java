@@ -0,0 +1,153 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Minimal in-process JSON-RPC over HTTP server (using the JDK's {@code com.sun.net.httpserver}) for testing
+ * client transports. Supports single requests and batches. Batch responses are returned in <i>reverse</i> order
+ * to make sure clients correlate responses by {@code id}. Requests with {@code Content-Encoding: gzip} are
+ * decompressed and responses are compressed if the client sends {@code Accept-Encoding} with {@code gzip} or {@code deflate}.
+ * Requests with a {@code Content-Type} other than JSON are rejected with {@code 415}.
+ */
+public class TestJsonRpcHttpServer implements AutoCloseable {
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final JsonRpcService service;
+    private final HttpServer server;
+    private final AtomicInteger httpRequestCount = new AtomicInteger();
+    private final Set<InetSocketAddress> clientAddresses = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger compressedRequestCount = new AtomicInteger();
+    private final AtomicInteger compressedResponseCount = new AtomicInteger();
+
+    public TestJsonRpcHttpServer(JsonRpcService service) throws IOException {
+        this.service = service;
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    public URI getURI() {
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/");
+    }
+
+    /**
+     * @return the number of HTTP requests received
+     */
+    public int getHttpRequestCount() {
+        return httpRequestCount.get();
+    }
+
+    /**
+     * @return the number of distinct client connections (client socket addresses) requests were received on
+     */
+    public int getConnectionCount() {
+        return clientAddresses.size();
+    }
+
+    /**
+     * @return the number of requests received with a compressed body
+     */
+    public int getCompressedRequestCount() {
+        return compressedRequestCount.get();
+    }
+
+    /**
+     * @return the number of responses sent with a compressed body
+     */
+    public int getCompressedResponseCount() {
+        return compressedResponseCount.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        httpRequestCount.incrementAndGet();
+        clientAddresses.add(exchange.getRemoteAddress());
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        if (contentType != null && !contentType.startsWith("application/json")) {
+            exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(415, -1);
+            exchange.close();
+            return;
+        }
+        JsonNode body;
+        boolean gzipRequest = "gzip".equals(exchange.getRequestHeaders().getFirst("Content-Encoding"));
+        if (gzipRequest) {
+            compressedRequestCount.incrementAndGet();
+        }
+        try (InputStream in = gzipRequest ? new GZIPInputStream(exchange.getRequestBody()) : exchange.getRequestBody()) {
+            body = mapper.readTree(in);
+        }
+        Object response;
+        if (body.isArray()) {
+            List<JsonRpcResponse<Object>> responses = new ArrayList<>();
+            for (JsonNode node : body) {
+                responses.add(call(mapper.treeToValue(node, JsonRpcRequest.class)));
+            }
+            Collections.reverse(responses);
+            response = responses;
+        } else {
+            response = call(mapper.treeToValue(body, JsonRpcRequest.class));
+        }
+        byte[] bytes = mapper.writeValueAsBytes(response);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        if (acceptEncoding != null && (acceptEncoding.contains("gzip") || acceptEncoding.contains("deflate"))) {
+            String encoding = acceptEncoding.contains("gzip") ? "gzip" : "deflate";
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (OutputStream out = encoding.equals("gzip") ? new GZIPOutputStream(compressed) : new DeflaterOutputStream(compressed)) {
+                out.write(bytes);
+            }
+            bytes = compressed.toByteArray();
+            exchange.getResponseHeaders().add("Content-Encoding", encoding);
+            compressedResponseCount.incrementAndGet();
+        }
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private JsonRpcResponse<Object> call(JsonRpcRequest request) {
+        return service.<Object>call(request).join();
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc
+
+import org.consensusj.bitcoin.jsonrpc.BitcoinClient
+import spock.lang.AutoCleanup
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.TimeoutException
+import java.util.concurrent.atomic.AtomicInteger
+
+import static org.bitcoinj.base.BitcoinNetwork.REGTEST
+
+/**
+ * Test the non-blocking {@link DefaultRpcClient#waitForServer} and {@link BitcoinClient#waitForBlockAsync}
+ */
+class WaitForServerSpec extends Specification {
+    @AutoCleanup
+    FakeBitcoinService service = new FakeBitcoinService()
+    @AutoCleanup
+    TestJsonRpcHttpServer server = new TestJsonRpcHttpServer(service)
+
+    def "waitForServer polls until the server is ready"() {
+        given:
+        service.warmUpCalls = 3
+        def client = new DefaultRpcClient(server.URI, "", "")
+
+        when:
+        Integer result = client.waitForServer(Duration.ofSeconds(10), Duration.ofMillis(20), () -> client.buildJsonRequest("getblockcount"), client.typeForClass(Integer.class), this::passThrough).get()
+
+        then:
+        result == 0
+        service.calls.get() == 4
+
+        cleanup:
+        client.close()
+    }
+
+    def "waitForServer times out"() {
+        given:
+        service.warmUpCalls = Integer.MAX_VALUE
+        def client = new DefaultRpcClient(server.URI, "", "")
+
+        when:
+        client.waitForServer(Duration.ofMillis(200), Duration.ofMillis(20), () -> client.buildJsonRequest("getblockcount"), client.typeForClass(Integer.class), this::passThrough).get()
+
+        then:
+        ExecutionException e = thrown()
+        e.cause instanceof TimeoutException
+
+        cleanup:
+        client.close()
+    }
+
+    def "cancelling waitForServer stops polling"() {
+        given:
+        service.warmUpCalls = Integer.MAX_VALUE
+        def client = new DefaultRpcClient(server.URI, "", "")
+        def future = client.waitForServer(Duration.ofSeconds(10), Duration.ofMillis(20), () -> client.buildJsonRequest("getblockcount"), client.typeForClass(Integer.class), this::passThrough)
+
+        when:
+        Thread.sleep(100)
+        future.cancel(false)
+        Thread.sleep(50)
+        int calls = service.calls.get()
+        Thread.sleep(200)
+
+        then:
+        future.isCancelled()
+        service.calls.get() == calls
+
+        cleanup:
+        client.close()
+    }
+
+    def "waitForBlockAsync long-polls with waitforblockheight"() {
+        given:
+        def client = new BitcoinClient(REGTEST, server.URI, "", "")
+
+        when:
+        CompletableFuture<Integer> future = client.waitForBlockAsync(3)
+        3.times { Thread.sleep(50); service.mineBlock() }
+
+        then:
+        future.get() == 3
+        service.getBlockCountCalls.get() == 0
+
+        cleanup:
+        client.close()
+    }
+
+    def "waitForBlockAsync falls back to polling getblockcount"() {
+        given:
+        service.supportsWaitForBlockHeight = false
+        def client = new BitcoinClient(REGTEST, server.URI, "", "")
+
+        when:
+        CompletableFuture<Integer> future = client.waitForBlockAsync(2, Duration.ofMillis(20))
+        2.times { Thread.sleep(50); service.mineBlock() }
+
+        then:
+        future.get() == 2
+        service.getBlockCountCalls.get() > 1
+
+        cleanup:
+        client.close()
+    }
+
+    def "cancelling waitForBlockAsync cancels the long-poll in flight"() {
+        given:
+        def client = new PollRecordingClient(server.URI)
+        CompletableFuture<Integer> future = client.waitForBlockAsync(3)
+
+        when:
+        Thread.sleep(100)
+        future.cancel(false)
+        Thread.sleep(700)
+
+        then:
+        future.isCancelled()
+        client.polls.size() == 1
+        client.polls[0].isCancelled()
+
+        cleanup:
+        client.close()
+    }
+
+    def "waitForBlock returns false on timeout"() {
+        given:
+        def client = new BitcoinClient(REGTEST, server.URI, "", "")
+
+        expect:
+        !client.waitForBlock(1, 1)
+
+        cleanup:
+        client.close()
+    }
+
+    private <T> CompletableFuture<JsonRpcResponse<T>> passThrough(JsonRpcRequest request, JsonRpcResponse<T> response, Throwable t) {
+        return response != null ? CompletableFuture.completedFuture(response) : CompletableFuture.failedFuture(t)
+    }
+
+    /**
+     * Client that records the futures returned for its calls
+     */
+    static class PollRecordingClient extends BitcoinClient {
+        final List<CompletableFuture<?>> polls = new CopyOnWriteArrayList<>()
+
+        PollRecordingClient(URI server) {
+            super(REGTEST, server, "", "")
+        }
+
+        @Override
+        <R> CompletableFuture<R> sendAsync(String method, Class<R> resultType, Object... params) {
+            CompletableFuture<R> f = super.sendAsync(method, resultType, params)
+            polls.add(f)
+            return f
+        }
+    }
+
+    /**
+     * Minimal server with a block height. Its {@code waitforblockheight} returns when a block is mined
+     * or after a (shortened) timeout.
+     */
+    static class FakeBitcoinService implements JsonRpcService {
+        final AtomicInteger calls = new AtomicInteger()
+        final AtomicInteger getBlockCountCalls = new AtomicInteger()
+        volatile int warmUpCalls = 0
+        volatile boolean supportsWaitForBlockHeight = true
+        private int height = 0
+
+        synchronized void mineBlock() {
+            height++
+            notifyAll()
+        }
+
+        @Override
+        <RSLT> CompletableFuture<JsonRpcResponse<RSLT>> call(JsonRpcRequest req) {
+            if (calls.incrementAndGet() <= warmUpCalls) {
+                return CompletableFuture.completedFuture(new JsonRpcResponse<RSLT>(req, new JsonRpcError(-28, "Loading block index...", null)))
+            }
+            switch (req.method) {
+                case "getblockcount":
+                    getBlockCountCalls.incrementAndGet()
+                    return CompletableFuture.completedFuture(new JsonRpcResponse<RSLT>(req, (RSLT) currentHeight()))
+                case "waitforblockheight":
+                    if (supportsWaitForBlockHeight) {
+                        return CompletableFuture.completedFuture(new JsonRpcResponse<RSLT>(req, (RSLT) [hash: "00", height: waitFor((Integer) req.params[0])]))
+                    }
+                default:
+                    return CompletableFuture.completedFuture(new JsonRpcResponse<RSLT>(req, JsonRpcError.of(JsonRpcError.Error.METHOD_NOT_FOUND)))
+            }
+        }
+
+        private synchronized int currentHeight() {
+            return height
+        }
+
+        private synchronized int waitFor(int target) {
+            long deadline = System.currentTimeMillis() + 500
+            while (height < target && System.currentTimeMillis() < deadline) {
+                wait(50)
+            }
+            return height
+        }
+
+        @Override
+        void close() {}
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc.introspection
+
+import spock.lang.Specification
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Test of BlockingExecutor
+ */
+class BlockingExecutorSpec extends Specification {
+    def "no more than maxConcurrency tasks run at once"() {
+        given:
+        def executor = new BlockingExecutor(2)
+        def running = new AtomicInteger()
+        def maxRunning = new AtomicInteger()
+        def done = new CountDownLatch(10)
+
+        when:
+        10.times {
+            executor.execute {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max)
+                Thread.sleep(20)
+                running.decrementAndGet()
+                done.countDown()
+            }
+        }
+
+        then:
+        done.await(10, TimeUnit.SECONDS)
+        maxRunning.get() == 2
+    }
+
+    def "tasks run on virtual threads when supported"() {
+        given:
+        def executor = new BlockingExecutor(1)
+        def latch = new CountDownLatch(1)
+        boolean virtual = false
+
+        when:
+        executor.execute {
+            virtual = Thread.currentThread().isVirtual()
+            latch.countDown()
+        }
+
+        then:
+        latch.await(10, TimeUnit.SECONDS)
+        executor.isVirtual()
+        virtual
+    }
+
+    def "maxConcurrency must be positive"() {
+        when:
+        new BlockingExecutor(0)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc.introspection
+
+import org.consensusj.jsonrpc.JsonRpcError
+import org.consensusj.jsonrpc.JsonRpcRequest
+import org.consensusj.jsonrpc.JsonRpcResponse
+import org.consensusj.jsonrpc.JsonRpcShutdownService
+import org.consensusj.jsonrpc.introspection.sample.MathService
+import org.consensusj.jsonrpc.introspection.sample.MathServiceDispatcher
+import org.consensusj.jsonrpc.services.EchoJsonRpcService
+import org.consensusj.jsonrpc.services.EchoJsonRpcServiceDispatcher
+import spock.lang.Specification
+
+/**
+ * Test of dispatchers generated by consensusj-jsonrpc-processor and of ParamConverters
+ */
+class GeneratedDispatcherSpec extends Specification {
+
+    def "generated dispatchers contain the JSON-RPC methods of the service"() {
+        expect:
+        new MathServiceDispatcher().methodNames() == ["add", "subtract"] as Set
+        new EchoJsonRpcServiceDispatcher().methodNames() == ["echo", "help", "stop"] as Set
+    }
+
+    def "generated dispatcher calls the service method"() {
+        given:
+        def dispatcher = new MathServiceDispatcher().dispatcher(new MathService(), "subtract")
+
+        expect:
+        !dispatcher.isBlocking()
+        dispatcher.invoke([5, 3]).get() == 2
+    }
+
+    def "generated dispatcher returns null for unknown and framework methods"() {
+        given:
+        def dispatcher = new MathServiceDispatcher()
+        def service = new MathService()
+
+        expect:
+        dispatcher.dispatcher(service, method) == null
+
+        where:
+        method << ["multiply", "call", "callBatch", "close", "result"]
+    }
+
+    def "service with a generated dispatcher does not use reflection"() {
+        given:
+        def service = new EchoJsonRpcService(new JsonRpcShutdownService.NoopShutdownService())
+
+        expect:
+        service.getMethod("echo") == null
+        service.getDispatcher("echo") != null
+        service.getDispatcher("echo").is(service.getDispatcher("echo"))
+        service.getDispatcher("nosuchmethod") == null
+    }
+
+    def "service with a generated dispatcher maps dispatch errors to JSON-RPC errors"() {
+        given:
+        def service = new MathService()
+
+        when:
+        JsonRpcResponse<Object> response = service.call(new JsonRpcRequest(method, params)).get()
+
+        then:
+        response.error.code == error.code
+
+        where:
+        method      | params        || error
+        "add"       | [1, 2, 3]     || JsonRpcError.Error.INVALID_PARAMS
+        "add"       | ["1", "2"]    || JsonRpcError.Error.INVALID_PARAMS
+        "call"      | []            || JsonRpcError.Error.METHOD_NOT_FOUND
+        "multiply"  | [1, 2]        || JsonRpcError.Error.METHOD_NOT_FOUND
+    }
+
+    def "reference params are checked and omitted params are null"() {
+        expect:
+        ParamConverters.ref(["a"], 0, String, "m") == "a"
+        ParamConverters.ref(["a"], 1, String, "m") == null
+        ParamConverters.ref([null], 0, String, "m") == null
+
+        when:
+        ParamConverters.ref([1], 0, String, "m")
+
+        then:
+        IllegalArgumentException e = thrown()
+        e.message == "argument type mismatch for parameter 0 of m"
+    }
+
+    def "primitive params are widened like Method.invoke"() {
+        expect:
+        ParamConverters.toLong([7], 0, "m") == 7L
+        ParamConverters.toDouble([7], 0, "m") == 7.0d
+        ParamConverters.toInt([(char) 'A'], 0, "m") == 65
+        ParamConverters.toShort([(byte) 1], 0, "m") == (short) 1
+        ParamConverters.toBoolean([true], 0, "m")
+    }
+
+    def "invalid primitive params throw IllegalArgumentException"() {
+        when:
+        converter.call()
+
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        converter << [
+                { -> ParamConverters.toInt([7L], 0, "m") },
+                { -> ParamConverters.toInt([1.5d], 0, "m") },
+                { -> ParamConverters.toInt([], 0, "m") },
+                { -> ParamConverters.toInt([null], 0, "m") },
+                { -> ParamConverters.toShort([(char) 'A'], 0, "m") },
+                { -> ParamConverters.toBoolean([1], 0, "m") },
+                { -> ParamConverters.checkArity([1, 2], 1) }
+        ]
+    }
+}
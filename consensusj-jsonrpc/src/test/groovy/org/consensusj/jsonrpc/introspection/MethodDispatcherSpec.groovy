@@ -0,0 +1,204 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc.introspection
+
+import com.fasterxml.jackson.databind.node.NullNode
+import org.consensusj.jsonrpc.JsonRpcError
+import org.consensusj.jsonrpc.JsonRpcRequest
+import org.consensusj.jsonrpc.JsonRpcResponse
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+
+/**
+ * Test of MethodDispatcher and dispatching via JsonRpcServiceWrapper
+ */
+class MethodDispatcherSpec extends Specification {
+    static final Map methods = JsonRpcServiceWrapper.reflect(DispatchTestService)
+
+    def "omitted trailing params are passed as null"() {
+        given:
+        def dispatcher = MethodDispatcher.of(methods.get("optional"), new DispatchTestService())
+
+        expect:
+        dispatcher.invoke(["a"]).get() == "a:null"
+        dispatcher.invoke(["a", "b"]).get() == "a:b"
+    }
+
+    def "Integer param is widened for long parameter"() {
+        given:
+        def dispatcher = MethodDispatcher.of(methods.get("square"), new DispatchTestService())
+
+        expect:
+        dispatcher.invoke([7]).get() == 49L
+        dispatcher.invoke([7L]).get() == 49L
+    }
+
+    def "invalid arguments throw IllegalArgumentException"() {
+        given:
+        def dispatcher = MethodDispatcher.of(methods.get("square"), new DispatchTestService())
+
+        when:
+        dispatcher.invoke(params)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        params << [[1, 2], ["seven"], [1.5d], []]
+    }
+
+    def "exceptions thrown by the method are not wrapped"() {
+        given:
+        def dispatcher = MethodDispatcher.of(methods.get("fail"), new DispatchTestService())
+
+        when:
+        dispatcher.invoke([])
+
+        then:
+        thrown(UnsupportedOperationException)
+    }
+
+    def "service wrapper maps dispatch errors to JSON-RPC errors"() {
+        given:
+        def service = new DelegatingJsonRpcService(methods, new DispatchTestService())
+
+        when:
+        JsonRpcResponse<Object> response = service.call(new JsonRpcRequest(method, params)).get()
+
+        then:
+        response.error.code == expectedError.code
+
+        where:
+        method    | params     | expectedError
+        "square"  | [1, 2]     | JsonRpcError.Error.INVALID_PARAMS
+        "square"  | ["seven"]  | JsonRpcError.Error.INVALID_PARAMS
+        "missing" | []         | JsonRpcError.Error.METHOD_NOT_FOUND
+        "fail"    | []         | JsonRpcError.Error.SERVER_EXCEPTION
+    }
+
+    def "service wrapper reuses dispatchers"() {
+        given:
+        def service = new DelegatingJsonRpcService(methods, new DispatchTestService())
+
+        expect:
+        service.getDispatcher("square").is(service.getDispatcher("square"))
+        service.getDispatcher("missing") == null
+        service.call(new JsonRpcRequest("square", [3])).get().result == 9L
+    }
+
+    def "reflect includes blocking methods with plain return types"() {
+        expect:
+        methods.containsKey("blockingSquare")
+        methods.containsKey("blockingVoid")
+        !methods.containsKey("notExposed")
+        !methods.containsKey("hashCode")
+    }
+
+    def "blocking methods are dispatched on the blocking executor"() {
+        given:
+        def service = new DelegatingJsonRpcService(methods, new DispatchTestService())
+
+        when:
+        JsonRpcResponse<Object> response = service.call(new JsonRpcRequest(method, params)).get()
+
+        then:
+        service.getDispatcher(method).isBlocking()
+        response.error == null
+        response.result == expectedResult
+
+        where:
+        method             | params | expectedResult
+        "blockingSquare"   | [4]    | 16L
+        "blockingThread"   | []     | true
+        "blockingFuture"   | []     | true
+    }
+
+    def "blocking void method has null result"() {
+        given:
+        def service = new DelegatingJsonRpcService(methods, new DispatchTestService())
+
+        when:
+        JsonRpcResponse<Object> response = service.call(new JsonRpcRequest("blockingVoid")).get()
+
+        then:
+        response.error == null
+        response.result instanceof NullNode
+    }
+
+    def "blocking method errors are mapped to JSON-RPC errors"() {
+        given:
+        def service = new DelegatingJsonRpcService(methods, new DispatchTestService())
+
+        when:
+        JsonRpcResponse<Object> response = service.call(new JsonRpcRequest(method, params)).get()
+
+        then:
+        response.error.code == expectedError.code
+
+        where:
+        method           | params    | expectedError
+        "blockingSquare" | ["seven"] | JsonRpcError.Error.INVALID_PARAMS
+        "blockingFail"   | []        | JsonRpcError.Error.SERVER_EXCEPTION
+    }
+
+    def "non-blocking methods are not blocking"() {
+        expect:
+        !MethodDispatcher.of(methods.get("square"), new DispatchTestService()).isBlocking()
+    }
+
+    static class DispatchTestService {
+        CompletableFuture<String> optional(String a, String b) {
+            return CompletableFuture.completedFuture(a + ":" + b)
+        }
+
+        CompletableFuture<Long> square(long n) {
+            return CompletableFuture.completedFuture(n * n)
+        }
+
+        CompletableFuture<Void> fail() {
+            throw new UnsupportedOperationException("fail")
+        }
+
+        @Blocking
+        long blockingSquare(long n) {
+            return n * n
+        }
+
+        @Blocking
+        boolean blockingThread() {
+            return Thread.currentThread().getName().startsWith("jsonrpc-blocking-")
+        }
+
+        @Blocking
+        CompletableFuture<Boolean> blockingFuture() {
+            return CompletableFuture.completedFuture(blockingThread())
+        }
+
+        @Blocking
+        void blockingVoid() {
+        }
+
+        @Blocking
+        String blockingFail() {
+            throw new IllegalStateException("fail")
+        }
+
+        String notExposed() {
+            return "not a JSON-RPC method"
+        }
+    }
+}
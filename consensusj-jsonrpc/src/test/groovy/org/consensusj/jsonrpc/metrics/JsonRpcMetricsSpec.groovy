@@ -0,0 +1,110 @@
+/*
+ * Copyright 2014-2026 ConsensusJ Developers.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.consensusj.jsonrpc.metrics
+
+import org.consensusj.jsonrpc.DefaultRpcClient
+import org.consensusj.jsonrpc.JsonRpcClientJavaNet
+import org.consensusj.jsonrpc.JsonRpcError
+import org.consensusj.jsonrpc.JsonRpcMessage
+import org.consensusj.jsonrpc.JsonRpcTransport
+import org.consensusj.jsonrpc.TestJsonRpcHttpServer
+import org.consensusj.jsonrpc.introspection.sample.MathService
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.lang.management.ManagementFactory
+
+/**
+ * Test {@link Histogram}, {@link InMemoryJsonRpcMetrics}, and {@link JmxJsonRpcMetrics}
+ */
+class JsonRpcMetricsSpec extends Specification {
+    @Shared @AutoCleanup
+    TestJsonRpcHttpServer server = new TestJsonRpcHttpServer(new MathService())
+
+    def "histogram bucket upper bounds are within 12.5% of values"() {
+        expect:
+        Histogram.upperBound(Histogram.indexFor(value)) >= value
+        Histogram.upperBound(Histogram.indexFor(value)) <= value * 1.125
+
+        where:
+        value << [0L, 1L, 7L, 8L, 15L, 16L, 17L, 1000L, 123_456_789L, Long.MAX_VALUE >> 4]
+    }
+
+    def "histogram percentiles"() {
+        given:
+        def histogram = new Histogram()
+
+        when:
+        (1..1000).each { histogram.record(it * 1000L) }
+
+        then:
+        histogram.count == 1000
+        histogram.max == 1_000_000
+        histogram.mean == 500_500
+        Math.abs(histogram.getPercentile(0.5) - 500_000) <= 500_000 * 0.125
+        Math.abs(histogram.getPercentile(0.99) - 990_000) <= 990_000 * 0.125
+        histogram.getPercentile(1.0) == 1_000_000
+    }
+
+    def "instrumented client records latency, sizes, and errors by method"() {
+        given:
+        def metrics = new InMemoryJsonRpcMetrics()
+        DefaultRpcClient.TransportFactory factory = { m -> new JsonRpcClientJavaNet(m, JsonRpcTransport.getDefaultSSLContext(), server.URI, "", "", metrics) }
+        def client = new DefaultRpcClient(factory.instrumented(metrics), JsonRpcMessage.Version.V2)
+
+        when:
+        (1..5).each { client.send("add", Integer.class, it, 1) }
+        client.sendRequestForResponseAsync(client.buildJsonRequest("nosuchmethod")).join()
+
+        then:
+        def add = metrics.methods["add"]
+        add.latencyNanos.count == 5
+        add.latencyNanos.max > 0
+        add.inFlight == 0
+        add.requestBytes.count == 5
+        add.responseBytes.count == 5
+        add.responseBytes.mean > 0
+        add.errorCounts.isEmpty()
+        metrics.methods["nosuchmethod"].errorCounts == [(JsonRpcError.Error.METHOD_NOT_FOUND.code): 1L]
+
+        cleanup:
+        client.close()
+    }
+
+    def "JMX metrics are published as MXBeans"() {
+        given:
+        def metrics = new JmxJsonRpcMetrics("test-client")
+        def client = new DefaultRpcClient(DefaultRpcClient.defaultTransportFactory(JsonRpcTransport.getDefaultSSLContext(), server.URI, "", "").instrumented(metrics), JsonRpcMessage.Version.V2)
+        def mbeanServer = ManagementFactory.getPlatformMBeanServer()
+
+        when:
+        (1..3).each { client.send("add", Integer.class, it, 1) }
+
+        then:
+        mbeanServer.getAttribute(metrics.objectNameFor("add"), "Count") == 3L
+        mbeanServer.getAttribute(metrics.objectNameFor("add"), "InFlight") == 0L
+
+        when:
+        metrics.close()
+
+        then:
+        !mbeanServer.isRegistered(metrics.objectNameFor("add"))
+
+        cleanup:
+        client.close()
+    }
+}